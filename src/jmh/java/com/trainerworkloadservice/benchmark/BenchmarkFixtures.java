@@ -0,0 +1,58 @@
+package com.trainerworkloadservice.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadYears;
+import com.trainerworkloadservice.TrainerWorkload.domain.YearWorkload;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.Document;
+import org.slf4j.LoggerFactory;
+
+final class BenchmarkFixtures {
+	static final String USERNAME = "john.doe";
+	static final int LAST_YEAR = 2024;
+
+	private BenchmarkFixtures() {
+	}
+
+	// Console logging would dominate every measurement, so benchmarks only keep warnings
+	static void quietLogging() {
+		((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+	}
+
+	static ProcessTrainerWorkloadCommand command(int year, int month) {
+		return ProcessTrainerWorkloadCommand.builder().username(USERNAME).firstName("John").lastName("Doe")
+		        .isActive(true).trainingDate(LocalDate.of(year, month, 15)).trainingDuration(60)
+		        .actionType(ActionType.ADD).transactionId("benchmark").build();
+	}
+
+	static TrainerWorkload trainerWithHistory(int historyYears) {
+		WorkloadYears years = new WorkloadYears();
+		for (int year = LAST_YEAR - historyYears + 1; year <= LAST_YEAR; year++) {
+			YearWorkload yearWorkload = years.getOrCreate(year);
+			for (int month = 1; month <= YearWorkload.MONTHS_IN_YEAR; month++) {
+				yearWorkload.setDuration(month, month * 30);
+			}
+		}
+		return TrainerWorkload.builder().id("64b7f0c2a1b2c3d4e5f60718").username(USERNAME).firstName("John")
+		        .lastName("Doe").isActive(true).years(years).build();
+	}
+
+	static Document documentWithHistory(int historyYears) {
+		List<Document> years = new ArrayList<>(historyYears);
+		for (int year = LAST_YEAR - historyYears + 1; year <= LAST_YEAR; year++) {
+			List<Document> months = new ArrayList<>(YearWorkload.MONTHS_IN_YEAR);
+			for (int month = 1; month <= YearWorkload.MONTHS_IN_YEAR; month++) {
+				months.add(new Document("month", month).append("summaryDuration", month * 30));
+			}
+			years.add(new Document("year", year).append("months", months));
+		}
+		return new Document("_id", "64b7f0c2a1b2c3d4e5f60718").append("username", USERNAME)
+		        .append("firstName", "John").append("lastName", "Doe").append("isActive", true).append("years", years);
+	}
+}
@@ -0,0 +1,57 @@
+package com.trainerworkloadservice.benchmark;
+
+import com.trainerworkloadservice.configuration.security.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// The per-request work JwtRequestFilter does for an authenticated call
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+	private static final String SECRET = "benchmark_secret_key_which_is_at_least_32_characters";
+
+	private JwtTokenUtil jwtTokenUtil;
+	private JwtTokenUtil uncachedJwtTokenUtil;
+	private String token;
+
+	@Setup
+	public void setup() {
+		BenchmarkFixtures.quietLogging();
+		jwtTokenUtil = new JwtTokenUtil(SECRET, 10_000);
+		uncachedJwtTokenUtil = new JwtTokenUtil(SECRET, 0);
+
+		token = Jwts.builder().setSubject("gym-service").setIssuedAt(new Date())
+		        .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+		        .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8))).compact();
+	}
+
+	@Benchmark
+	public Optional<Claims> validateAndGetClaims() {
+		return jwtTokenUtil.validateAndGetClaims(token);
+	}
+
+	// Every call verifies the signature, i.e. the cost of the first request with a new token
+	@Benchmark
+	public Optional<Claims> validateAndGetClaimsUncached() {
+		return uncachedJwtTokenUtil.validateAndGetClaims(token);
+	}
+}
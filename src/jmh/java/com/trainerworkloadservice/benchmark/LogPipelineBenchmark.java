@@ -0,0 +1,106 @@
+package com.trainerworkloadservice.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.core.joran.spi.JoranException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+// Request threads logging one INFO line each through the appender pipelines of logback.xml and logback-dev.xml.
+// Events are written to /dev/null, so the numbers are the cost paid by the caller rather than by the terminal.
+// syncJsonCallerData is the former logback.xml and syncPattern the former logback-dev.xml; asyncJson and
+// asyncPattern are the current ones.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LogPipelineBenchmark {
+	private static final String PATTERN_ENCODER = """
+	        <encoder class="ch.qos.logback.classic.encoder.PatternLayoutEncoder">
+	            <pattern>%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} [%X{transactionId:--}] - %msg%n</pattern>
+	        </encoder>""";
+	private static final String JSON_ENCODER = """
+	        <encoder class="net.logstash.logback.encoder.LoggingEventCompositeJsonEncoder">
+	            <providers>
+	                <timestamp/><loggerName/><logLevel/>%s<threadName/><mdc/><stackTrace/><message/>
+	            </providers>
+	        </encoder>""";
+
+	@Param({"syncPattern", "asyncPattern", "syncJsonCallerData", "syncJson", "asyncJson"})
+	private String pipeline;
+
+	private LoggerContext loggerContext;
+	private Logger logger;
+
+	@Setup(Level.Trial)
+	public void setup() throws JoranException {
+		String encoder = switch (pipeline) {
+			case "syncPattern", "asyncPattern" -> PATTERN_ENCODER;
+			case "syncJsonCallerData" -> JSON_ENCODER.formatted("<callerData/>");
+			default -> JSON_ENCODER.formatted("");
+		};
+
+		loggerContext = new LoggerContext();
+		JoranConfigurator configurator = new JoranConfigurator();
+		configurator.setContext(loggerContext);
+		configurator.doConfigure(new ByteArrayInputStream(
+		        configuration(encoder, pipeline.startsWith("async")).getBytes(StandardCharsets.UTF_8)));
+		logger = loggerContext.getLogger(LogPipelineBenchmark.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		loggerContext.stop();
+	}
+
+	@Benchmark
+	public void logRequestLine(RequestThread requestThread) {
+		logger.info("Trainer workload processed successfully for username: {}, action: {}", BenchmarkFixtures.USERNAME,
+		        "ADD");
+	}
+
+	private static String configuration(String encoder, boolean async) {
+		String sink = """
+		        <appender name="SINK" class="ch.qos.logback.core.FileAppender">
+		            <file>/dev/null</file>
+		            %s
+		        </appender>""".formatted(encoder);
+		String asyncAppender = """
+		        <appender name="ASYNC" class="ch.qos.logback.classic.AsyncAppender">
+		            <queueSize>8192</queueSize>
+		            <discardingThreshold>0</discardingThreshold>
+		            <includeCallerData>false</includeCallerData>
+		            <appender-ref ref="SINK"/>
+		        </appender>""";
+		return "<configuration>" + sink + (async ? asyncAppender : "") + "<root level=\"info\"><appender-ref ref=\""
+		        + (async ? "ASYNC" : "SINK") + "\"/></root></configuration>";
+	}
+
+	@State(Scope.Thread)
+	public static class RequestThread {
+		@Setup(Level.Trial)
+		public void setup() {
+			MDC.put("transactionId", "5f1c1a4e-6f0b-4c1e-9d0a-2b1f4c3e7a10");
+		}
+	}
+}
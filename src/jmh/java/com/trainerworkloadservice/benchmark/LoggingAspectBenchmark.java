@@ -0,0 +1,138 @@
+package com.trainerworkloadservice.benchmark;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller.TrainerWorkloadController;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.TrainerMonthlyWorkloadResponse;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainerMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadRange;
+import com.trainerworkloadservice.aspect.LoggingAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Proxy;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+// Controller call through the logging aspect, compared with the eager logging the aspect used to do
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+	private TrainerWorkloadController plainController;
+	private TrainerWorkloadController loggedController;
+	private TrainerWorkloadController eagerlyLoggedController;
+
+	@Setup
+	public void setup() {
+		BenchmarkFixtures.quietLogging();
+		// A request without X-Transaction-ID, bound the way DispatcherServlet binds it
+		HttpServletRequest request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+		        new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> null);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		TrainerMonthlyWorkload monthlyWorkload = TrainerMonthlyWorkload.builder().username(BenchmarkFixtures.USERNAME)
+		        .firstName("John").lastName("Doe").isActive(true).year(BenchmarkFixtures.LAST_YEAR).month(6)
+		        .summaryDuration(120).build();
+		plainController = new TrainerWorkloadController(command -> {
+		}, commands -> null, new FixedMonthlyWorkloadUseCase(monthlyWorkload), (query, consumer) -> 0, null, null);
+		loggedController = proxy(plainController, new LoggingAspect(new SimpleMeterRegistry(), 0.01));
+		eagerlyLoggedController = proxy(plainController, new EagerLoggingAspect());
+	}
+
+	@Benchmark
+	public TrainerMonthlyWorkloadResponse withoutAspect() {
+		return call(plainController);
+	}
+
+	@Benchmark
+	public TrainerMonthlyWorkloadResponse withLoggingAspect() {
+		return call(loggedController);
+	}
+
+	@Benchmark
+	public TrainerMonthlyWorkloadResponse withEagerLoggingAspect() {
+		return call(eagerlyLoggedController);
+	}
+
+	private static TrainerMonthlyWorkloadResponse call(TrainerWorkloadController controller) {
+		return controller.getTrainerMonthlyWorkload(BenchmarkFixtures.USERNAME, BenchmarkFixtures.LAST_YEAR, 6,
+		        "benchmark");
+	}
+
+	private static TrainerWorkloadController proxy(TrainerWorkloadController target, Object aspect) {
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.setProxyTargetClass(true);
+		factory.addAspect(aspect);
+		return factory.getProxy();
+	}
+
+	// What LoggingAspect did before: arguments rendered and a transaction id generated on every call
+	@Aspect
+	@Slf4j
+	public static class EagerLoggingAspect {
+		@Around("execution(* com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller.*.*(..))")
+		public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
+			long start = System.currentTimeMillis();
+			String transactionId = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
+			        .getRequest().getHeader("X-Transaction-ID");
+			if (transactionId == null || transactionId.isEmpty()) {
+				transactionId = UUID.randomUUID().toString();
+			}
+
+			log.info("Transaction [{}]: Started execution of {}.{}() with arguments: {}", transactionId,
+			        joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName(),
+			        Arrays.toString(joinPoint.getArgs()));
+			Object result = joinPoint.proceed();
+			log.info("Transaction [{}]: Completed execution of {}.{}() in {} ms with result: {}", transactionId,
+			        joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName(),
+			        System.currentTimeMillis() - start, result);
+			return result;
+		}
+	}
+
+	private record FixedMonthlyWorkloadUseCase(TrainerMonthlyWorkload monthlyWorkload)
+	        implements LoadTrainerMonthlyWorkloadUseCase {
+		@Override
+		public TrainerMonthlyWorkload loadTrainerMonthlyWorkload(String username, int year, int month,
+		        String transactionId) {
+			return monthlyWorkload;
+		}
+
+		@Override
+		public TrainerWorkloadRange loadTrainerYearlyWorkload(String username, int year, String transactionId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public TrainerWorkloadRange loadTrainerWorkloadRange(String username, YearMonth from, YearMonth to,
+		        String transactionId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public TrainerWorkloadRange loadTrainerWorkloadHistory(String username, String transactionId) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
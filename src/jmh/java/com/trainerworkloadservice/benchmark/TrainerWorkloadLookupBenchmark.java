@@ -0,0 +1,78 @@
+package com.trainerworkloadservice.benchmark;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadReadConverter;
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadWriteConverter;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadMonth;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Month lookup and document (de)serialization cost as a trainer's history grows
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrainerWorkloadLookupBenchmark {
+	@Param({"1", "10", "50"})
+	private int historyYears;
+
+	private final TrainerWorkloadReadConverter readConverter = new TrainerWorkloadReadConverter();
+	private final TrainerWorkloadWriteConverter writeConverter = new TrainerWorkloadWriteConverter();
+
+	private TrainerWorkload trainerWorkload;
+	private Document document;
+	private int oldestYear;
+
+	@Setup
+	public void setup() {
+		trainerWorkload = BenchmarkFixtures.trainerWithHistory(historyYears);
+		document = BenchmarkFixtures.documentWithHistory(historyYears);
+		oldestYear = BenchmarkFixtures.LAST_YEAR - historyYears + 1;
+	}
+
+	@Benchmark
+	public int findMonthlyDuration() {
+		return trainerWorkload.getYears().getDuration(oldestYear, 6);
+	}
+
+	@Benchmark
+	public int findMissingMonthlyDuration() {
+		return trainerWorkload.getYears().getDuration(BenchmarkFixtures.LAST_YEAR + 1, 6);
+	}
+
+	@Benchmark
+	public List<WorkloadMonth> findYearlyRange() {
+		return trainerWorkload.getYears().monthsBetween(YearMonth.of(oldestYear, 1), YearMonth.of(oldestYear, 12));
+	}
+
+	@Benchmark
+	public List<WorkloadMonth> findHistory() {
+		return trainerWorkload.getYears().monthsBetween(YearMonth.of(oldestYear, 1),
+		        YearMonth.of(BenchmarkFixtures.LAST_YEAR, 12));
+	}
+
+	@Benchmark
+	public TrainerWorkload readDocument() {
+		return readConverter.convert(document);
+	}
+
+	@Benchmark
+	public Document writeDocument() {
+		return writeConverter.convert(trainerWorkload);
+	}
+}
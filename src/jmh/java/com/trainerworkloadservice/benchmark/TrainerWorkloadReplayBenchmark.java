@@ -0,0 +1,156 @@
+package com.trainerworkloadservice.benchmark;
+
+import com.trainerworkloadservice.TrainerWorkload.application.TrainerWorkloadJournalService;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerWorkloadEventsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.TrainerWorkloadSnapshotPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Journal replay against an in-memory event log, reported in events/s. Mongo cursor and bulk write cost is left
+// out, so this is the ceiling the fold itself allows at each partition count.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrainerWorkloadReplayBenchmark {
+	private static final int TRAINERS = 5_000;
+	private static final int EVENTS_PER_TRAINER = 40;
+
+	@Param({"1", "2", "4"})
+	private int parallelism;
+
+	private TrainerWorkloadJournalService journalService;
+	private final LongAdder replayed = new LongAdder();
+
+	@Setup
+	public void setup() {
+		BenchmarkFixtures.quietLogging();
+		InMemoryJournal journal = new InMemoryJournal();
+		journalService = new TrainerWorkloadJournalService(journal, journal,
+		        (fromUsername, batchSize, consumer) -> 0,
+		        trainerWorkloads -> replayed.add(trainerWorkloads.size()), parallelism, Duration.ZERO);
+	}
+
+	@TearDown
+	public void tearDown() {
+		journalService.destroy();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TRAINERS * EVENTS_PER_TRAINER)
+	public long rebuildTrainerWorkloads() {
+		return journalService.rebuildTrainerWorkloads().getEvents();
+	}
+
+	// Events sorted by trainer and recording time, as the journal index returns them
+	private static final class InMemoryJournal implements LoadTrainerWorkloadEventsPort, TrainerWorkloadSnapshotPort {
+		private final List<String> usernames = new ArrayList<>(TRAINERS);
+		private final List<TrainerWorkloadEvent> events = new ArrayList<>(TRAINERS * EVENTS_PER_TRAINER);
+		private final Random random = new Random(42);
+
+		private InMemoryJournal() {
+			Instant recordedAt = Instant.parse("2024-01-01T00:00:00Z");
+			for (int trainer = 0; trainer < TRAINERS; trainer++) {
+				String username = String.format("trainer.%05d", trainer);
+				usernames.add(username);
+				for (int event = 0; event < EVENTS_PER_TRAINER; event++) {
+					int duration = random.nextInt(120) - 30;
+					events.add(TrainerWorkloadEvent.builder().username(username).firstName("John").lastName("Doe")
+					        .isActive(true).year(BenchmarkFixtures.LAST_YEAR - random.nextInt(5))
+					        .month(1 + random.nextInt(12)).duration(duration)
+					        .actionType(duration < 0 ? ActionType.DELETE : ActionType.ADD)
+					        .recordedAt(recordedAt.plusSeconds(event)).build());
+				}
+			}
+		}
+
+		@Override
+		public Stream<TrainerWorkloadEvent> streamEvents(String fromUsername, String toUsername, Instant after,
+		        Instant until) {
+			return events.subList(indexOf(fromUsername, 0), indexOf(toUsername, events.size())).stream();
+		}
+
+		@Override
+		public List<String> sampleUsernames(int size) {
+			List<String> sample = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				sample.add(usernames.get(random.nextInt(usernames.size())));
+			}
+			return sample;
+		}
+
+		@Override
+		public Instant loadSnapshotTime() {
+			return null;
+		}
+
+		@Override
+		public Stream<TrainerWorkloadSnapshot> streamSnapshots(String fromUsername, String toUsername) {
+			return Stream.empty();
+		}
+
+		@Override
+		public void saveSnapshots(List<TrainerWorkloadSnapshot> snapshots) {
+		}
+
+		@Override
+		public void saveSnapshotTime(Instant snapshotTime) {
+		}
+
+		@Override
+		public boolean tryLeaseSnapshot(Duration lease) {
+			return true;
+		}
+
+		// Every event is newer than the (empty) baseline
+		@Override
+		public Instant loadBaselineTime() {
+			return Instant.EPOCH;
+		}
+
+		@Override
+		public void saveBaselineTime(Instant baselineTime) {
+		}
+
+		private int indexOf(String username, int unbounded) {
+			if (username == null) {
+				return unbounded;
+			}
+			int low = 0;
+			int high = events.size();
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (events.get(middle).getUsername().compareTo(username) < 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+	}
+}
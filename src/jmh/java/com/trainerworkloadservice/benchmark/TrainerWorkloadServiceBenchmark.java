@@ -0,0 +1,97 @@
+package com.trainerworkloadservice.benchmark;
+
+import com.trainerworkloadservice.TrainerWorkload.application.ConflictRetryPolicy;
+import com.trainerworkloadservice.TrainerWorkload.application.TrainerWorkloadService;
+import com.trainerworkloadservice.TrainerWorkload.application.TransactionDeduplicator;
+import com.trainerworkloadservice.TrainerWorkload.application.factory.TrainerWorkloadFactory;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ApplyTrainerWorkloadDeltaPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerMonthlyWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Service hot paths against in-memory ports, so only application-layer cost is measured
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrainerWorkloadServiceBenchmark {
+	@Param({"1", "10", "50"})
+	private int historyYears;
+
+	private TrainerWorkloadService trainerWorkloadService;
+	private ProcessTrainerWorkloadCommand[] commands;
+	private int next;
+
+	@Setup
+	public void setup() {
+		BenchmarkFixtures.quietLogging();
+		TrainerWorkload trainerWorkload = BenchmarkFixtures.trainerWithHistory(historyYears);
+		trainerWorkloadService = new TrainerWorkloadService(new InMemoryMonthlyWorkloadPort(trainerWorkload),
+		        username -> trainerWorkload, (usernames, isActive, year, month, consumer) -> 0,
+		        new InMemoryDeltaPort(trainerWorkload), new TrainerWorkloadFactory(), events -> {
+		        }, new ConflictRetryPolicy(1, Duration.ZERO, new SimpleMeterRegistry()),
+		        new TransactionDeduplicator(null, false, 0, Duration.ZERO, new SimpleMeterRegistry()),
+		        new SimpleMeterRegistry());
+		ProcessTrainerWorkloadCommand delete = BenchmarkFixtures.command(BenchmarkFixtures.LAST_YEAR, 6);
+		delete.setActionType(ActionType.DELETE);
+		commands = new ProcessTrainerWorkloadCommand[]{BenchmarkFixtures.command(BenchmarkFixtures.LAST_YEAR, 6),
+		        delete};
+	}
+
+	@Benchmark
+	public void processTrainerWorkload() {
+		// Alternating ADD and DELETE keeps the stored minutes stable across billions of invocations
+		trainerWorkloadService.processTrainerWorkload(commands[next ^= 1]);
+	}
+
+	@Benchmark
+	public TrainerMonthlyWorkload loadTrainerMonthlyWorkload() {
+		return trainerWorkloadService.loadTrainerMonthlyWorkload(BenchmarkFixtures.USERNAME,
+		        BenchmarkFixtures.LAST_YEAR - historyYears + 1, 6, "benchmark");
+	}
+
+	private record InMemoryMonthlyWorkloadPort(TrainerWorkload trainerWorkload)
+	        implements LoadTrainerMonthlyWorkloadPort {
+		@Override
+		public TrainerMonthlyWorkload findMonthlyWorkload(String username, int year, int month) {
+			return TrainerMonthlyWorkload.builder().username(username).firstName(trainerWorkload.getFirstName())
+			        .lastName(trainerWorkload.getLastName()).isActive(trainerWorkload.getIsActive()).year(year)
+			        .month(month).summaryDuration(trainerWorkload.getYears().getDuration(year, month)).build();
+		}
+	}
+
+	private record InMemoryDeltaPort(TrainerWorkload trainerWorkload) implements ApplyTrainerWorkloadDeltaPort {
+		@Override
+		public void applyDelta(TrainerWorkloadDelta delta) {
+			trainerWorkload.getYears().getOrCreate(delta.getYear()).addDuration(delta.getMonth(), delta.getDuration());
+		}
+
+		@Override
+		public Map<String, String> applyDeltas(List<TrainerWorkloadDelta> deltas) {
+			deltas.forEach(this::applyDelta);
+			return Collections.emptyMap();
+		}
+	}
+}
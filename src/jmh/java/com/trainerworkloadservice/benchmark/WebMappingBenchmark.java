@@ -0,0 +1,49 @@
+package com.trainerworkloadservice.benchmark;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.TrainerWorkloadRequest;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.TrainerMonthlyWorkloadResponse;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebMappingBenchmark {
+	private TrainerWorkloadRequest request;
+	private TrainerMonthlyWorkload monthlyWorkload;
+
+	@Setup
+	public void setup() {
+		request = TrainerWorkloadRequest.builder().username(BenchmarkFixtures.USERNAME).firstName("John")
+		        .lastName("Doe").isActive(true).trainingDate(LocalDate.of(2024, 6, 15)).trainingDuration(60)
+		        .actionType(ActionType.ADD).build();
+		monthlyWorkload = TrainerMonthlyWorkload.builder().username(BenchmarkFixtures.USERNAME).firstName("John")
+		        .lastName("Doe").isActive(true).year(2024).month(6).summaryDuration(120).build();
+	}
+
+	@Benchmark
+	public ProcessTrainerWorkloadCommand requestToCommand() {
+		return request.toCommand("benchmark", "benchmark");
+	}
+
+	@Benchmark
+	public TrainerMonthlyWorkloadResponse responseForm() {
+		return TrainerMonthlyWorkloadResponse.form(monthlyWorkload);
+	}
+}
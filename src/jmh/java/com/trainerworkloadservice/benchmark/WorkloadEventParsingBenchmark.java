@@ -0,0 +1,95 @@
+package com.trainerworkloadservice.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadEventBatch;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.TrainerWorkloadRequest;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.WorkloadEventRequests;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Request body to validated commands, as the controller does it for each content type, per batch of events.
+// An event is about 150 bytes of JSON and 32 of protobuf.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkloadEventParsingBenchmark {
+	private static final TypeReference<List<TrainerWorkloadRequest>> REQUESTS = new TypeReference<>() {
+	};
+
+	@Param({"1", "100"})
+	private int batchSize;
+
+	private ObjectMapper objectMapper;
+	private Validator validator;
+	private byte[] json;
+	private byte[] protobuf;
+
+	@Setup
+	public void setup() throws IOException {
+		BenchmarkFixtures.quietLogging();
+		// Dates as ISO strings, as Spring Boot configures its ObjectMapper
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+		        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+		List<TrainerWorkloadRequest> requests = new ArrayList<>(batchSize);
+		WorkloadEventBatch.Builder batch = WorkloadEventBatch.newBuilder();
+		for (int i = 0; i < batchSize; i++) {
+			LocalDate trainingDate = LocalDate.of(BenchmarkFixtures.LAST_YEAR, 1 + i % 12, 15);
+			requests.add(TrainerWorkloadRequest.builder().username(BenchmarkFixtures.USERNAME + i).firstName("John")
+			        .lastName("Doe").isActive(true).trainingDate(trainingDate).trainingDuration(60)
+			        .actionType(ActionType.ADD).build());
+			batch.addEvents(WorkloadEvent.newBuilder().setUsername(BenchmarkFixtures.USERNAME + i)
+			        .setFirstName("John").setLastName("Doe").setIsActive(true)
+			        .setTrainingDate((int) trainingDate.toEpochDay()).setTrainingDuration(60)
+			        .setActionType(com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.ActionType.ADD));
+		}
+		json = objectMapper.writeValueAsBytes(requests);
+		protobuf = batch.build().toByteArray();
+	}
+
+	@Benchmark
+	public void json(Blackhole blackhole) throws IOException {
+		for (TrainerWorkloadRequest request : objectMapper.readValue(json, REQUESTS)) {
+			if (validator.validate(request).isEmpty()) {
+				blackhole.consume(request.toCommand("benchmark", "benchmark"));
+			}
+		}
+	}
+
+	@Benchmark
+	public void protobuf(Blackhole blackhole) throws IOException {
+		for (WorkloadEvent event : WorkloadEventBatch.parseFrom(protobuf).getEventsList()) {
+			if (WorkloadEventRequests.violations(event).isEmpty()) {
+				ProcessTrainerWorkloadCommand command = WorkloadEventRequests.toCommand(event, "benchmark", "benchmark");
+				blackhole.consume(command);
+			}
+		}
+	}
+}
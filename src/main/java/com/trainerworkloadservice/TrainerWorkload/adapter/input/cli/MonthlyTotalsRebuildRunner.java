@@ -0,0 +1,26 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.cli;
+
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.RebuildMonthlyTotalsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+// Started with --workload.monthly-totals.rebuild=true, backfills trainer_monthly_totals from trainer_workloads and
+// exits. Rows are merged in place, so the analytics endpoints of running instances keep answering meanwhile.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "workload.monthly-totals.rebuild", havingValue = "true")
+public class MonthlyTotalsRebuildRunner implements ApplicationRunner {
+	private final RebuildMonthlyTotalsUseCase rebuildMonthlyTotalsUseCase;
+	private final ApplicationContext applicationContext;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		rebuildMonthlyTotalsUseCase.rebuildMonthlyTotals();
+		System.exit(SpringApplication.exit(applicationContext, () -> 0));
+	}
+}
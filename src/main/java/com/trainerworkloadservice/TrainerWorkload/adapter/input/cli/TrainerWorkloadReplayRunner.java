@@ -0,0 +1,31 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.cli;
+
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ReplayTrainerWorkloadJournalUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadReplayResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+// Started with --workload.journal.replay=true, rebuilds trainer_workloads from the journal and exits instead of
+// serving traffic
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "workload.journal.replay", havingValue = "true")
+public class TrainerWorkloadReplayRunner implements ApplicationRunner {
+	private final ReplayTrainerWorkloadJournalUseCase replayTrainerWorkloadJournalUseCase;
+	private final ApplicationContext applicationContext;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		TrainerWorkloadReplayResult result = replayTrainerWorkloadJournalUseCase.rebuildTrainerWorkloads();
+		log.info("Journal replay finished: {} trainers, {} events, {} events/s", result.getTrainers(),
+		        result.getEvents(), result.eventsPerSecond());
+		System.exit(SpringApplication.exit(applicationContext, () -> 0));
+	}
+}
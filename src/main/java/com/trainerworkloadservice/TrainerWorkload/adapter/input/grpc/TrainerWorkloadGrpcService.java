@@ -0,0 +1,287 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.grpc;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.MonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.MonthlyWorkloadRequest;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.MonthlyWorkloadsRequest;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.TrainerWorkloadServiceGrpc;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadIngestError;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadIngestErrorType;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadIngestSummary;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.WorkloadEventRequests;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainerMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainersMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainersMonthlyWorkloadQuery;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.common.exception.BadRequestException;
+import com.trainerworkloadservice.common.exception.ConflictException;
+import com.trainerworkloadservice.common.exception.ForbiddenException;
+import com.trainerworkloadservice.common.exception.NotFoundException;
+import com.trainerworkloadservice.common.exception.ServiceUnavailableException;
+import com.trainerworkloadservice.common.exception.UnauthorizedException;
+import com.trainerworkloadservice.common.logging.TransactionIdServerInterceptor;
+import com.trainerworkloadservice.configuration.security.JwtServerInterceptor;
+import com.google.protobuf.Empty;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// The gRPC form of TrainerWorkloadController, served by GrpcServerConfig behind the transaction id and JWT
+// interceptors. Errors map to the status codes closest to the HTTP ones the controller answers with.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "workload.grpc.enabled", havingValue = "true")
+public class TrainerWorkloadGrpcService extends TrainerWorkloadServiceGrpc.TrainerWorkloadServiceImplBase {
+	// Keeps the summary of a long stream of bad events well under the default 4 MB message limit
+	private static final int MAX_LISTED_ERRORS = 1000;
+
+	private static final long READY_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final ProcessTrainerWorkloadUseCase processTrainerWorkloadUseCase;
+	private final LoadTrainerMonthlyWorkloadUseCase loadTrainerMonthlyWorkloadUseCase;
+	private final LoadTrainersMonthlyWorkloadUseCase loadTrainersMonthlyWorkloadUseCase;
+
+	@Override
+	public void processTrainerWorkload(WorkloadEvent event, StreamObserver<Empty> responseObserver) {
+		List<String> violations = WorkloadEventRequests.violations(event);
+		if (!violations.isEmpty()) {
+			responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(String.join("|", violations))
+			        .asRuntimeException());
+			return;
+		}
+
+		log.info("Received trainer workload event for username: {} from service: {}", event.getUsername(),
+		        JwtServerInterceptor.SERVICE_NAME.get());
+		try {
+			processTrainerWorkloadUseCase.processTrainerWorkload(WorkloadEventRequests.toCommand(event,
+			        transactionId(event, currentTransactionId()), transactionId(event, clientTransactionId())));
+		} catch (RuntimeException e) {
+			responseObserver.onError(statusOf(e));
+			return;
+		}
+		responseObserver.onNext(Empty.getDefaultInstance());
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public StreamObserver<WorkloadEvent> ingestTrainerWorkloads(
+	        StreamObserver<WorkloadIngestSummary> responseObserver) {
+		log.info("Receiving trainer workload event stream from service: {}", JwtServerInterceptor.SERVICE_NAME.get());
+		return new WorkloadIngestion(currentTransactionId(), clientTransactionId(), responseObserver);
+	}
+
+	@Override
+	public void getTrainerMonthlyWorkload(MonthlyWorkloadRequest request,
+	        StreamObserver<MonthlyWorkload> responseObserver) {
+		log.info("Getting monthly workload for trainer: {}, year: {}, month: {}", request.getUsername(),
+		        request.getYear(), request.getMonth());
+
+		TrainerMonthlyWorkload workload;
+		try {
+			workload = loadTrainerMonthlyWorkloadUseCase.loadTrainerMonthlyWorkload(request.getUsername(),
+			        request.getYear(), request.getMonth(), currentTransactionId());
+		} catch (RuntimeException e) {
+			responseObserver.onError(statusOf(e));
+			return;
+		}
+		responseObserver.onNext(toMessage(workload));
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void streamTrainersMonthlyWorkload(MonthlyWorkloadsRequest request,
+	        StreamObserver<MonthlyWorkload> responseObserver) {
+		List<String> violations = violations(request);
+		if (!violations.isEmpty()) {
+			responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(String.join("|", violations))
+			        .asRuntimeException());
+			return;
+		}
+
+		log.info("Streaming monthly workload of trainers for year: {}, month: {}", request.getYear(),
+		        request.getMonth());
+
+		ServerCallStreamObserver<MonthlyWorkload> call = (ServerCallStreamObserver<MonthlyWorkload>) responseObserver;
+		TrainersMonthlyWorkloadQuery query = TrainersMonthlyWorkloadQuery.builder().year(request.getYear())
+		        .month(request.getMonth())
+		        .usernames(request.getUsernamesCount() == 0 ? null : request.getUsernamesList())
+		        .isActive(request.hasIsActive() ? request.getIsActive() : null).transactionId(currentTransactionId())
+		        .build();
+		try {
+			loadTrainersMonthlyWorkloadUseCase.streamTrainersMonthlyWorkload(query, workload -> {
+				awaitReady(call);
+				call.onNext(toMessage(workload));
+			});
+		} catch (StatusRuntimeException e) {
+			log.info("Monthly workload stream ended early: {}", e.getStatus());
+			return;
+		} catch (RuntimeException e) {
+			call.onError(statusOf(e));
+			return;
+		}
+		call.onCompleted();
+	}
+
+	// Holds the Mongo cursor while the caller is not reading, instead of buffering every trainer for it. The call's
+	// onReady callback cannot run while this thread is busy with the same call, so readiness is polled.
+	private void awaitReady(ServerCallStreamObserver<MonthlyWorkload> call) {
+		while (!call.isReady()) {
+			if (call.isCancelled()) {
+				throw Status.CANCELLED.withDescription("Cancelled by the caller").asRuntimeException();
+			}
+			LockSupport.parkNanos(READY_POLL_NANOS);
+		}
+	}
+
+	// Same constraints and messages as the bean validation of TrainersMonthlyWorkloadRequest
+	private List<String> violations(MonthlyWorkloadsRequest request) {
+		List<String> violations = new ArrayList<>(0);
+		if (request.getYear() < 1) {
+			violations.add("year Year must be positive");
+		}
+		if (request.getMonth() < 1 || request.getMonth() > 12) {
+			violations.add("month Month must be between 1 and 12");
+		}
+		if (request.getUsernamesList().stream().anyMatch(String::isBlank)) {
+			violations.add("usernames Username must not be blank");
+		}
+		return violations;
+	}
+
+	private static MonthlyWorkload toMessage(TrainerMonthlyWorkload workload) {
+		MonthlyWorkload.Builder message = MonthlyWorkload.newBuilder().setUsername(workload.getUsername());
+		if (workload.getFirstName() != null) {
+			message.setFirstName(workload.getFirstName());
+		}
+		if (workload.getLastName() != null) {
+			message.setLastName(workload.getLastName());
+		}
+		if (workload.getIsActive() != null) {
+			message.setIsActive(workload.getIsActive());
+		}
+		if (workload.getYear() != null) {
+			message.setYear(workload.getYear());
+		}
+		if (workload.getMonth() != null) {
+			message.setMonth(workload.getMonth());
+		}
+		if (workload.getSummaryDuration() != null) {
+			message.setSummaryDuration(workload.getSummaryDuration());
+		}
+		return message.build();
+	}
+
+	private static StatusRuntimeException statusOf(RuntimeException e) {
+		Status status;
+		if (e instanceof BadRequestException) {
+			status = Status.INVALID_ARGUMENT;
+		} else if (e instanceof NotFoundException) {
+			status = Status.NOT_FOUND;
+		} else if (e instanceof ConflictException) {
+			status = Status.ABORTED;
+		} else if (e instanceof ServiceUnavailableException) {
+			status = Status.UNAVAILABLE;
+		} else if (e instanceof UnauthorizedException) {
+			status = Status.UNAUTHENTICATED;
+		} else if (e instanceof ForbiddenException) {
+			status = Status.PERMISSION_DENIED;
+		} else {
+			log.error("Trainer workload call failed", e);
+			return Status.INTERNAL.withDescription("Internal server error").withCause(e).asRuntimeException();
+		}
+		return status.withDescription(e.getMessage()).asRuntimeException();
+	}
+
+	private static String transactionId(WorkloadEvent event, String fallback) {
+		if (event.hasTransactionId() && !event.getTransactionId().isEmpty()) {
+			return event.getTransactionId();
+		}
+		return fallback;
+	}
+
+	// TransactionIdServerInterceptor has already assigned an id to calls without the metadata entry
+	private static String currentTransactionId() {
+		String transactionId = TransactionIdServerInterceptor.TRANSACTION_ID.get();
+		return transactionId != null ? transactionId : UUID.randomUUID().toString();
+	}
+
+	// Null when the caller sent no id, since a generated one cannot identify a retry
+	private static String clientTransactionId() {
+		return TransactionIdServerInterceptor.CLIENT_TRANSACTION_ID.get();
+	}
+
+	// gRPC delivers the events of one call one at a time and asks the caller for the next only once onNext returns,
+	// so a slow Mongo holds back the sender instead of piling events up here
+	private class WorkloadIngestion implements StreamObserver<WorkloadEvent> {
+		private final String transactionId;
+		private final String clientTransactionId;
+		private final StreamObserver<WorkloadIngestSummary> responseObserver;
+		private final WorkloadIngestSummary.Builder summary = WorkloadIngestSummary.newBuilder();
+		private int index;
+
+		WorkloadIngestion(String transactionId, String clientTransactionId,
+		        StreamObserver<WorkloadIngestSummary> responseObserver) {
+			this.transactionId = transactionId;
+			this.clientTransactionId = clientTransactionId;
+			this.responseObserver = responseObserver;
+		}
+
+		@Override
+		public void onNext(WorkloadEvent event) {
+			int eventIndex = index++;
+			String username = event.hasUsername() ? event.getUsername() : "";
+
+			List<String> violations = WorkloadEventRequests.violations(event);
+			if (!violations.isEmpty()) {
+				summary.setRejected(summary.getRejected() + 1);
+				addError(eventIndex, username, WorkloadIngestErrorType.REJECTED, String.join("|", violations));
+				return;
+			}
+
+			try {
+				processTrainerWorkloadUseCase.processTrainerWorkload(WorkloadEventRequests.toCommand(event,
+				        transactionId(event, transactionId + "-" + eventIndex), transactionId(event,
+				                clientTransactionId == null ? null : clientTransactionId + "-" + eventIndex)));
+				summary.setProcessed(summary.getProcessed() + 1);
+			} catch (RuntimeException e) {
+				log.error("Failed to process streamed trainer workload event {} for username: {}: {}", eventIndex,
+				        username, e.getMessage());
+				summary.setFailed(summary.getFailed() + 1);
+				addError(eventIndex, username, WorkloadIngestErrorType.FAILED, e.getMessage());
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			log.warn("Trainer workload event stream ended by the caller after {} events: {}", index,
+			        Status.fromThrowable(t));
+		}
+
+		@Override
+		public void onCompleted() {
+			log.info("Trainer workload event stream of {} events: {} processed, {} rejected, {} failed", index,
+			        summary.getProcessed(), summary.getRejected(), summary.getFailed());
+			responseObserver.onNext(summary.build());
+			responseObserver.onCompleted();
+		}
+
+		private void addError(int eventIndex, String username, WorkloadIngestErrorType type, String message) {
+			if (summary.getErrorsCount() < MAX_LISTED_ERRORS) {
+				summary.addErrors(WorkloadIngestError.newBuilder().setIndex(eventIndex).setUsername(username)
+				        .setType(type).setMessage(message == null ? "" : message));
+			}
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.messaging.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.TrainerWorkloadRequest;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.common.logging.TransactionIdFilter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.jms.support.JmsHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(value = "workload.messaging.enabled", havingValue = "true")
+public class TrainerWorkloadMessageListener {
+	private final ProcessTrainerWorkloadUseCase processTrainerWorkloadUseCase;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+
+	@JmsListener(destination = "${workload.messaging.queue}",
+	        containerFactory = "trainerWorkloadListenerContainerFactory")
+	public void onTrainerWorkloadMessage(String payload, @Header(JmsHeaders.MESSAGE_ID) String messageId) {
+		ProcessTrainerWorkloadCommand command;
+		try {
+			command = objectMapper.readValue(payload, ProcessTrainerWorkloadCommand.class);
+		} catch (JsonProcessingException e) {
+			// Redelivering a malformed message can never succeed, so it is acknowledged and dropped
+			log.error("Message [{}]: Discarding malformed trainer workload message: {}", messageId,
+			        e.getOriginalMessage());
+			return;
+		}
+
+		if (command.getTransactionId() == null || command.getTransactionId().isEmpty()) {
+			command.setTransactionId(messageId);
+		}
+		// The broker redelivers a message with the same id, so either id identifies a redelivery
+		command.setIdempotencyKey(command.getTransactionId());
+
+		MDC.put(TransactionIdFilter.TRANSACTION_ID_MDC_KEY, command.getTransactionId());
+		try {
+			// Held to the same constraints as a POST to /api/v1/workload
+			Set<ConstraintViolation<TrainerWorkloadRequest>> violations = validator.validate(asRequest(command));
+			if (!violations.isEmpty()) {
+				log.error("Discarding invalid trainer workload message: {}", describe(violations));
+				return;
+			}
+
+			log.info("Received trainer workload message for username: {}", command.getUsername());
+			processTrainerWorkloadUseCase.processTrainerWorkload(command);
+		} finally {
+			MDC.remove(TransactionIdFilter.TRANSACTION_ID_MDC_KEY);
+		}
+	}
+
+	private TrainerWorkloadRequest asRequest(ProcessTrainerWorkloadCommand command) {
+		return TrainerWorkloadRequest.builder().username(command.getUsername()).firstName(command.getFirstName())
+		        .lastName(command.getLastName()).isActive(command.getIsActive()).trainingDate(command.getTrainingDate())
+		        .trainingDuration(command.getTrainingDuration()).actionType(command.getActionType()).build();
+	}
+
+	private String describe(Set<ConstraintViolation<TrainerWorkloadRequest>> violations) {
+		return violations.stream().map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+		        .sorted().collect(Collectors.joining("|"));
+	}
+}
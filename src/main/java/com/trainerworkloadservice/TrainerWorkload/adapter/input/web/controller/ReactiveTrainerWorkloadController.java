@@ -0,0 +1,60 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.TrainerWorkloadRequest;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.TrainerMonthlyWorkloadResponse;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ReactiveLoadTrainerMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ReactiveProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.common.logging.TransactionIdFilter;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+// Serves the workload API when the application runs with spring.main.web-application-type=reactive
+@RestController
+@RequestMapping("/api/v1/workload")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTrainerWorkloadController {
+	private final ReactiveProcessTrainerWorkloadUseCase reactiveProcessTrainerWorkloadUseCase;
+	private final ReactiveLoadTrainerMonthlyWorkloadUseCase reactiveLoadTrainerMonthlyWorkloadUseCase;
+
+	@PostMapping
+	@ResponseStatus(HttpStatus.OK)
+	public Mono<Void> processTrainerWorkload(@Valid @RequestBody TrainerWorkloadRequest request,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		return Mono.deferContextual(context -> {
+			log.info("Received trainer workload request for username: {}", request.getUsername());
+			return reactiveProcessTrainerWorkloadUseCase
+			        .processTrainerWorkload(request.toCommand(currentTransactionId(transactionId, context), transactionId));
+		});
+	}
+
+	@GetMapping("/{username}/{year}/{month}")
+	@ResponseStatus(HttpStatus.OK)
+	public Mono<TrainerMonthlyWorkloadResponse> getTrainerMonthlyWorkload(@PathVariable String username,
+	        @PathVariable int year, @PathVariable int month,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		return Mono.deferContextual(context -> {
+			log.info("Getting monthly workload for trainer: {}, year: {}, month: {}", username, year, month);
+			return reactiveLoadTrainerMonthlyWorkloadUseCase
+			        .loadTrainerMonthlyWorkload(username, year, month, currentTransactionId(transactionId, context))
+			        .map(TrainerMonthlyWorkloadResponse::form);
+		});
+	}
+
+	// TransactionIdWebFilter has already put the header, or a generated id, into the Reactor context
+	private String currentTransactionId(String header, ContextView context) {
+		if (header != null && !header.isEmpty()) {
+			return header;
+		}
+		return context.<String>getOrEmpty(TransactionIdFilter.TRANSACTION_ID_MDC_KEY)
+		        .orElseGet(() -> UUID.randomUUID().toString());
+	}
+}
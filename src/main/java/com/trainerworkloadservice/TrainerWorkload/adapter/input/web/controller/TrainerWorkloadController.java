@@ -1,35 +1,159 @@
 package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadEventBatch;
 import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.TrainerWorkloadRequest;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.TrainersMonthlyWorkloadRequest;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.WorkloadEventRequests;
 import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.TrainerMonthlyWorkloadResponse;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.TrainerWorkloadBatchItemResponse;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.TrainerWorkloadBatchResponse;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.TrainerWorkloadRangeResponse;
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainerMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainersMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadBatchUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadResult;
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.common.exception.BadRequestException;
+import com.trainerworkloadservice.common.logging.TransactionIdFilter;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import javax.validation.Valid;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/v1/workload")
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TrainerWorkloadController {
+	private static final String PROTOBUF = "application/x-protobuf";
+
 	private final ProcessTrainerWorkloadUseCase processTrainerWorkloadUseCase;
+	private final ProcessTrainerWorkloadBatchUseCase processTrainerWorkloadBatchUseCase;
 	private final LoadTrainerMonthlyWorkloadUseCase loadTrainerMonthlyWorkloadUseCase;
+	private final LoadTrainersMonthlyWorkloadUseCase loadTrainersMonthlyWorkloadUseCase;
+	private final Validator validator;
+	private final ObjectMapper objectMapper;
 
 	@PostMapping
 	@ResponseStatus(HttpStatus.OK)
 	public void processTrainerWorkload(@Valid @RequestBody TrainerWorkloadRequest request,
 	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		// A generated id is new on every attempt, so only one sent by the caller can identify a retry
+		String idempotencyKey = transactionId;
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		log.info("Received trainer workload request for username: {}", request.getUsername());
+		processTrainerWorkloadUseCase.processTrainerWorkload(request.toCommand(transactionId, idempotencyKey));
+	}
+
+	@PostMapping(consumes = PROTOBUF)
+	@ResponseStatus(HttpStatus.OK)
+	public void processTrainerWorkloadEvent(@RequestBody WorkloadEvent event,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		String idempotencyKey = transactionId;
 		if (transactionId == null || transactionId.isEmpty()) {
-			transactionId = UUID.randomUUID().toString();
+			transactionId = currentTransactionId();
+		}
+
+		List<String> violations = WorkloadEventRequests.violations(event);
+		if (!violations.isEmpty()) {
+			throw new BadRequestException(String.join("|", violations));
 		}
 
-		log.info("Transaction [{}]: Received trainer workload request for username: {}", transactionId,
-		        request.getUsername());
-		processTrainerWorkloadUseCase.processTrainerWorkload(request.toCommand(transactionId));
+		log.info("Received trainer workload event for username: {}", event.getUsername());
+		processTrainerWorkloadUseCase
+		        .processTrainerWorkload(WorkloadEventRequests.toCommand(event, transactionId, idempotencyKey));
+	}
+
+	@PostMapping("/batch")
+	@ResponseStatus(HttpStatus.OK)
+	public TrainerWorkloadBatchResponse processTrainerWorkloadBatch(@RequestBody List<TrainerWorkloadRequest> requests,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		String idempotencyKey = transactionId;
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		log.info("Received trainer workload batch of {} requests", requests.size());
+
+		// Invalid items are rejected up front so that a single bad item does not fail the whole batch
+		TrainerWorkloadBatchItemResponse[] items = new TrainerWorkloadBatchItemResponse[requests.size()];
+		List<Integer> acceptedIndexes = new ArrayList<>(requests.size());
+		List<ProcessTrainerWorkloadCommand> commands = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			TrainerWorkloadRequest request = requests.get(i);
+			if (request == null) {
+				items[i] = TrainerWorkloadBatchItemResponse.rejected(i, null, "Request is required");
+				continue;
+			}
+
+			Set<ConstraintViolation<TrainerWorkloadRequest>> violations = validator.validate(request);
+			if (!violations.isEmpty()) {
+				items[i] = TrainerWorkloadBatchItemResponse.rejected(i, request.getUsername(), describe(violations));
+				continue;
+			}
+
+			acceptedIndexes.add(i);
+			commands.add(request.toCommand(transactionId, idempotencyKey));
+		}
+
+		return processAccepted(items, acceptedIndexes, commands);
+	}
+
+	@PostMapping(value = "/batch", consumes = PROTOBUF)
+	@ResponseStatus(HttpStatus.OK)
+	public TrainerWorkloadBatchResponse processTrainerWorkloadEventBatch(@RequestBody WorkloadEventBatch batch,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		String idempotencyKey = transactionId;
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		log.info("Received trainer workload event batch of {} events", batch.getEventsCount());
+
+		TrainerWorkloadBatchItemResponse[] items = new TrainerWorkloadBatchItemResponse[batch.getEventsCount()];
+		List<Integer> acceptedIndexes = new ArrayList<>(items.length);
+		List<ProcessTrainerWorkloadCommand> commands = new ArrayList<>(items.length);
+		for (int i = 0; i < items.length; i++) {
+			WorkloadEvent event = batch.getEvents(i);
+			List<String> violations = WorkloadEventRequests.violations(event);
+			if (!violations.isEmpty()) {
+				String username = event.hasUsername() ? event.getUsername() : null;
+				items[i] = TrainerWorkloadBatchItemResponse.rejected(i, username, String.join("|", violations));
+				continue;
+			}
+
+			acceptedIndexes.add(i);
+			commands.add(WorkloadEventRequests.toCommand(event, transactionId, idempotencyKey));
+		}
+
+		return processAccepted(items, acceptedIndexes, commands);
 	}
 
 	@GetMapping("/{username}/{year}/{month}")
@@ -39,13 +163,111 @@ public class TrainerWorkloadController {
 	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
 
 		if (transactionId == null || transactionId.isEmpty()) {
-			transactionId = UUID.randomUUID().toString();
+			transactionId = currentTransactionId();
 		}
 
-		log.info("Transaction [{}]: Getting monthly workload for trainer: {}, year: {}, month: {}", transactionId,
-		        username, year, month);
+		log.info("Getting monthly workload for trainer: {}, year: {}, month: {}", username, year, month);
 
 		return TrainerMonthlyWorkloadResponse.form(
 		        loadTrainerMonthlyWorkloadUseCase.loadTrainerMonthlyWorkload(username, year, month, transactionId));
 	}
+
+	@PostMapping("/monthly")
+	public void getTrainersMonthlyWorkload(@Valid @RequestBody TrainersMonthlyWorkloadRequest request,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId,
+	        HttpServletResponse response) throws IOException {
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		log.info("Getting monthly workload of trainers for year: {}, month: {}", request.getYear(),
+		        request.getMonth());
+
+		// Each trainer is written as soon as it comes off the Mongo cursor, so the result is never held in memory
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+			generator.writeStartArray();
+			loadTrainersMonthlyWorkloadUseCase.streamTrainersMonthlyWorkload(request.toQuery(transactionId),
+			        workload -> write(generator, TrainerMonthlyWorkloadResponse.form(workload)));
+			generator.writeEndArray();
+		}
+	}
+
+	@GetMapping("/{username}/{year}")
+	public ResponseEntity<TrainerWorkloadRangeResponse> getTrainerYearlyWorkload(@PathVariable String username,
+	        @PathVariable int year, @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		log.info("Getting yearly workload for trainer: {}, year: {}", username, year);
+
+		return withETag(TrainerWorkloadRangeResponse
+		        .form(loadTrainerMonthlyWorkloadUseCase.loadTrainerYearlyWorkload(username, year, transactionId)));
+	}
+
+	@GetMapping("/{username}/range")
+	public ResponseEntity<TrainerWorkloadRangeResponse> getTrainerWorkloadRange(@PathVariable String username,
+	        @RequestParam YearMonth from, @RequestParam YearMonth to,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		log.info("Getting workload for trainer: {}, from: {}, to: {}", username, from, to);
+
+		return withETag(TrainerWorkloadRangeResponse
+		        .form(loadTrainerMonthlyWorkloadUseCase.loadTrainerWorkloadRange(username, from, to, transactionId)));
+	}
+
+	@GetMapping("/{username}/history")
+	public ResponseEntity<TrainerWorkloadRangeResponse> getTrainerWorkloadHistory(@PathVariable String username,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		log.info("Getting workload history for trainer: {}", username);
+
+		return withETag(TrainerWorkloadRangeResponse
+		        .form(loadTrainerMonthlyWorkloadUseCase.loadTrainerWorkloadHistory(username, transactionId)));
+	}
+
+	// The ETag is a digest of the response content. Spring answers a matching If-None-Match with 304 and
+	// never serializes the body.
+	private ResponseEntity<TrainerWorkloadRangeResponse> withETag(TrainerWorkloadRangeResponse response) {
+		String eTag = DigestUtils.md5DigestAsHex(response.toString().getBytes(StandardCharsets.UTF_8));
+		return ResponseEntity.ok().eTag(eTag).body(response);
+	}
+
+	private void write(JsonGenerator generator, Object value) {
+		try {
+			generator.writeObject(value);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// TransactionIdFilter has already assigned an id to requests without the header
+	private String currentTransactionId() {
+		String transactionId = MDC.get(TransactionIdFilter.TRANSACTION_ID_MDC_KEY);
+		return transactionId != null ? transactionId : UUID.randomUUID().toString();
+	}
+
+	private TrainerWorkloadBatchResponse processAccepted(TrainerWorkloadBatchItemResponse[] items,
+	        List<Integer> acceptedIndexes, List<ProcessTrainerWorkloadCommand> commands) {
+		List<ProcessTrainerWorkloadResult> results = processTrainerWorkloadBatchUseCase
+		        .processTrainerWorkloadBatch(commands);
+		for (int i = 0; i < results.size(); i++) {
+			int index = acceptedIndexes.get(i);
+			items[index] = TrainerWorkloadBatchItemResponse.form(index, commands.get(i).getUsername(), results.get(i));
+		}
+
+		return TrainerWorkloadBatchResponse.form(Arrays.asList(items));
+	}
+
+	private String describe(Set<ConstraintViolation<TrainerWorkloadRequest>> violations) {
+		return violations.stream().map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+		        .sorted().collect(Collectors.joining("|"));
+	}
 }
@@ -0,0 +1,126 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.TrainerWorkloadExportWriter;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.WorkloadExportFormat;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ExportTrainerWorkloadsUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadExportQuery;
+import com.trainerworkloadservice.common.exception.BadRequestException;
+import com.trainerworkloadservice.common.logging.TransactionIdFilter;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/workload/export")
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TrainerWorkloadExportController {
+	private final ExportTrainerWorkloadsUseCase exportTrainerWorkloadsUseCase;
+	private final ObjectMapper objectMapper;
+	private final int defaultBatchSize;
+
+	public TrainerWorkloadExportController(ExportTrainerWorkloadsUseCase exportTrainerWorkloadsUseCase,
+	        ObjectMapper objectMapper, @Value("${workload.export.batch-size:500}") int defaultBatchSize) {
+		this.exportTrainerWorkloadsUseCase = exportTrainerWorkloadsUseCase;
+		this.objectMapper = objectMapper;
+		this.defaultBatchSize = defaultBatchSize;
+	}
+
+	// Every row carries its username and trainers are exported in username order. After a broken download the
+	// client drops the rows of the last username it received and asks again with from=<that username>; the export
+	// resumes with that trainer's rows in full.
+	@GetMapping
+	public void exportTrainerWorkloads(@RequestParam(defaultValue = "ndjson") String format,
+	        @RequestParam(required = false) String from,
+	        @RequestParam(required = false) Integer batchSize,
+	        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING,required = false) String acceptEncoding,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId,
+	        HttpServletResponse response) throws IOException {
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		WorkloadExportFormat exportFormat = WorkloadExportFormat.from(format);
+		if (batchSize == null) {
+			batchSize = defaultBatchSize;
+		} else if (batchSize < 1) {
+			throw new BadRequestException("Export batch size must be positive: " + batchSize);
+		}
+
+		log.info("Exporting trainer workloads as {} from username: {}", exportFormat, from);
+
+		boolean gzip = acceptsGzip(acceptEncoding);
+		response.setContentType(exportFormat.getContentType());
+		response.setCharacterEncoding("UTF-8");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+		        "attachment; filename=\"trainer-workloads." + exportFormat.getFileExtension() + "\"");
+		response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (gzip) {
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+
+		TrainerWorkloadExportQuery query = TrainerWorkloadExportQuery.builder().fromUsername(from)
+		        .batchSize(batchSize).transactionId(transactionId).build();
+		OutputStream outputStream = gzip
+		        ? new GZIPOutputStream(response.getOutputStream())
+		        : response.getOutputStream();
+		TrainerWorkloadExportWriter writer = TrainerWorkloadExportWriter.of(exportFormat, outputStream, objectMapper);
+		exportTrainerWorkloadsUseCase.exportTrainerWorkloads(query, writer::write);
+		// Closed only once the export is complete. A failure part way leaves the body unterminated (and the gzip
+		// trailer unwritten), so the client sees a broken download to resume rather than a short one.
+		writer.close();
+	}
+
+	// A coding listed with q=0 is refused, and "*" stands for gzip only when gzip is not listed by name
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+
+		Double gzipQuality = null;
+		Double wildcardQuality = null;
+		for (String element : acceptEncoding.split(",")) {
+			String[] parameters = element.split(";");
+			String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+			if (coding.equals("gzip") || coding.equals("x-gzip")) {
+				gzipQuality = quality(parameters);
+			} else if (coding.equals("*")) {
+				wildcardQuality = quality(parameters);
+			}
+		}
+
+		Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+		return quality != null && quality > 0;
+	}
+
+	// A malformed weight counts as a refusal, so such a client gets the uncompressed body
+	private static double quality(String[] parameters) {
+		for (int i = 1; i < parameters.length; i++) {
+			String parameter = parameters[i].trim();
+			if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+				try {
+					return Double.parseDouble(parameter.substring(2).trim());
+				} catch (NumberFormatException e) {
+					return 0;
+				}
+			}
+		}
+		return 1;
+	}
+
+	// TransactionIdFilter has already assigned an id to requests without the header
+	private String currentTransactionId() {
+		String transactionId = MDC.get(TransactionIdFilter.TRANSACTION_ID_MDC_KEY);
+		return transactionId != null ? transactionId : UUID.randomUUID().toString();
+	}
+}
@@ -0,0 +1,68 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.TrainerWorkloadTotalResponse;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.WorkloadPercentileResponse;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response.WorkloadTotalResponse;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadWorkloadAnalyticsUseCase;
+import com.trainerworkloadservice.common.logging.TransactionIdFilter;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+
+// Cross-trainer reports served from the trainer_monthly_totals collection. Leaving out month reports on the year.
+@RestController
+@RequestMapping("/api/v1/workload/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WorkloadAnalyticsController {
+	private final LoadWorkloadAnalyticsUseCase loadWorkloadAnalyticsUseCase;
+
+	@GetMapping("/total")
+	public WorkloadTotalResponse getWorkloadTotal(@RequestParam int year,
+	        @RequestParam(required = false) Integer month,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		log.info("Getting total workload for year: {}, month: {}", year, month);
+		return WorkloadTotalResponse.form(loadWorkloadAnalyticsUseCase.loadWorkloadTotal(year, month, transactionId));
+	}
+
+	@GetMapping("/top")
+	public List<TrainerWorkloadTotalResponse> getTopTrainers(@RequestParam int year,
+	        @RequestParam(required = false) Integer month, @RequestParam(defaultValue = "20") int limit,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		log.info("Getting top {} trainers for year: {}, month: {}", limit, year, month);
+		return loadWorkloadAnalyticsUseCase.loadTopTrainers(year, month, limit, transactionId).stream()
+		        .map(TrainerWorkloadTotalResponse::form).toList();
+	}
+
+	@GetMapping("/percentiles")
+	public List<WorkloadPercentileResponse> getWorkloadPercentiles(@RequestParam int year, @RequestParam int month,
+	        @RequestParam(name = "p",defaultValue = "50,90,99") List<Double> percentiles,
+	        @RequestHeader(value = "X-Transaction-ID",required = false) String transactionId) {
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = currentTransactionId();
+		}
+
+		log.info("Getting workload percentiles {} for year: {}, month: {}", percentiles, year, month);
+		return loadWorkloadAnalyticsUseCase.loadWorkloadPercentiles(year, month, percentiles, transactionId).stream()
+		        .map(WorkloadPercentileResponse::form).toList();
+	}
+
+	// TransactionIdFilter has already assigned an id to requests without the header
+	private String currentTransactionId() {
+		String transactionId = MDC.get(TransactionIdFilter.TRANSACTION_ID_MDC_KEY);
+		return transactionId != null ? transactionId : UUID.randomUUID().toString();
+	}
+}
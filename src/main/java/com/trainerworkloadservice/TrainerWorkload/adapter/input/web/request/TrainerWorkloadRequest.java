@@ -3,10 +3,10 @@ package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
 import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.time.LocalDate;
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.NotNull;
-import javax.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -45,9 +45,9 @@ public class TrainerWorkloadRequest {
 	@JsonProperty("action_type")
 	private ActionType actionType;
 
-	public ProcessTrainerWorkloadCommand toCommand(String transactionId) {
+	public ProcessTrainerWorkloadCommand toCommand(String transactionId, String idempotencyKey) {
 		return ProcessTrainerWorkloadCommand.builder().username(username).firstName(firstName).lastName(lastName)
 		        .isActive(isActive).trainingDate(trainingDate).trainingDuration(trainingDuration).actionType(actionType)
-		        .transactionId(transactionId).build();
+		        .transactionId(transactionId).idempotencyKey(idempotencyKey).build();
 	}
 }
@@ -0,0 +1,38 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainersMonthlyWorkloadQuery;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainersMonthlyWorkloadRequest {
+	@NotNull(message = "Year is required")
+	@Min(value = 1, message = "Year must be positive")
+	private Integer year;
+
+	@NotNull(message = "Month is required")
+	@Min(value = 1, message = "Month must be between 1 and 12")
+	@Max(value = 12, message = "Month must be between 1 and 12")
+	private Integer month;
+
+	private List<@NotBlank(message = "Username must not be blank") String> usernames;
+
+	@JsonProperty("is_active")
+	private Boolean isActive;
+
+	public TrainersMonthlyWorkloadQuery toQuery(String transactionId) {
+		return TrainersMonthlyWorkloadQuery.builder().year(year).month(month).usernames(usernames).isActive(isActive)
+		        .transactionId(transactionId).build();
+	}
+}
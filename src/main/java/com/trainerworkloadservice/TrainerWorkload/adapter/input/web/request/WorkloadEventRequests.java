@@ -0,0 +1,62 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Checks and maps the protobuf form of TrainerWorkloadRequest by hand. It enforces the same constraints with the
+// same messages as the bean validation of the JSON form, without its reflection.
+public final class WorkloadEventRequests {
+	private WorkloadEventRequests() {
+	}
+
+	// Sorted "property message" pairs, as the JSON batch path reports them
+	public static List<String> violations(WorkloadEvent event) {
+		List<String> violations = new ArrayList<>(0);
+		if (!event.hasUsername() || event.getUsername().isBlank()) {
+			violations.add("username Username is required");
+		}
+		if (!event.hasFirstName() || event.getFirstName().isBlank()) {
+			violations.add("firstName First name is required");
+		}
+		if (!event.hasLastName() || event.getLastName().isBlank()) {
+			violations.add("lastName Last name is required");
+		}
+		if (!event.hasIsActive()) {
+			violations.add("isActive Active status is required");
+		}
+		if (!event.hasTrainingDate()) {
+			violations.add("trainingDate Training date is required");
+		}
+		if (!event.hasTrainingDuration()) {
+			violations.add("trainingDuration Training duration is required");
+		} else if (event.getTrainingDuration() <= 0) {
+			violations.add("trainingDuration Training duration must be positive");
+		}
+		if (actionType(event) == null) {
+			violations.add("actionType Action type is required");
+		}
+		violations.sort(null);
+		return violations;
+	}
+
+	public static ProcessTrainerWorkloadCommand toCommand(WorkloadEvent event, String transactionId,
+	        String idempotencyKey) {
+		return ProcessTrainerWorkloadCommand.builder().username(event.getUsername()).firstName(event.getFirstName())
+		        .lastName(event.getLastName()).isActive(event.getIsActive())
+		        .trainingDate(LocalDate.ofEpochDay(event.getTrainingDate()))
+		        .trainingDuration(event.getTrainingDuration()).actionType(actionType(event))
+		        .transactionId(transactionId).idempotencyKey(idempotencyKey).build();
+	}
+
+	private static ActionType actionType(WorkloadEvent event) {
+		return switch (event.getActionType()) {
+			case ADD -> ActionType.ADD;
+			case DELETE -> ActionType.DELETE;
+			default -> null;
+		};
+	}
+}
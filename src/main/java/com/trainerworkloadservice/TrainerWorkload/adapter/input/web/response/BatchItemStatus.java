@@ -0,0 +1,5 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response;
+
+public enum BatchItemStatus {
+	PROCESSED, REJECTED, FAILED
+}
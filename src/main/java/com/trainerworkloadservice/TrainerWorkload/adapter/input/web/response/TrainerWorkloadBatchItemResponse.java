@@ -0,0 +1,30 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response;
+
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadBatchItemResponse {
+	private int index;
+	private String username;
+	private BatchItemStatus status;
+	private String message;
+
+	public static TrainerWorkloadBatchItemResponse rejected(int index, String username, String message) {
+		return TrainerWorkloadBatchItemResponse.builder().index(index).username(username)
+		        .status(BatchItemStatus.REJECTED).message(message).build();
+	}
+
+	public static TrainerWorkloadBatchItemResponse form(int index, String username,
+	        ProcessTrainerWorkloadResult result) {
+		return TrainerWorkloadBatchItemResponse.builder().index(index).username(username)
+		        .status(result.isProcessed() ? BatchItemStatus.PROCESSED : BatchItemStatus.FAILED)
+		        .message(result.getMessage()).build();
+	}
+}
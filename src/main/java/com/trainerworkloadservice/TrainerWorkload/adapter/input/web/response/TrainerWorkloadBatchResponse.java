@@ -0,0 +1,28 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadBatchResponse {
+	private int processed;
+	private int rejected;
+	private int failed;
+	private List<TrainerWorkloadBatchItemResponse> items;
+
+	public static TrainerWorkloadBatchResponse form(List<TrainerWorkloadBatchItemResponse> items) {
+		return TrainerWorkloadBatchResponse.builder().processed(count(items, BatchItemStatus.PROCESSED))
+		        .rejected(count(items, BatchItemStatus.REJECTED)).failed(count(items, BatchItemStatus.FAILED))
+		        .items(items).build();
+	}
+
+	private static int count(List<TrainerWorkloadBatchItemResponse> items, BatchItemStatus status) {
+		return (int) items.stream().filter(item -> item.getStatus() == status).count();
+	}
+}
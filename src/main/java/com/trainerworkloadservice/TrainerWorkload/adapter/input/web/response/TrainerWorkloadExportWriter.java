@@ -0,0 +1,92 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadExportRow;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// Writes export rows one at a time straight to the response stream, one line per row
+public abstract class TrainerWorkloadExportWriter implements Closeable {
+	public static TrainerWorkloadExportWriter of(WorkloadExportFormat format, OutputStream outputStream,
+	        ObjectMapper objectMapper) throws IOException {
+		return format == WorkloadExportFormat.CSV
+		        ? new CsvWriter(outputStream)
+		        : new NdjsonWriter(objectMapper.getFactory().createGenerator(outputStream));
+	}
+
+	public void write(TrainerWorkloadExportRow row) {
+		try {
+			writeRow(row);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	protected abstract void writeRow(TrainerWorkloadExportRow row) throws IOException;
+
+	private static class NdjsonWriter extends TrainerWorkloadExportWriter {
+		private final JsonGenerator generator;
+
+		private NdjsonWriter(JsonGenerator generator) {
+			this.generator = generator;
+			// Lines are terminated explicitly instead of separated by the default single space
+			generator.setRootValueSeparator(null);
+		}
+
+		@Override
+		protected void writeRow(TrainerWorkloadExportRow row) throws IOException {
+			generator.writeStartObject();
+			generator.writeStringField("username", row.getUsername());
+			generator.writeNumberField("year", row.getYear());
+			generator.writeNumberField("month", row.getMonth());
+			generator.writeNumberField("minutes", row.getMinutes());
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+		}
+
+		@Override
+		public void close() throws IOException {
+			generator.close();
+		}
+	}
+
+	private static class CsvWriter extends TrainerWorkloadExportWriter {
+		private final Writer writer;
+
+		private CsvWriter(OutputStream outputStream) throws IOException {
+			this.writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+			writer.write("username,year,month,minutes\n");
+		}
+
+		@Override
+		protected void writeRow(TrainerWorkloadExportRow row) throws IOException {
+			writer.write(escape(row.getUsername()));
+			writer.write(',');
+			writer.write(Integer.toString(row.getYear()));
+			writer.write(',');
+			writer.write(Integer.toString(row.getMonth()));
+			writer.write(',');
+			writer.write(Integer.toString(row.getMinutes()));
+			writer.write('\n');
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.close();
+		}
+
+		private static String escape(String value) {
+			if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+			        && value.indexOf('\r') < 0) {
+				return value;
+			}
+			return '"' + value.replace("\"", "\"\"") + '"';
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadMonth;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadMonthResponse {
+	private int year;
+	private int month;
+	private int summaryDuration;
+
+	public static TrainerWorkloadMonthResponse form(WorkloadMonth workloadMonth) {
+		return new TrainerWorkloadMonthResponse(workloadMonth.getYear(), workloadMonth.getMonth(),
+		        workloadMonth.getSummaryDuration());
+	}
+}
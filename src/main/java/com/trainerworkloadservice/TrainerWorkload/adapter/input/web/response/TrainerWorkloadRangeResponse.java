@@ -0,0 +1,29 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadRange;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// The trainer's details are sent once, followed by only the months that have recorded workload
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadRangeResponse {
+	private String username;
+	private String firstName;
+	private String lastName;
+	private Boolean isActive;
+	private List<TrainerWorkloadMonthResponse> months;
+
+	public static TrainerWorkloadRangeResponse form(TrainerWorkloadRange trainerWorkloadRange) {
+		return TrainerWorkloadRangeResponse.builder().username(trainerWorkloadRange.getUsername())
+		        .firstName(trainerWorkloadRange.getFirstName()).lastName(trainerWorkloadRange.getLastName())
+		        .isActive(trainerWorkloadRange.getIsActive())
+		        .months(trainerWorkloadRange.getMonths().stream().map(TrainerWorkloadMonthResponse::form).toList())
+		        .build();
+	}
+}
@@ -0,0 +1,26 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadTotal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadTotalResponse {
+	private String username;
+	private String firstName;
+	private String lastName;
+	private Boolean isActive;
+	private Long totalDuration;
+
+	public static TrainerWorkloadTotalResponse form(TrainerWorkloadTotal trainerWorkloadTotal) {
+		return TrainerWorkloadTotalResponse.builder().username(trainerWorkloadTotal.getUsername())
+		        .firstName(trainerWorkloadTotal.getFirstName()).lastName(trainerWorkloadTotal.getLastName())
+		        .isActive(trainerWorkloadTotal.getIsActive()).totalDuration(trainerWorkloadTotal.getTotalDuration())
+		        .build();
+	}
+}
@@ -0,0 +1,23 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response;
+
+import com.trainerworkloadservice.common.exception.BadRequestException;
+import java.util.Locale;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WorkloadExportFormat {
+	NDJSON("application/x-ndjson", "ndjson"), CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String fileExtension;
+
+	public static WorkloadExportFormat from(String format) {
+		try {
+			return valueOf(format.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new BadRequestException("Unsupported export format: " + format);
+		}
+	}
+}
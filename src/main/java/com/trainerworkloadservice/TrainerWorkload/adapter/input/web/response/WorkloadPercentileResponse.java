@@ -0,0 +1,21 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadPercentile;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadPercentileResponse {
+	private Double percentile;
+	private Integer summaryDuration;
+
+	public static WorkloadPercentileResponse form(WorkloadPercentile workloadPercentile) {
+		return WorkloadPercentileResponse.builder().percentile(workloadPercentile.getPercentile())
+		        .summaryDuration(workloadPercentile.getSummaryDuration()).build();
+	}
+}
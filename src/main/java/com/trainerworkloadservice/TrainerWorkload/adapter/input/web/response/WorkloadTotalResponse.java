@@ -0,0 +1,23 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.input.web.response;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadTotal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadTotalResponse {
+	private Integer year;
+	private Integer month;
+	private Long trainers;
+	private Long totalDuration;
+
+	public static WorkloadTotalResponse form(WorkloadTotal workloadTotal) {
+		return WorkloadTotalResponse.builder().year(workloadTotal.getYear()).month(workloadTotal.getMonth())
+		        .trainers(workloadTotal.getTrainers()).totalDuration(workloadTotal.getTotalDuration()).build();
+	}
+}
@@ -0,0 +1,37 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import java.util.List;
+import org.bson.Document;
+
+final class AggregationExpressions {
+	private AggregationExpressions() {
+	}
+
+	static Document orEmpty(Object input) {
+		return new Document("$ifNull", List.of(input, List.of()));
+	}
+
+	static Document map(Object input, String as, Object in) {
+		return new Document("$map", new Document("input", input).append("as", as).append("in", in));
+	}
+
+	static Document filter(Object input, String as, Document cond) {
+		return new Document("$filter", new Document("input", input).append("as", as).append("cond", cond));
+	}
+
+	static Document first(Object input, Object otherwise) {
+		return new Document("$ifNull", List.of(new Document("$arrayElemAt", List.of(input, 0)), otherwise));
+	}
+
+	static Document cond(Document condition, Object then, Object otherwise) {
+		return new Document("$cond", List.of(condition, then, otherwise));
+	}
+
+	static Document eq(String path, int value) {
+		return new Document("$eq", List.of(path, value));
+	}
+
+	static Document literal(Object value) {
+		return new Document("$literal", value);
+	}
+}
@@ -0,0 +1,75 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ProcessedTransactionPort;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+// One document per applied X-Transaction-ID, keyed by the id itself so that a retry landing on another instance finds
+// it with a single _id lookup. Mongo deletes the documents once they outlive the TTL.
+@Slf4j
+@Repository
+public class ProcessedTransactionRepository implements ProcessedTransactionPort {
+	static final String COLLECTION = "processed_transactions";
+
+	private final MongoTemplate mongoTemplate;
+	private final boolean enabled;
+	private final Duration ttl;
+
+	public ProcessedTransactionRepository(MongoTemplate mongoTemplate,
+	        @Value("${workload.idempotency.enabled:true}") boolean enabled,
+	        @Value("${workload.idempotency.ttl:24h}") Duration ttl) {
+		this.mongoTemplate = mongoTemplate;
+		this.enabled = enabled;
+		this.ttl = ttl;
+	}
+
+	@EventListener(ContextRefreshedEvent.class)
+	public void ensureIndexes() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			transactions().createIndex(Indexes.ascending("processedAt"),
+			        new IndexOptions().expireAfter(ttl.toSeconds(), TimeUnit.SECONDS));
+			log.info("Ensured TTL index of {} on {}", ttl, COLLECTION);
+		} catch (MongoCommandException e) {
+			// An index built with another TTL keeps it until dropped; the local set still honours the new one
+			log.warn("Could not ensure TTL index of {} on {}: {}", ttl, COLLECTION, e.getErrorMessage());
+		}
+	}
+
+	@Override
+	public boolean isProcessed(String transactionId) {
+		return transactions().find(Filters.eq("_id", transactionId)).limit(1).first() != null;
+	}
+
+	@Override
+	public void markProcessed(String transactionId) {
+		try {
+			transactions().insertOne(new Document("_id", transactionId).append("processedAt", new Date()));
+		} catch (MongoWriteException e) {
+			if (e.getError().getCategory() != ErrorCategory.DUPLICATE_KEY) {
+				throw e;
+			}
+		}
+	}
+
+	private MongoCollection<Document> transactions() {
+		return mongoTemplate.getCollection(COLLECTION);
+	}
+}
@@ -0,0 +1,63 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ReactiveApplyTrainerWorkloadDeltaPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ReactiveLoadTrainerMonthlyWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import java.util.List;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTrainerWorkloadRepository implements ReactiveLoadTrainerMonthlyWorkloadPort,
+        ReactiveApplyTrainerWorkloadDeltaPort {
+	private final ReactiveMongoTemplate reactiveMongoTemplate;
+	private final TrainerMonthlyTotalsRepository monthlyTotals;
+
+	public ReactiveTrainerWorkloadRepository(ReactiveMongoTemplate reactiveMongoTemplate,
+	        TrainerMonthlyTotalsRepository monthlyTotals) {
+		this.reactiveMongoTemplate = reactiveMongoTemplate;
+		this.monthlyTotals = monthlyTotals;
+	}
+
+	@Override
+	public Mono<TrainerMonthlyWorkload> findMonthlyWorkload(String username, int year, int month) {
+		return collection()
+		        .flatMap(collection -> Mono.from(
+		                collection.aggregate(TrainerMonthlyWorkloadProjection.forMonth(username, year, month)).first()))
+		        .map(document -> TrainerMonthlyWorkloadProjection.toMonthlyWorkload(document, username, year, month));
+	}
+
+	@Override
+	public Mono<Void> applyDelta(TrainerWorkloadDelta delta) {
+		// One pipeline upsert instead of the blocking adapter's chain of guarded updates, so the delta costs a
+		// single round trip. A concurrent insert of the same new trainer loses on the unique username index and is
+		// retried once, which then updates the winner's document.
+		return collection()
+		        .flatMap(collection -> Mono.from(collection.updateOne(Filters.eq("username", delta.getUsername()),
+		                TrainerWorkloadUpdatePipeline.forTrainer(List.of(delta)), new UpdateOptions().upsert(true))))
+		        .retryWhen(Retry.max(1).filter(ReactiveTrainerWorkloadRepository::isDuplicateKey))
+		        // Only marks the month for the same background refresher as the blocking adapter, so it never blocks
+		        .then(Mono.fromRunnable(() -> monthlyTotals.refresh(List.of(delta))));
+	}
+
+	private Mono<MongoCollection<Document>> collection() {
+		return reactiveMongoTemplate.getCollection(reactiveMongoTemplate.getCollectionName(TrainerWorkload.class));
+	}
+
+	private static boolean isDuplicateKey(Throwable error) {
+		return error instanceof MongoWriteException writeException
+		        && writeException.getError().getCategory() == ErrorCategory.DUPLICATE_KEY;
+	}
+}
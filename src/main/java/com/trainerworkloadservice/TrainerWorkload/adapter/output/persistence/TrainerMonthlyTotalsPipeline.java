@@ -0,0 +1,61 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+// Flattens trainer_workloads into one document per (year, month, username) and merges them into
+// trainer_monthly_totals on the server, so a refresh never reads the trainer documents into the service
+final class TrainerMonthlyTotalsPipeline {
+	static final String COLLECTION = "trainer_monthly_totals";
+	static final List<String> KEY = List.of("year", "month", "username");
+
+	private TrainerMonthlyTotalsPipeline() {
+	}
+
+	// Only the given months are rewritten
+	static List<Bson> forMonths(Collection<TrainerMonth> trainerMonths) {
+		Set<String> usernames = new LinkedHashSet<>();
+		List<Document> months = new ArrayList<>(trainerMonths.size());
+		for (TrainerMonth trainerMonth : trainerMonths) {
+			usernames.add(trainerMonth.username());
+			months.add(new Document("username", trainerMonth.username()).append("years.year", trainerMonth.year())
+			        .append("years.months.month", trainerMonth.month()));
+		}
+		return flatten(new Document("username", new Document("$in", new ArrayList<>(usernames))),
+		        new Document("$or", months));
+	}
+
+	static List<Bson> forTrainers(Collection<String> usernames) {
+		return flatten(new Document("username", new Document("$in", new ArrayList<>(usernames))), null);
+	}
+
+	static List<Bson> all() {
+		return flatten(new Document(), null);
+	}
+
+	private static List<Bson> flatten(Document trainers, Document months) {
+		List<Bson> pipeline = new ArrayList<>();
+		pipeline.add(new Document("$match", trainers));
+		pipeline.add(new Document("$unwind", "$years"));
+		pipeline.add(new Document("$unwind", "$years.months"));
+		if (months != null) {
+			pipeline.add(new Document("$match", months));
+		}
+		pipeline.add(new Document("$project", new Document("_id", 0).append("year", "$years.year")
+		        .append("month", "$years.months.month").append("username", 1).append("firstName", 1)
+		        .append("lastName", 1).append("isActive", 1)
+		        .append("summaryDuration", "$years.months.summaryDuration")));
+		// Replacing keeps the _id of an existing row, so repeated refreshes are idempotent
+		pipeline.add(new Document("$merge", new Document("into", COLLECTION).append("on", KEY)
+		        .append("whenMatched", "replace").append("whenNotMatched", "insert")));
+		return pipeline;
+	}
+
+	record TrainerMonth(String username, int year, int month) {
+	}
+}
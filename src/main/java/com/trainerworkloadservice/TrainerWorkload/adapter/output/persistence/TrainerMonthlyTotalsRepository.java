@@ -0,0 +1,275 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerMonthlyTotalsPipeline.TrainerMonth;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadWorkloadAnalyticsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.RebuildMonthlyTotalsPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadTotal;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadTotal;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+// trainer_monthly_totals holds one row per (year, month, username) so that cross-trainer reports read an index
+// instead of unwinding every trainer's history. A write only marks the trainer months it touched; a background
+// refresher rewrites them from trainer_workloads shortly after, off the write path. A failed refresh keeps its months
+// marked for the next one.
+@Slf4j
+@Repository
+public class TrainerMonthlyTotalsRepository implements LoadWorkloadAnalyticsPort, RebuildMonthlyTotalsPort,
+        DisposableBean {
+	private static final int MONTHS_PER_REFRESH = 500;
+
+	private final MongoTemplate mongoTemplate;
+	private final boolean enabled;
+	private final Executor refresher;
+	private final Counter refreshFailures;
+
+	// Refreshes run one at a time and each reads trainer_workloads when it starts, so an older refresh can never
+	// land after a newer one and put back stale totals
+	private final ReentrantLock refreshLock = new ReentrantLock();
+	private final Set<TrainerMonth> staleMonths = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean refreshRequested = new AtomicBoolean();
+
+	@Autowired
+	public TrainerMonthlyTotalsRepository(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+	        @Value("${workload.monthly-totals.enabled:true}") boolean enabled) {
+		this(mongoTemplate, meterRegistry, enabled,
+		        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "workload-monthly-totals")));
+	}
+
+	public TrainerMonthlyTotalsRepository(MongoTemplate mongoTemplate, MeterRegistry meterRegistry, boolean enabled,
+	        Executor refresher) {
+		this.mongoTemplate = mongoTemplate;
+		this.enabled = enabled;
+		this.refresher = refresher;
+		this.refreshFailures = Counter.builder("workload.monthly-totals.refresh.failures")
+		        .description("Monthly totals refreshes that failed and were left for the next one")
+		        .register(meterRegistry);
+	}
+
+	@EventListener(ContextRefreshedEvent.class)
+	public void ensureIndexes() {
+		if (!enabled) {
+			return;
+		}
+		// The unique key is also what $merge matches rows on; the second index serves top-N and percentiles
+		totals().createIndex(Indexes.ascending(TrainerMonthlyTotalsPipeline.KEY), new IndexOptions().unique(true));
+		totals().createIndex(Indexes.compoundIndex(Indexes.ascending("year", "month"),
+		        Indexes.descending("summaryDuration")));
+		log.info("Ensured indexes on {}", TrainerMonthlyTotalsPipeline.COLLECTION);
+	}
+
+	// Only marks the months; the refresh itself runs on the refresher thread
+	public void refresh(List<TrainerWorkloadDelta> deltas) {
+		if (!enabled || deltas.isEmpty()) {
+			return;
+		}
+		for (TrainerWorkloadDelta delta : deltas) {
+			staleMonths.add(new TrainerMonth(delta.getUsername(), delta.getYear(), delta.getMonth()));
+		}
+		if (refreshRequested.compareAndSet(false, true)) {
+			refresher.execute(this::flush);
+		}
+	}
+
+	// Rebuilds write whole trainers and exit right after, so their rows are refreshed before this returns
+	public void refreshTrainers(Collection<String> usernames) {
+		if (!enabled || usernames.isEmpty()) {
+			return;
+		}
+		refreshLock.lock();
+		try {
+			merge(TrainerMonthlyTotalsPipeline.forTrainers(usernames));
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	public void flush() {
+		refreshRequested.set(false);
+		refreshLock.lock();
+		try {
+			while (!staleMonths.isEmpty()) {
+				// Taken out before reading trainer_workloads, so a month written during the refresh is marked again
+				List<TrainerMonth> months = new ArrayList<>(MONTHS_PER_REFRESH);
+				Iterator<TrainerMonth> iterator = staleMonths.iterator();
+				while (iterator.hasNext() && months.size() < MONTHS_PER_REFRESH) {
+					months.add(iterator.next());
+					iterator.remove();
+				}
+				if (!merge(TrainerMonthlyTotalsPipeline.forMonths(months))) {
+					staleMonths.addAll(months);
+					return;
+				}
+			}
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		if (refresher instanceof ExecutorService executorService) {
+			executorService.shutdown();
+			executorService.awaitTermination(30, TimeUnit.SECONDS);
+		}
+		flush();
+		if (!staleMonths.isEmpty()) {
+			log.warn("Shutting down with {} trainer months of monthly totals not refreshed", staleMonths.size());
+		}
+	}
+
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "rebuildMonthlyTotals"}, histogram = true)
+	public long rebuildMonthlyTotals() {
+		trainerWorkloads().aggregate(TrainerMonthlyTotalsPipeline.all()).allowDiskUse(true).toCollection();
+		return totals().estimatedDocumentCount();
+	}
+
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "sumDuration"}, histogram = true)
+	public WorkloadTotal sumDuration(int year, Integer month) {
+		// Grouped per trainer first so that a yearly total counts each trainer once
+		Document sum = totals().aggregate(List.of(new Document("$match", period(year, month)),
+		        new Document("$group", new Document("_id", "$username").append("summaryDuration",
+		                new Document("$sum", "$summaryDuration"))),
+		        new Document("$group", new Document("_id", null).append("trainers", new Document("$sum", 1))
+		                .append("totalDuration", new Document("$sum", "$summaryDuration"))))).first();
+
+		return WorkloadTotal.builder().year(year).month(month)
+		        .trainers(sum == null ? 0 : sum.get("trainers", Number.class).longValue())
+		        .totalDuration(sum == null ? 0 : sum.get("totalDuration", Number.class).longValue()).build();
+	}
+
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "findTopTrainers"}, histogram = true)
+	public List<TrainerWorkloadTotal> findTopTrainers(int year, Integer month, int limit) {
+		List<Bson> pipeline = new ArrayList<>();
+		pipeline.add(new Document("$match", period(year, month)));
+		if (month == null) {
+			pipeline.add(new Document("$group", new Document("_id", "$username")
+			        .append("firstName", new Document("$last", "$firstName"))
+			        .append("lastName", new Document("$last", "$lastName"))
+			        .append("isActive", new Document("$last", "$isActive"))
+			        .append("summaryDuration", new Document("$sum", "$summaryDuration"))));
+			pipeline.add(new Document("$addFields", new Document("username", "$_id")));
+		}
+		// Within a month this walks the (year, month, summaryDuration) index and stops after limit rows
+		pipeline.add(new Document("$sort", new Document("summaryDuration", -1).append("username", 1)));
+		pipeline.add(new Document("$limit", limit));
+
+		List<TrainerWorkloadTotal> trainers = new ArrayList<>(limit);
+		for (Document document : totals().aggregate(pipeline)) {
+			trainers.add(TrainerWorkloadTotal.builder().username(document.getString("username"))
+			        .firstName(document.getString("firstName")).lastName(document.getString("lastName"))
+			        .isActive(document.getBoolean("isActive"))
+			        .totalDuration(document.get("summaryDuration", Number.class).longValue()).build());
+		}
+		return trainers;
+	}
+
+	@Override
+	public long countTrainers(int year, int month) {
+		return totals().countDocuments(period(year, month));
+	}
+
+	// One walk of the (year, month, summaryDuration) index range of the month, from whichever end is nearer the
+	// deepest rank asked for. It reads index keys only and stops at that rank, where a skip per rank fetched every
+	// row it passed.
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "findDurationsAtRanks"}, histogram = true)
+	public List<Integer> findDurationsAtRanks(int year, int month, long trainers, List<Long> ranks) {
+		long lowest = ranks.stream().mapToLong(Long::longValue).min().orElse(1);
+		long highest = ranks.stream().mapToLong(Long::longValue).max().orElse(0);
+		boolean fromTop = trainers - lowest + 1 < highest;
+		TreeSet<Long> positions = new TreeSet<>();
+		for (Long rank : ranks) {
+			long position = fromTop ? trainers - rank + 1 : rank;
+			if (position > 0) {
+				positions.add(position);
+			}
+		}
+
+		Map<Long, Integer> durations = new HashMap<>();
+		if (!positions.isEmpty()) {
+			int depth = (int) Math.min(positions.last(), Integer.MAX_VALUE);
+			try (MongoCursor<Document> cursor = totals().find(period(year, month))
+			        .sort(new Document("summaryDuration", fromTop ? -1 : 1))
+			        .projection(new Document("_id", 0).append("summaryDuration", 1)).limit(depth)
+			        .batchSize(Math.min(depth, 10_000)).cursor()) {
+				long position = 0;
+				while (cursor.hasNext()) {
+					Document document = cursor.next();
+					if (positions.contains(++position)) {
+						durations.put(position, document.get("summaryDuration", Number.class).intValue());
+					}
+				}
+			}
+		}
+
+		List<Integer> result = new ArrayList<>(ranks.size());
+		for (Long rank : ranks) {
+			result.add(durations.get(fromTop ? trainers - rank + 1 : rank));
+		}
+		return result;
+	}
+
+	private boolean merge(List<Bson> pipeline) {
+		try {
+			trainerWorkloads().aggregate(pipeline).toCollection();
+			return true;
+		} catch (RuntimeException e) {
+			// The trainer document is already written, so the totals are left to catch up rather than failing it
+			refreshFailures.increment();
+			log.warn("Failed to refresh monthly totals: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	private Document period(int year, Integer month) {
+		Document period = new Document("year", year);
+		if (month != null) {
+			period.append("month", month);
+		}
+		return period;
+	}
+
+	private MongoCollection<Document> trainerWorkloads() {
+		return mongoTemplate.getCollection(mongoTemplate.getCollectionName(TrainerWorkload.class));
+	}
+
+	private MongoCollection<Document> totals() {
+		return mongoTemplate.getCollection(TrainerMonthlyTotalsPipeline.COLLECTION);
+	}
+}
@@ -0,0 +1,57 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import static com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.AggregationExpressions.eq;
+import static com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.AggregationExpressions.filter;
+import static com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.AggregationExpressions.first;
+import static com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.AggregationExpressions.map;
+import static com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.AggregationExpressions.orEmpty;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import java.util.List;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+final class TrainerMonthlyWorkloadProjection {
+	static final String SUMMARY_DURATION = "summaryDuration";
+
+	private TrainerMonthlyWorkloadProjection() {
+	}
+
+	// Narrows years and months on the server so only the header fields and one integer cross the wire,
+	// however much history the trainer has. A missing year or month projects to a duration of 0.
+	static List<Bson> forMonth(String username, int year, int month) {
+		return List.of(new Document("$match", new Document("username", username)), new Document("$limit", 1),
+		        projectMonth(year, month));
+	}
+
+	// Null filters are not applied; trainers are streamed in username order, which the unique index serves
+	static List<Bson> forTrainers(List<String> usernames, Boolean isActive, int year, int month) {
+		Document match = new Document();
+		if (usernames != null) {
+			match.append("username", new Document("$in", usernames));
+		}
+		if (isActive != null) {
+			match.append("isActive", isActive);
+		}
+
+		return List.of(new Document("$match", match), new Document("$sort", new Document("username", 1)),
+		        projectMonth(year, month));
+	}
+
+	private static Document projectMonth(int year, int month) {
+		Document yearMonths = first(map(filter(orEmpty("$years"), "y", eq("$$y.year", year)), "y", "$$y.months"),
+		        List.of());
+		Document summaryDuration = first(
+		        map(filter(orEmpty(yearMonths), "m", eq("$$m.month", month)), "m", "$$m.summaryDuration"), 0);
+
+		return new Document("$project", new Document("_id", 0).append("username", 1).append("firstName", 1)
+		        .append("lastName", 1).append("isActive", 1).append(SUMMARY_DURATION, summaryDuration));
+	}
+
+	static TrainerMonthlyWorkload toMonthlyWorkload(Document document, String username, int year, int month) {
+		Number summaryDuration = document.get(SUMMARY_DURATION, Number.class);
+		return TrainerMonthlyWorkload.builder().username(username).firstName(document.getString("firstName"))
+		        .lastName(document.getString("lastName")).isActive(document.getBoolean("isActive")).year(year)
+		        .month(month).summaryDuration(summaryDuration.intValue()).build();
+	}
+}
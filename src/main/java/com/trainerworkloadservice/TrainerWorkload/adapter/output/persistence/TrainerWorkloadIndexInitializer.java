@@ -0,0 +1,34 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainerWorkloadIndexInitializer {
+	private final MongoTemplate mongoTemplate;
+
+	// Creates the indexes declared on TrainerWorkload, or verifies that they already exist, before any traffic
+	// is served. A unique index cannot be built over duplicate usernames, in which case startup fails.
+	@EventListener(ContextRefreshedEvent.class)
+	public void ensureIndexes() {
+		IndexOperations indexOperations = mongoTemplate.indexOps(TrainerWorkload.class);
+		IndexResolver indexResolver = new MongoPersistentEntityIndexResolver(
+		        mongoTemplate.getConverter().getMappingContext());
+
+		for (IndexDefinition index : indexResolver.resolveIndexFor(TrainerWorkload.class)) {
+			log.info("Ensured index {} on {}", indexOperations.ensureIndex(index),
+			        mongoTemplate.getCollectionName(TrainerWorkload.class));
+		}
+	}
+}
@@ -0,0 +1,227 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.AppendTrainerWorkloadEventPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerWorkloadEventsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.TrainerWorkloadSnapshotPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadSnapshot;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.annotation.Timed;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+// Journal of every accepted workload change, plus the per-trainer snapshots that let a replay skip the events
+// already folded into them. The events are an ordinary collection rather than a capped one: a capped collection
+// would silently drop the oldest events, and with them the ability to rebuild.
+@Slf4j
+@Repository
+public class TrainerWorkloadJournalRepository implements AppendTrainerWorkloadEventPort,
+        LoadTrainerWorkloadEventsPort, TrainerWorkloadSnapshotPort {
+	static final String EVENTS_COLLECTION = "trainer_workload_events";
+	static final String SNAPSHOTS_COLLECTION = "trainer_workload_snapshots";
+	static final String STATE_COLLECTION = "trainer_workload_journal";
+	private static final String SNAPSHOT_STATE_ID = "snapshot";
+
+	private final MongoTemplate mongoTemplate;
+	private final boolean enabled;
+	private final TrainerWorkloadReadConverter readConverter = new TrainerWorkloadReadConverter();
+	private final TrainerWorkloadWriteConverter writeConverter = new TrainerWorkloadWriteConverter();
+
+	public TrainerWorkloadJournalRepository(MongoTemplate mongoTemplate,
+	        @Value("${workload.journal.enabled:false}") boolean enabled) {
+		this.mongoTemplate = mongoTemplate;
+		this.enabled = enabled;
+	}
+
+	@EventListener(ContextRefreshedEvent.class)
+	public void ensureIndexes() {
+		if (!enabled) {
+			return;
+		}
+		// Serves both the per-partition replay scan and its sort
+		mongoTemplate.getCollection(EVENTS_COLLECTION)
+		        .createIndex(Indexes.ascending("username", "recordedAt", "_id"));
+		mongoTemplate.getCollection(SNAPSHOTS_COLLECTION).createIndex(Indexes.ascending("username"),
+		        new IndexOptions().unique(true));
+		log.info("Ensured indexes on {} and {}", EVENTS_COLLECTION, SNAPSHOTS_COLLECTION);
+	}
+
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "appendEvents"}, histogram = true)
+	public void append(List<TrainerWorkloadEvent> events) {
+		if (!enabled || events.isEmpty()) {
+			return;
+		}
+
+		List<Document> documents = new ArrayList<>(events.size());
+		for (TrainerWorkloadEvent event : events) {
+			documents.add(toDocument(event));
+		}
+		mongoTemplate.getCollection(EVENTS_COLLECTION).insertMany(documents);
+	}
+
+	@Override
+	public Stream<TrainerWorkloadEvent> streamEvents(String fromUsername, String toUsername, Instant after,
+	        Instant until) {
+		List<Criteria> criteria = usernameRange(fromUsername, toUsername);
+		if (after != null) {
+			criteria.add(where("recordedAt").gt(Date.from(after)));
+		}
+		if (until != null) {
+			criteria.add(where("recordedAt").lte(Date.from(until)));
+		}
+
+		Query query = Query.query(allOf(criteria)).with(Sort.by("username", "recordedAt", "_id"));
+		return mongoTemplate.stream(query, Document.class, EVENTS_COLLECTION).map(this::toEvent);
+	}
+
+	// Sampling events rather than trainers weights the partitions by the number of events each has to replay
+	@Override
+	public List<String> sampleUsernames(int size) {
+		return mongoTemplate.aggregate(Aggregation.newAggregation(Aggregation.sample(size),
+		        Aggregation.project("username")), EVENTS_COLLECTION, Document.class).getMappedResults().stream()
+		        .map(document -> document.getString("username")).toList();
+	}
+
+	@Override
+	public Instant loadSnapshotTime() {
+		return loadStateTime("snapshotTime");
+	}
+
+	@Override
+	public Stream<TrainerWorkloadSnapshot> streamSnapshots(String fromUsername, String toUsername) {
+		Query query = Query.query(allOf(usernameRange(fromUsername, toUsername))).with(Sort.by("username"));
+		return mongoTemplate.stream(query, Document.class, SNAPSHOTS_COLLECTION).map(this::toSnapshot);
+	}
+
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "saveSnapshots"}, histogram = true)
+	public void saveSnapshots(List<TrainerWorkloadSnapshot> snapshots) {
+		List<WriteModel<Document>> writes = new ArrayList<>(snapshots.size());
+		ReplaceOptions upsert = new ReplaceOptions().upsert(true);
+		for (TrainerWorkloadSnapshot snapshot : snapshots) {
+			Document document = writeConverter.convert(snapshot.getTrainerWorkload());
+			document.remove("_id");
+			document.put("takenAt", Date.from(snapshot.getTakenAt()));
+			writes.add(new ReplaceOneModel<>(Filters.eq("username", document.getString("username")), document,
+			        upsert));
+		}
+		if (!writes.isEmpty()) {
+			mongoTemplate.getCollection(SNAPSHOTS_COLLECTION).bulkWrite(writes, new BulkWriteOptions().ordered(false));
+		}
+	}
+
+	@Override
+	public void saveSnapshotTime(Instant snapshotTime) {
+		mongoTemplate.getCollection(STATE_COLLECTION).updateOne(Filters.eq("_id", SNAPSHOT_STATE_ID),
+		        Updates.set("snapshotTime", Date.from(snapshotTime)));
+	}
+
+	// The lease is left to expire rather than released, so instances on the same schedule take one snapshot per
+	// lease between them
+	@Override
+	public boolean tryLeaseSnapshot(Duration lease) {
+		Instant now = Instant.now();
+		Query query = Query.query(where("_id").is(SNAPSHOT_STATE_ID).orOperator(where("leaseUntil").exists(false),
+		        where("leaseUntil").lte(Date.from(now))));
+		Update update = new Update().set("leaseUntil", Date.from(now.plus(lease)));
+
+		try {
+			UpdateResult result = mongoTemplate.upsert(query, update, STATE_COLLECTION);
+			return result.getMatchedCount() > 0 || result.getUpsertedId() != null;
+		} catch (DuplicateKeyException e) {
+			// The state document exists and its lease has not expired
+			return false;
+		}
+	}
+
+	@Override
+	public Instant loadBaselineTime() {
+		return loadStateTime("baselineTime");
+	}
+
+	@Override
+	public void saveBaselineTime(Instant baselineTime) {
+		mongoTemplate.getCollection(STATE_COLLECTION).updateOne(Filters.eq("_id", SNAPSHOT_STATE_ID),
+		        Updates.set("baselineTime", Date.from(baselineTime)));
+	}
+
+	private Instant loadStateTime(String field) {
+		Document state = mongoTemplate.getCollection(STATE_COLLECTION).find(Filters.eq("_id", SNAPSHOT_STATE_ID))
+		        .first();
+		if (state == null || state.getDate(field) == null) {
+			return null;
+		}
+		return state.getDate(field).toInstant();
+	}
+
+	private List<Criteria> usernameRange(String fromUsername, String toUsername) {
+		List<Criteria> criteria = new ArrayList<>();
+		if (fromUsername != null) {
+			criteria.add(where("username").gte(fromUsername));
+		}
+		if (toUsername != null) {
+			criteria.add(where("username").lt(toUsername));
+		}
+		return criteria;
+	}
+
+	private Criteria allOf(List<Criteria> criteria) {
+		return criteria.isEmpty() ? new Criteria() : new Criteria().andOperator(criteria);
+	}
+
+	private Document toDocument(TrainerWorkloadEvent event) {
+		return new Document("username", event.getUsername()).append("firstName", event.getFirstName())
+		        .append("lastName", event.getLastName()).append("isActive", event.getIsActive())
+		        .append("year", event.getYear()).append("month", event.getMonth())
+		        .append("duration", event.getDuration()).append("actionType", event.getActionType().name())
+		        .append("transactionId", event.getTransactionId())
+		        .append("recordedAt", Date.from(event.getRecordedAt()));
+	}
+
+	private TrainerWorkloadEvent toEvent(Document document) {
+		return TrainerWorkloadEvent.builder().id(document.getObjectId("_id").toHexString())
+		        .username(document.getString("username")).firstName(document.getString("firstName"))
+		        .lastName(document.getString("lastName")).isActive(document.getBoolean("isActive"))
+		        .year(document.getInteger("year")).month(document.getInteger("month"))
+		        .duration(document.getInteger("duration"))
+		        .actionType(ActionType.valueOf(document.getString("actionType")))
+		        .transactionId(document.getString("transactionId"))
+		        .recordedAt(document.getDate("recordedAt").toInstant()).build();
+	}
+
+	private TrainerWorkloadSnapshot toSnapshot(Document document) {
+		TrainerWorkload trainerWorkload = readConverter.convert(document);
+		trainerWorkload.setId(null);
+		return new TrainerWorkloadSnapshot(trainerWorkload, document.getDate("takenAt").toInstant());
+	}
+}
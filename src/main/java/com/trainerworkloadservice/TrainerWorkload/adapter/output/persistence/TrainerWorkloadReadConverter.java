@@ -0,0 +1,45 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadYears;
+import com.trainerworkloadservice.TrainerWorkload.domain.YearWorkload;
+import java.util.List;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+// Reads the stored years[].months[] lists straight into the indexed domain structure
+@ReadingConverter
+public class TrainerWorkloadReadConverter implements Converter<Document, TrainerWorkload> {
+	@Override
+	public TrainerWorkload convert(Document source) {
+		Object id = source.get("_id");
+		return TrainerWorkload.builder().id(id == null ? null : id.toString()).username(source.getString("username"))
+		        .firstName(source.getString("firstName")).lastName(source.getString("lastName"))
+		        .isActive(source.getBoolean("isActive")).years(readYears(source.getList("years", Document.class)))
+		        .build();
+	}
+
+	private WorkloadYears readYears(List<Document> years) {
+		WorkloadYears workloadYears = new WorkloadYears();
+		if (years == null) {
+			return workloadYears;
+		}
+
+		for (Document year : years) {
+			YearWorkload yearWorkload = workloadYears.getOrCreate(intValue(year.get("year")));
+			List<Document> months = year.getList("months", Document.class);
+			if (months == null) {
+				continue;
+			}
+			for (Document month : months) {
+				yearWorkload.setDuration(intValue(month.get("month")), intValue(month.get("summaryDuration")));
+			}
+		}
+		return workloadYears;
+	}
+
+	private int intValue(Object value) {
+		return value == null ? 0 : ((Number) value).intValue();
+	}
+}
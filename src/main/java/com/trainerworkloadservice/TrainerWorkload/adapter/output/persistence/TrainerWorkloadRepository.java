@@ -1,26 +1,309 @@
 package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
 
+import static com.trainerworkloadservice.configuration.CacheConfig.TRAINER_MONTHLY_WORKLOAD_CACHE;
+import static com.trainerworkloadservice.configuration.CacheConfig.TRAINER_WORKLOAD_CACHE;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadConflictException;
 import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadNotFoundException;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ApplyTrainerWorkloadDeltaPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadAllTrainerWorkloadsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerMonthlyWorkloadPort;
 import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerWorkloadPort;
-import com.trainerworkloadservice.TrainerWorkload.application.port.output.UpdateTrainerWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainersMonthlyWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ReplaceTrainerWorkloadsPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
 import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public class TrainerWorkloadRepository implements LoadTrainerWorkloadPort, UpdateTrainerWorkloadPort {
+public class TrainerWorkloadRepository implements LoadTrainerWorkloadPort, LoadTrainerMonthlyWorkloadPort,
+        LoadTrainersMonthlyWorkloadPort, LoadAllTrainerWorkloadsPort, ApplyTrainerWorkloadDeltaPort,
+        ReplaceTrainerWorkloadsPort {
+	private static final String MONTH_DURATION_PATH = "years.$[y].months.$[m].summaryDuration";
+
 	private final TrainerWorkloadPersistenceRepository repository;
+	private final MongoTemplate mongoTemplate;
+	private final TrainerMonthlyTotalsRepository monthlyTotals;
+	private final DistributionSummary documentYears;
+	private final TrainerWorkloadWriteConverter writeConverter = new TrainerWorkloadWriteConverter();
 
-	public TrainerWorkloadRepository(TrainerWorkloadPersistenceRepository repository) {
+	public TrainerWorkloadRepository(TrainerWorkloadPersistenceRepository repository, MongoTemplate mongoTemplate,
+	        TrainerMonthlyTotalsRepository monthlyTotals, MeterRegistry meterRegistry) {
 		this.repository = repository;
+		this.mongoTemplate = mongoTemplate;
+		this.monthlyTotals = monthlyTotals;
+		this.documentYears = DistributionSummary.builder("workload.trainer.document.years")
+		        .description("Years of history held by trainer workload documents read or written in full")
+		        .baseUnit("years").publishPercentileHistogram().register(meterRegistry);
 	}
 
 	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "findByUsername"}, histogram = true)
+	@Cacheable(value = TRAINER_WORKLOAD_CACHE, key = "#username")
 	public TrainerWorkload findByUsername(String username) {
-		return repository.findByUsername(username).orElseThrow(() -> TrainerWorkloadNotFoundException.by(username));
+		TrainerWorkload trainerWorkload = repository.findByUsername(username)
+		        .orElseThrow(() -> TrainerWorkloadNotFoundException.by(username));
+		recordDocumentSize(trainerWorkload);
+		return trainerWorkload;
+	}
+
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "findMonthlyWorkload"}, histogram = true)
+	@Cacheable(value = TRAINER_MONTHLY_WORKLOAD_CACHE, key = "#username + ':' + #year + ':' + #month")
+	public TrainerMonthlyWorkload findMonthlyWorkload(String username, int year, int month) {
+		Document document = mongoTemplate.getCollection(mongoTemplate.getCollectionName(TrainerWorkload.class))
+		        .aggregate(TrainerMonthlyWorkloadProjection.forMonth(username, year, month)).first();
+		if (document == null) {
+			throw TrainerWorkloadNotFoundException.by(username);
+		}
+
+		return TrainerMonthlyWorkloadProjection.toMonthlyWorkload(document, username, year, month);
+	}
+
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "forEachMonthlyWorkload"}, histogram = true)
+	public int forEachMonthlyWorkload(List<String> usernames, Boolean isActive, int year, int month,
+	        Consumer<TrainerMonthlyWorkload> consumer) {
+		int count = 0;
+		try (MongoCursor<Document> cursor = mongoTemplate
+		        .getCollection(mongoTemplate.getCollectionName(TrainerWorkload.class))
+		        .aggregate(TrainerMonthlyWorkloadProjection.forTrainers(usernames, isActive, year, month)).cursor()) {
+			while (cursor.hasNext()) {
+				Document document = cursor.next();
+				consumer.accept(TrainerMonthlyWorkloadProjection.toMonthlyWorkload(document,
+				        document.getString("username"), year, month));
+				count++;
+			}
+		}
+		return count;
 	}
 
 	@Override
-	public void save(TrainerWorkload trainerWorkload) {
-		repository.save(trainerWorkload);
+	@Timed(value = "workload.repository", extraTags = {"operation", "forEachTrainerWorkload"}, histogram = true)
+	public int forEachTrainerWorkload(String fromUsername, int batchSize, Consumer<TrainerWorkload> consumer) {
+		// Walks the unique username index, so a resumed export seeks straight to its first trainer
+		Query query = fromUsername == null ? new Query() : query(where("username").gte(fromUsername));
+		query.with(Sort.by("username")).cursorBatchSize(batchSize);
+
+		int count = 0;
+		try (Stream<TrainerWorkload> trainerWorkloads = mongoTemplate.stream(query, TrainerWorkload.class)) {
+			Iterator<TrainerWorkload> iterator = trainerWorkloads.iterator();
+			while (iterator.hasNext()) {
+				consumer.accept(iterator.next());
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "applyDelta"}, histogram = true)
+	// Only the touched month is evicted; header fields cached for other months catch up within the TTL
+	@Caching(evict = {@CacheEvict(value = TRAINER_WORKLOAD_CACHE, key = "#delta.username"),
+	        @CacheEvict(value = TRAINER_MONTHLY_WORKLOAD_CACHE,
+	                key = "#delta.username + ':' + #delta.year + ':' + #delta.month")})
+	public void applyDelta(TrainerWorkloadDelta delta) {
+		// Each step is a single atomic update guarded by its own filter, so a step that loses a race simply does
+		// not match and the next one picks up the new document shape. When none matches nothing was written, and
+		// the conflict is left to the service to retry.
+		if (!(incrementMonth(delta) || clampMonth(delta) || appendMonth(delta) || appendYear(delta)
+		        || insertTrainer(delta))) {
+			throw TrainerWorkloadConflictException.by(delta.getUsername());
+		}
+		monthlyTotals.refresh(List.of(delta));
+	}
+
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "applyDeltas"}, histogram = true)
+	@Caching(evict = {@CacheEvict(value = TRAINER_WORKLOAD_CACHE, allEntries = true),
+	        @CacheEvict(value = TRAINER_MONTHLY_WORKLOAD_CACHE, allEntries = true)})
+	public Map<String, String> applyDeltas(List<TrainerWorkloadDelta> deltas) {
+		if (deltas.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, List<TrainerWorkloadDelta>> deltasByUsername = new LinkedHashMap<>();
+		deltas.forEach(delta -> deltasByUsername.computeIfAbsent(delta.getUsername(), username -> new ArrayList<>())
+		        .add(delta));
+
+		List<String> usernames = new ArrayList<>(deltasByUsername.keySet());
+		List<BulkWriteError> errors = bulkUpsert(usernames, deltasByUsername);
+
+		// Concurrent upserts of a new trainer can race on the unique username index. The losers are retried
+		// once, which now matches and updates the document the winner inserted.
+		Map<String, String> failures = new HashMap<>();
+		List<String> duplicates = new ArrayList<>();
+		for (BulkWriteError error : errors) {
+			String username = usernames.get(error.getIndex());
+			if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+				duplicates.add(username);
+			} else {
+				failures.put(username, error.getMessage());
+			}
+		}
+
+		if (!duplicates.isEmpty()) {
+			for (BulkWriteError error : bulkUpsert(duplicates, deltasByUsername)) {
+				failures.put(duplicates.get(error.getIndex()), error.getMessage());
+			}
+		}
+
+		monthlyTotals.refresh(failures.isEmpty()
+		        ? deltas
+		        : deltas.stream().filter(delta -> !failures.containsKey(delta.getUsername())).toList());
+		return failures;
+	}
+
+	@Override
+	@Timed(value = "workload.repository", extraTags = {"operation", "replaceAll"}, histogram = true)
+	@Caching(evict = {@CacheEvict(value = TRAINER_WORKLOAD_CACHE, allEntries = true),
+	        @CacheEvict(value = TRAINER_MONTHLY_WORKLOAD_CACHE, allEntries = true)})
+	public void replaceAll(List<TrainerWorkload> trainerWorkloads) {
+		if (trainerWorkloads.isEmpty()) {
+			return;
+		}
+
+		// Matched by username so that existing documents keep their _id
+		List<WriteModel<Document>> writes = new ArrayList<>(trainerWorkloads.size());
+		ReplaceOptions upsert = new ReplaceOptions().upsert(true);
+		for (TrainerWorkload trainerWorkload : trainerWorkloads) {
+			Document document = writeConverter.convert(trainerWorkload);
+			document.remove("_id");
+			writes.add(new ReplaceOneModel<>(Filters.eq("username", trainerWorkload.getUsername()), document, upsert));
+		}
+		mongoTemplate.getCollection(mongoTemplate.getCollectionName(TrainerWorkload.class)).bulkWrite(writes,
+		        new BulkWriteOptions().ordered(false));
+		monthlyTotals.refreshTrainers(trainerWorkloads.stream().map(TrainerWorkload::getUsername).toList());
+	}
+
+	private List<BulkWriteError> bulkUpsert(List<String> usernames,
+	        Map<String, List<TrainerWorkloadDelta>> deltasByUsername) {
+		List<WriteModel<Document>> writes = new ArrayList<>(usernames.size());
+		UpdateOptions upsert = new UpdateOptions().upsert(true);
+		for (String username : usernames) {
+			writes.add(new UpdateOneModel<>(Filters.eq("username", username),
+			        TrainerWorkloadUpdatePipeline.forTrainer(deltasByUsername.get(username)), upsert));
+		}
+
+		try {
+			mongoTemplate.getCollection(mongoTemplate.getCollectionName(TrainerWorkload.class)).bulkWrite(writes,
+			        new BulkWriteOptions().ordered(false));
+			return Collections.emptyList();
+		} catch (MongoBulkWriteException e) {
+			return e.getWriteErrors();
+		}
+	}
+
+	private boolean incrementMonth(TrainerWorkloadDelta delta) {
+		Criteria month = where("month").is(delta.getMonth());
+		if (delta.getDuration() < 0) {
+			month = month.and("summaryDuration").gte(-delta.getDuration());
+		}
+
+		Update update = personalInfo(delta).inc(MONTH_DURATION_PATH, delta.getDuration());
+		return updateMonth(delta, month, update);
+	}
+
+	private boolean clampMonth(TrainerWorkloadDelta delta) {
+		if (delta.getDuration() >= 0) {
+			return false;
+		}
+
+		Criteria month = where("month").is(delta.getMonth()).and("summaryDuration").lt(-delta.getDuration());
+		Update update = personalInfo(delta).set(MONTH_DURATION_PATH, 0);
+		return updateMonth(delta, month, update);
+	}
+
+	private boolean updateMonth(TrainerWorkloadDelta delta, Criteria month, Update update) {
+		Query query = query(where("username").is(delta.getUsername()).and("years")
+		        .elemMatch(where("year").is(delta.getYear()).and("months").elemMatch(month)));
+		update.filterArray(where("y.year").is(delta.getYear())).filterArray(where("m.month").is(delta.getMonth()));
+
+		return mongoTemplate.updateFirst(query, update, TrainerWorkload.class).getMatchedCount() > 0;
+	}
+
+	private boolean appendMonth(TrainerWorkloadDelta delta) {
+		Query query = query(where("username").is(delta.getUsername()).and("years")
+		        .elemMatch(where("year").is(delta.getYear()).and("months.month").ne(delta.getMonth())));
+		Update update = personalInfo(delta).push("years.$[y].months", monthDocument(delta))
+		        .filterArray(where("y.year").is(delta.getYear()));
+
+		return mongoTemplate.updateFirst(query, update, TrainerWorkload.class).getMatchedCount() > 0;
+	}
+
+	private boolean appendYear(TrainerWorkloadDelta delta) {
+		Query query = query(where("username").is(delta.getUsername()).and("years.year").ne(delta.getYear()));
+		Update update = personalInfo(delta).push("years", yearDocument(delta));
+
+		return mongoTemplate.updateFirst(query, update, TrainerWorkload.class).getMatchedCount() > 0;
+	}
+
+	private boolean insertTrainer(TrainerWorkloadDelta delta) {
+		Query query = query(where("username").is(delta.getUsername()));
+		Update update = new Update().setOnInsert("firstName", delta.getFirstName())
+		        .setOnInsert("lastName", delta.getLastName()).setOnInsert("isActive", delta.getIsActive())
+		        .setOnInsert("years", List.of(yearDocument(delta)));
+
+		try {
+			return mongoTemplate.upsert(query, update, TrainerWorkload.class).getUpsertedId() != null;
+		} catch (DuplicateKeyException e) {
+			// Another writer inserted this trainer first; the retry updates that document instead
+			return false;
+		}
+	}
+
+	private void recordDocumentSize(TrainerWorkload trainerWorkload) {
+		if (trainerWorkload.getYears() != null) {
+			documentYears.record(trainerWorkload.getYears().size());
+		}
+	}
+
+	private Update personalInfo(TrainerWorkloadDelta delta) {
+		return new Update().set("firstName", delta.getFirstName()).set("lastName", delta.getLastName())
+		        .set("isActive", delta.getIsActive());
+	}
+
+	private Document yearDocument(TrainerWorkloadDelta delta) {
+		return new Document("year", delta.getYear()).append("months", List.of(monthDocument(delta)));
+	}
+
+	private Document monthDocument(TrainerWorkloadDelta delta) {
+		return new Document("month", delta.getMonth()).append("summaryDuration", Math.max(0, delta.getDuration()));
 	}
 }
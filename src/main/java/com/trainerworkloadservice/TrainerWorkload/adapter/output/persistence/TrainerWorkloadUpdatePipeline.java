@@ -0,0 +1,57 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import static com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.AggregationExpressions.cond;
+import static com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.AggregationExpressions.eq;
+import static com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.AggregationExpressions.literal;
+import static com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.AggregationExpressions.map;
+import static com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.AggregationExpressions.orEmpty;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+final class TrainerWorkloadUpdatePipeline {
+	private TrainerWorkloadUpdatePipeline() {
+	}
+
+	// Builds an update pipeline for one trainer document: the personal info of the last delta wins and each delta
+	// gets its own stage, in order, clamping its month at zero just as a single event does. Callers may only net
+	// deltas of a month that point the same way. Unlike $inc with arrayFilters this also creates missing years and
+	// months, so it is safe to upsert in one op.
+	static List<Bson> forTrainer(List<TrainerWorkloadDelta> deltas) {
+		TrainerWorkloadDelta last = deltas.get(deltas.size() - 1);
+
+		List<Bson> stages = new ArrayList<>(deltas.size() + 1);
+		stages.add(new Document("$set",
+		        new Document("firstName", literal(last.getFirstName())).append("lastName", literal(last.getLastName()))
+		                .append("isActive", literal(last.getIsActive()))));
+		for (TrainerWorkloadDelta delta : deltas) {
+			stages.add(new Document("$set", new Document("years", updatedYears(delta))));
+		}
+		return stages;
+	}
+
+	private static Document updatedYears(TrainerWorkloadDelta delta) {
+		Document newMonth = new Document("month", delta.getMonth()).append("summaryDuration",
+		        Math.max(0, delta.getDuration()));
+
+		Document months = orEmpty("$$y.months");
+		Document newDuration = new Document("$max",
+		        List.of(0, new Document("$add", List.of("$$m.summaryDuration", delta.getDuration()))));
+		Document updatedMonth = new Document("$mergeObjects",
+		        List.of("$$m", new Document("summaryDuration", newDuration)));
+		Document updatedMonths = cond(new Document("$in", List.of(delta.getMonth(), map(months, "m", "$$m.month"))),
+		        map(months, "m", cond(eq("$$m.month", delta.getMonth()), updatedMonth, "$$m")),
+		        new Document("$concatArrays", List.of(months, List.of(newMonth))));
+
+		Document years = orEmpty("$years");
+		Document updatedYear = new Document("$mergeObjects", List.of("$$y", new Document("months", updatedMonths)));
+		Document newYear = new Document("year", delta.getYear()).append("months", List.of(newMonth));
+
+		return cond(new Document("$in", List.of(delta.getYear(), map(years, "y", "$$y.year"))),
+		        map(years, "y", cond(eq("$$y.year", delta.getYear()), updatedYear, "$$y")),
+		        new Document("$concatArrays", List.of(years, List.of(newYear))));
+	}
+}
@@ -0,0 +1,46 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.YearWorkload;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+
+// Writes the indexed domain structure back as the years[].months[] document shape the update paths rely on
+@WritingConverter
+public class TrainerWorkloadWriteConverter implements Converter<TrainerWorkload, Document> {
+	@Override
+	public Document convert(TrainerWorkload source) {
+		Document document = new Document();
+		if (source.getId() != null) {
+			document.put("_id", ObjectId.isValid(source.getId()) ? new ObjectId(source.getId()) : source.getId());
+		}
+		document.put("username", source.getUsername());
+		document.put("firstName", source.getFirstName());
+		document.put("lastName", source.getLastName());
+		document.put("isActive", source.getIsActive());
+		document.put("years", writeYears(source));
+		return document;
+	}
+
+	private List<Document> writeYears(TrainerWorkload source) {
+		List<Document> years = new ArrayList<>();
+		if (source.getYears() == null) {
+			return years;
+		}
+
+		for (YearWorkload yearWorkload : source.getYears()) {
+			List<Document> months = new ArrayList<>();
+			for (int month = 1; month <= YearWorkload.MONTHS_IN_YEAR; month++) {
+				if (yearWorkload.hasMonth(month)) {
+					months.add(new Document("month", month).append("summaryDuration", yearWorkload.getDuration(month)));
+				}
+			}
+			years.add(new Document("year", yearWorkload.getYear()).append("months", months));
+		}
+		return years;
+	}
+}
@@ -0,0 +1,123 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+// Append-only log of the deltas accepted by the write-behind buffer, one JSON line per delta. It is replayed on
+// startup and truncated once a flush has reached Mongo, or rewritten with the deltas a flush could not apply, so it
+// only ever holds the deltas that are still pending.
+@Slf4j
+public class WriteBehindJournal implements Closeable {
+	private final Path path;
+	private final ObjectMapper objectMapper;
+	private final boolean fsync;
+	private FileChannel channel;
+
+	public WriteBehindJournal(Path path, ObjectMapper objectMapper, boolean fsync) throws IOException {
+		this.path = path;
+		this.objectMapper = objectMapper;
+		this.fsync = fsync;
+		if (path.getParent() != null) {
+			Files.createDirectories(path.getParent());
+		}
+		this.channel = open(path);
+	}
+
+	// With fsync every delta is on disk before the command is acknowledged; without it a crash of the host (but
+	// not of the process) can lose the deltas still in the page cache
+	public synchronized void append(TrainerWorkloadDelta delta) {
+		try {
+			ByteBuffer line = ByteBuffer.wrap((objectMapper.writeValueAsString(delta) + '\n')
+			        .getBytes(StandardCharsets.UTF_8));
+			while (line.hasRemaining()) {
+				channel.write(line);
+			}
+			if (fsync) {
+				channel.force(false);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to journal trainer workload for username: " + delta.getUsername(),
+			        e);
+		}
+	}
+
+	public List<TrainerWorkloadDelta> readAll() throws IOException {
+		List<TrainerWorkloadDelta> deltas = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				try {
+					deltas.add(objectMapper.readValue(line, TrainerWorkloadDelta.class));
+				} catch (JsonProcessingException e) {
+					// Only the last line can be torn, by a crash in the middle of an append
+					log.warn("Skipping unreadable write-behind journal entry: {}", line);
+				}
+			}
+		}
+		return deltas;
+	}
+
+	public synchronized void truncate() {
+		try {
+			channel.truncate(0);
+			if (fsync) {
+				channel.force(false);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to truncate write-behind journal " + path, e);
+		}
+	}
+
+	// Written beside the journal and moved over it, so a crash leaves either the old journal or the new one
+	public synchronized void replaceWith(List<TrainerWorkloadDelta> deltas) {
+		Path replacement = path.resolveSibling(path.getFileName() + ".tmp");
+		try {
+			List<String> lines = new ArrayList<>(deltas.size());
+			for (TrainerWorkloadDelta delta : deltas) {
+				lines.add(objectMapper.writeValueAsString(delta));
+			}
+			Files.write(replacement, lines, StandardCharsets.UTF_8);
+			if (fsync) {
+				try (FileChannel written = FileChannel.open(replacement, StandardOpenOption.WRITE)) {
+					written.force(false);
+				}
+			}
+
+			channel.close();
+			try {
+				Files.move(replacement, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				channel = open(path);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to rewrite write-behind journal " + path, e);
+		}
+	}
+
+	private static FileChannel open(Path path) throws IOException {
+		return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,338 @@
+package com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadNotFoundException;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ApplyTrainerWorkloadDeltaPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadAllTrainerWorkloadsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerMonthlyWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainersMonthlyWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadYears;
+import com.trainerworkloadservice.TrainerWorkload.domain.YearWorkload;
+import com.trainerworkloadservice.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+// Write-behind in front of TrainerWorkloadRepository. Deltas are netted per trainer-month in memory and written as
+// one bulk update per flush, so a burst of commands for the same month costs a single Mongo write. Only runs of
+// same-direction deltas are netted; a month keeps the rest in order, as a batch does. Single-trainer
+// reads merge the pending deltas over what Mongo returns; bulk reads and exports flush first.
+@Slf4j
+@Repository
+@Primary
+@ConditionalOnProperty(value = "workload.write-behind.enabled", havingValue = "true")
+public class WriteBehindTrainerWorkloadRepository implements ApplyTrainerWorkloadDeltaPort, LoadTrainerWorkloadPort,
+        LoadTrainerMonthlyWorkloadPort, LoadTrainersMonthlyWorkloadPort, LoadAllTrainerWorkloadsPort, DisposableBean {
+	private final TrainerWorkloadRepository delegate;
+	private final WriteBehindJournal journal;
+	private final int flushSize;
+	private final int maxPending;
+	private final ScheduledExecutorService flusher;
+	private final Counter flushFailures;
+	private final Counter requeuedDeltas;
+
+	// Buffering and reads share the lock. A flush holds it exclusively from taking the pending deltas until Mongo
+	// has applied them, so a reader never sees a delta both pending and applied, or neither.
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+	// Months of each trainer in the order they were last updated, so the last one carries the latest personal info
+	private Map<String, LinkedHashMap<YearMonth, List<TrainerWorkloadDelta>>> pending = new ConcurrentHashMap<>();
+
+	public WriteBehindTrainerWorkloadRepository(TrainerWorkloadRepository delegate, ObjectMapper objectMapper,
+	        MeterRegistry meterRegistry, @Value("${workload.write-behind.flush-interval:1s}") Duration flushInterval,
+	        @Value("${workload.write-behind.flush-size:1000}") int flushSize,
+	        @Value("${workload.write-behind.max-pending:100000}") int maxPending,
+	        @Value("${workload.write-behind.journal.path:}") String journalPath,
+	        @Value("${workload.write-behind.journal.fsync:false}") boolean journalFsync) throws IOException {
+		this.delegate = delegate;
+		this.flushSize = flushSize;
+		this.maxPending = maxPending;
+		this.flushFailures = Counter.builder("workload.write-behind.flush.failures")
+		        .description("Flushes that could not reach Mongo and were retried").register(meterRegistry);
+		this.requeuedDeltas = Counter.builder("workload.write-behind.requeued")
+		        .description("Pending deltas rejected by Mongo on flush and kept for the next one")
+		        .register(meterRegistry);
+		Gauge.builder("workload.write-behind.pending", pendingCount, AtomicInteger::get)
+		        .description("Netted deltas waiting to be flushed").register(meterRegistry);
+
+		this.journal = journalPath.isBlank()
+		        ? null
+		        : new WriteBehindJournal(Path.of(journalPath), objectMapper, journalFsync);
+		if (journal != null) {
+			List<TrainerWorkloadDelta> replayed = journal.readAll();
+			replayed.forEach(this::merge);
+			log.info("Replayed {} trainer workload deltas from write-behind journal {}", replayed.size(), journalPath);
+		}
+
+		this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable,
+		        "workload-write-behind"));
+		flusher.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(),
+		        TimeUnit.MILLISECONDS);
+
+		log.info("Trainer workload write-behind enabled, flushing every {} or at {} pending deltas, journal: {}",
+		        flushInterval, flushSize, journal != null ? journalPath : "none");
+	}
+
+	@Override
+	public void applyDelta(TrainerWorkloadDelta delta) {
+		buffer(List.of(delta));
+	}
+
+	// Failures of individual trainers surface on flush, after the commands have been acknowledged
+	@Override
+	public Map<String, String> applyDeltas(List<TrainerWorkloadDelta> deltas) {
+		buffer(deltas);
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public TrainerMonthlyWorkload findMonthlyWorkload(String username, int year, int month) {
+		lock.readLock().lock();
+		try {
+			List<TrainerWorkloadDelta> deltas = pendingDeltas(username);
+			if (deltas.isEmpty()) {
+				return delegate.findMonthlyWorkload(username, year, month);
+			}
+
+			TrainerWorkloadDelta latest = deltas.get(deltas.size() - 1);
+			int duration = 0;
+			try {
+				duration = delegate.findMonthlyWorkload(username, year, month).getSummaryDuration();
+			} catch (TrainerWorkloadNotFoundException e) {
+				// The trainer only exists in the buffer so far
+			}
+			for (TrainerWorkloadDelta delta : deltas) {
+				if (delta.getYear() == year && delta.getMonth() == month) {
+					duration = Math.max(0, duration + delta.getDuration());
+				}
+			}
+
+			return TrainerMonthlyWorkload.builder().username(username).firstName(latest.getFirstName())
+			        .lastName(latest.getLastName()).isActive(latest.getIsActive()).year(year).month(month)
+			        .summaryDuration(duration).build();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public TrainerWorkload findByUsername(String username) {
+		lock.readLock().lock();
+		try {
+			List<TrainerWorkloadDelta> deltas = pendingDeltas(username);
+			if (deltas.isEmpty()) {
+				return delegate.findByUsername(username);
+			}
+
+			TrainerWorkload stored = null;
+			try {
+				stored = delegate.findByUsername(username);
+			} catch (TrainerWorkloadNotFoundException e) {
+				// The trainer only exists in the buffer so far
+			}
+
+			// The stored workload may be the cached instance, so the pending months go onto a copy
+			TrainerWorkloadDelta latest = deltas.get(deltas.size() - 1);
+			TrainerWorkload merged = TrainerWorkload.builder().id(stored != null ? stored.getId() : null)
+			        .username(username).firstName(latest.getFirstName()).lastName(latest.getLastName())
+			        .isActive(latest.getIsActive()).years(copyOf(stored)).build();
+			for (TrainerWorkloadDelta delta : deltas) {
+				merged.getYears().getOrCreate(delta.getYear()).addDuration(delta.getMonth(), delta.getDuration());
+			}
+			return merged;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public int forEachMonthlyWorkload(List<String> usernames, Boolean isActive, int year, int month,
+	        Consumer<TrainerMonthlyWorkload> consumer) {
+		flush();
+		return delegate.forEachMonthlyWorkload(usernames, isActive, year, month, consumer);
+	}
+
+	@Override
+	public int forEachTrainerWorkload(String fromUsername, int batchSize, Consumer<TrainerWorkload> consumer) {
+		flush();
+		return delegate.forEachTrainerWorkload(fromUsername, batchSize, consumer);
+	}
+
+	public void flush() {
+		flushRequested.set(false);
+		lock.writeLock().lock();
+		try {
+			if (pending.isEmpty()) {
+				return;
+			}
+
+			Map<String, LinkedHashMap<YearMonth, List<TrainerWorkloadDelta>>> flushing = pending;
+			List<TrainerWorkloadDelta> deltas = new ArrayList<>(pendingCount.get());
+			flushing.values().forEach(months -> months.values().forEach(deltas::addAll));
+
+			Map<String, String> failures;
+			try {
+				failures = delegate.applyDeltas(deltas);
+			} catch (RuntimeException e) {
+				// Everything stays pending, and journaled, for the next flush. Bulk reads fail rather than answer
+				// without the pending months.
+				flushFailures.increment();
+				throw e;
+			}
+
+			// The months of the trainers Mongo rejected stay pending, like a failed flush, and are all the journal
+			// keeps
+			Map<String, LinkedHashMap<YearMonth, List<TrainerWorkloadDelta>>> requeued = new ConcurrentHashMap<>();
+			List<TrainerWorkloadDelta> unflushed = new ArrayList<>();
+			failures.forEach((username, error) -> {
+				LinkedHashMap<YearMonth, List<TrainerWorkloadDelta>> months = flushing.get(username);
+				requeued.put(username, months);
+				int before = unflushed.size();
+				months.values().forEach(unflushed::addAll);
+				requeuedDeltas.increment(unflushed.size() - before);
+				log.error("Flush of {} pending months of trainer: {} failed, retrying on the next flush: {}",
+				        months.size(), username, error);
+			});
+			pending = requeued;
+			pendingCount.set(unflushed.size());
+			if (journal != null) {
+				if (unflushed.isEmpty()) {
+					journal.truncate();
+				} else {
+					journal.replaceWith(unflushed);
+				}
+			}
+			log.debug("Write-behind flushed {} deltas of {} trainers", deltas.size() - unflushed.size(),
+			        flushing.size() - requeued.size());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void destroy() throws IOException, InterruptedException {
+		flusher.shutdown();
+		flusher.awaitTermination(30, TimeUnit.SECONDS);
+		flushQuietly();
+		if (pendingCount.get() > 0) {
+			log.error("Shutting down with {} trainer workload deltas not flushed, {}", pendingCount.get(),
+			        journal != null ? "they stay in the journal for the next start" : "they are lost");
+		}
+		if (journal != null) {
+			journal.close();
+		}
+	}
+
+	private void buffer(List<TrainerWorkloadDelta> deltas) {
+		lock.readLock().lock();
+		try {
+			if (pendingCount.get() + deltas.size() > maxPending) {
+				throw new ServiceUnavailableException("Trainer workload write-behind buffer is full, retry later");
+			}
+			for (TrainerWorkloadDelta delta : deltas) {
+				if (journal != null) {
+					journal.append(delta);
+				}
+				merge(delta);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		if (pendingCount.get() >= flushSize && flushRequested.compareAndSet(false, true)) {
+			flusher.execute(this::flushQuietly);
+		}
+	}
+
+	private void merge(TrainerWorkloadDelta delta) {
+		pending.compute(delta.getUsername(), (username, months) -> {
+			LinkedHashMap<YearMonth, List<TrainerWorkloadDelta>> trainerMonths = months != null
+			        ? months
+			        : new LinkedHashMap<>();
+			List<TrainerWorkloadDelta> monthDeltas = trainerMonths.remove(YearMonth.of(delta.getYear(),
+			        delta.getMonth()));
+			if (monthDeltas == null) {
+				monthDeltas = new ArrayList<>();
+			}
+			int last = monthDeltas.size() - 1;
+			if (last >= 0 && monthDeltas.get(last).canNetWith(delta)) {
+				monthDeltas.set(last, net(monthDeltas.get(last), delta));
+			} else {
+				monthDeltas.add(delta);
+				pendingCount.incrementAndGet();
+			}
+			trainerMonths.put(YearMonth.of(delta.getYear(), delta.getMonth()), monthDeltas);
+			return trainerMonths;
+		});
+	}
+
+	// Net the minutes and keep the personal info of the latest command, as a batch does
+	private TrainerWorkloadDelta net(TrainerWorkloadDelta previous, TrainerWorkloadDelta latest) {
+		return TrainerWorkloadDelta.builder().username(latest.getUsername()).firstName(latest.getFirstName())
+		        .lastName(latest.getLastName()).isActive(latest.getIsActive()).year(latest.getYear())
+		        .month(latest.getMonth()).duration(previous.getDuration() + latest.getDuration()).build();
+	}
+
+	// Copied under the map's lock for the trainer, which is the one concurrent buffering of that trainer holds
+	private List<TrainerWorkloadDelta> pendingDeltas(String username) {
+		List<TrainerWorkloadDelta> deltas = new ArrayList<>();
+		pending.computeIfPresent(username, (key, months) -> {
+			months.values().forEach(deltas::addAll);
+			return months;
+		});
+		return deltas;
+	}
+
+	private WorkloadYears copyOf(TrainerWorkload stored) {
+		WorkloadYears years = new WorkloadYears();
+		if (stored == null || stored.getYears() == null) {
+			return years;
+		}
+		for (YearWorkload yearWorkload : stored.getYears()) {
+			YearWorkload copy = years.getOrCreate(yearWorkload.getYear());
+			for (int month = 1; month <= YearWorkload.MONTHS_IN_YEAR; month++) {
+				if (yearWorkload.hasMonth(month)) {
+					copy.setDuration(month, yearWorkload.getDuration(month));
+				}
+			}
+		}
+		return years;
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			log.error("Write-behind flush of {} trainer workload deltas failed, retrying on the next flush: {}",
+			        pendingCount.get(), e.getMessage(), e);
+		}
+	}
+}
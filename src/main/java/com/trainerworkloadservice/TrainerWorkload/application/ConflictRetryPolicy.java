@@ -0,0 +1,63 @@
+package com.trainerworkloadservice.TrainerWorkload.application;
+
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Retries a trainer workload write that lost a race with another writer of the same trainer. A conflicting write
+// changes nothing, so running it again cannot apply a command twice.
+@Slf4j
+@Component
+public class ConflictRetryPolicy {
+	private final int maxAttempts;
+	private final long backoffMillis;
+	private final Counter conflicts;
+	private final Counter retries;
+
+	public ConflictRetryPolicy(@Value("${workload.update.max-attempts:3}") int maxAttempts,
+	        @Value("${workload.update.retry-backoff:20ms}") Duration backoff, MeterRegistry meterRegistry) {
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.backoffMillis = backoff.toMillis();
+		this.conflicts = Counter.builder("workload.update.conflicts")
+		        .description("Trainer workload writes rejected because another writer changed the trainer first")
+		        .register(meterRegistry);
+		this.retries = Counter.builder("workload.update.retries")
+		        .description("Trainer workload writes retried after a conflict").register(meterRegistry);
+	}
+
+	public void run(String username, Runnable update) {
+		for (int attempt = 1;; attempt++) {
+			try {
+				update.run();
+				return;
+			} catch (TrainerWorkloadConflictException e) {
+				conflicts.increment();
+				if (attempt >= maxAttempts) {
+					throw e;
+				}
+				retries.increment();
+				log.debug("Retrying trainer workload update for username: {} after conflict {}", username, attempt);
+				backOff(attempt);
+			}
+		}
+	}
+
+	// Full jitter over a window that doubles with each attempt, so writers that collided do not collide again
+	private void backOff(int attempt) {
+		long window = backoffMillis << Math.min(attempt - 1, 10);
+		if (window <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(window + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while retrying a trainer workload update", e);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.trainerworkloadservice.TrainerWorkload.application;
+
+import com.trainerworkloadservice.TrainerWorkload.application.factory.TrainerWorkloadFactory;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ReactiveLoadTrainerMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ReactiveProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.AppendTrainerWorkloadEventPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ReactiveApplyTrainerWorkloadDeltaPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ReactiveLoadTrainerMonthlyWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTrainerWorkloadService implements ReactiveProcessTrainerWorkloadUseCase,
+        ReactiveLoadTrainerMonthlyWorkloadUseCase {
+	private final ReactiveLoadTrainerMonthlyWorkloadPort reactiveLoadTrainerMonthlyWorkloadPort;
+	private final ReactiveApplyTrainerWorkloadDeltaPort reactiveApplyTrainerWorkloadDeltaPort;
+	private final TrainerWorkloadFactory trainerWorkloadFactory;
+	private final AppendTrainerWorkloadEventPort appendTrainerWorkloadEventPort;
+	private final boolean journalEnabled;
+	private final Counter journalFailures;
+
+	public ReactiveTrainerWorkloadService(
+	        ReactiveLoadTrainerMonthlyWorkloadPort reactiveLoadTrainerMonthlyWorkloadPort,
+	        ReactiveApplyTrainerWorkloadDeltaPort reactiveApplyTrainerWorkloadDeltaPort,
+	        TrainerWorkloadFactory trainerWorkloadFactory,
+	        AppendTrainerWorkloadEventPort appendTrainerWorkloadEventPort,
+	        @Value("${workload.journal.enabled:false}") boolean journalEnabled, MeterRegistry meterRegistry) {
+		this.reactiveLoadTrainerMonthlyWorkloadPort = reactiveLoadTrainerMonthlyWorkloadPort;
+		this.reactiveApplyTrainerWorkloadDeltaPort = reactiveApplyTrainerWorkloadDeltaPort;
+		this.trainerWorkloadFactory = trainerWorkloadFactory;
+		this.appendTrainerWorkloadEventPort = appendTrainerWorkloadEventPort;
+		this.journalEnabled = journalEnabled;
+		this.journalFailures = Counter.builder("workload.journal.append.failures")
+		        .description("Applied trainer workload changes the journal could not record").register(meterRegistry);
+	}
+
+	@Override
+	public Mono<Void> processTrainerWorkload(ProcessTrainerWorkloadCommand command) {
+		return Mono.fromCallable(() -> trainerWorkloadFactory.createDeltaFrom(command))
+		        .flatMap(delta -> reactiveApplyTrainerWorkloadDeltaPort.applyDelta(delta)
+		                .then(journal(delta, command.getTransactionId())))
+		        .doOnSuccess(ignored -> log.info("Trainer workload processed successfully for username: {}, action: {}",
+		                command.getUsername(), command.getActionType()));
+	}
+
+	@Override
+	public Mono<TrainerMonthlyWorkload> loadTrainerMonthlyWorkload(String username, int year, int month,
+	        String transactionId) {
+		return reactiveLoadTrainerMonthlyWorkloadPort.findMonthlyWorkload(username, year, month)
+		        .switchIfEmpty(Mono.fromSupplier(() -> {
+			        log.warn("Trainer workload not found for username: {}. Returning empty workload.", username);
+			        return TrainerMonthlyWorkload.builder().username(username).year(year).month(month)
+			                .summaryDuration(0).build();
+		        }));
+	}
+
+	// Same append as the servlet path, best-effort for the same reason. The journal port blocks, so it runs off the
+	// event loop, and only when the journal is enabled so that the usual path does not hop threads.
+	private Mono<Void> journal(TrainerWorkloadDelta delta, String transactionId) {
+		if (!journalEnabled) {
+			return Mono.empty();
+		}
+		return Mono.<Void>fromRunnable(() -> {
+			TrainerWorkloadEvent event = TrainerWorkloadEvent.of(delta, transactionId, Instant.now());
+			try {
+				appendTrainerWorkloadEventPort.append(List.of(event));
+			} catch (RuntimeException e) {
+				journalFailures.increment();
+				log.error("Journal missed an applied trainer workload change: {}, event: {}", e.getMessage(), event,
+				        e);
+			}
+		}).subscribeOn(Schedulers.boundedElastic());
+	}
+}
@@ -0,0 +1,180 @@
+package com.trainerworkloadservice.TrainerWorkload.application;
+
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadBatchUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadResult;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@Primary
+@ConditionalOnProperty(value = "workload.processing.mode", havingValue = "striped")
+public class StripedTrainerWorkloadService
+        implements ProcessTrainerWorkloadUseCase, ProcessTrainerWorkloadBatchUseCase, DisposableBean {
+	private static final String SATURATED = "Trainer workload processing is saturated, retry later";
+
+	private final ProcessTrainerWorkloadUseCase delegate;
+	private final ProcessTrainerWorkloadBatchUseCase batchDelegate;
+	private final ThreadPoolExecutor[] lanes;
+	private final Counter rejectedCounter;
+
+	public StripedTrainerWorkloadService(TrainerWorkloadService delegate, MeterRegistry meterRegistry,
+	        @Value("${workload.processing.lanes:0}") int laneCount,
+	        @Value("${workload.processing.lane-capacity:1000}") int laneCapacity) {
+		this.delegate = delegate;
+		this.batchDelegate = delegate;
+		this.lanes = new ThreadPoolExecutor[laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors()];
+		this.rejectedCounter = Counter.builder("workload.lane.rejected")
+		        .description("Commands rejected because their lane was saturated").register(meterRegistry);
+
+		for (int i = 0; i < lanes.length; i++) {
+			String laneName = "workload-lane-" + i;
+			ArrayBlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(laneCapacity);
+			lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue,
+			        runnable -> new Thread(runnable, laneName), new ThreadPoolExecutor.AbortPolicy());
+
+			Gauge.builder("workload.lane.queue.depth", queue, ArrayBlockingQueue::size).tag("lane", String.valueOf(i))
+			        .description("Commands waiting in the lane").register(meterRegistry);
+			Gauge.builder("workload.lane.saturation", queue, q -> (double) q.size() / laneCapacity)
+			        .tag("lane", String.valueOf(i)).description("Fraction of the lane capacity in use")
+			        .register(meterRegistry);
+		}
+
+		log.info("Trainer workload processing striped across {} lanes with capacity {}", lanes.length, laneCapacity);
+	}
+
+	@Override
+	public void processTrainerWorkload(ProcessTrainerWorkloadCommand command) {
+		ThreadPoolExecutor lane = lanes[laneOf(command)];
+
+		// Lane threads log on behalf of the caller, so they take over its MDC for the duration of the command
+		Map<String, String> callerContext = MDC.getCopyOfContextMap();
+		Future<?> result;
+		try {
+			result = lane.submit(() -> inContext(callerContext, () -> {
+				delegate.processTrainerWorkload(command);
+				return null;
+			}));
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			log.warn("Rejected trainer workload for username: {}, lane is saturated", command.getUsername());
+			throw new ServiceUnavailableException(SATURATED);
+		}
+
+		await(result, command);
+	}
+
+	@Override
+	public List<ProcessTrainerWorkloadResult> processTrainerWorkloadBatch(
+	        List<ProcessTrainerWorkloadCommand> commands) {
+		// Each lane runs the part of the batch whose usernames it owns, in batch order, so that neither a batch nor
+		// a single command can overtake another for the same trainer
+		Map<Integer, List<Integer>> indexesByLane = new LinkedHashMap<>();
+		for (int i = 0; i < commands.size(); i++) {
+			indexesByLane.computeIfAbsent(laneOf(commands.get(i)), lane -> new ArrayList<>()).add(i);
+		}
+
+		Map<String, String> callerContext = MDC.getCopyOfContextMap();
+		ProcessTrainerWorkloadResult[] results = new ProcessTrainerWorkloadResult[commands.size()];
+		Map<List<Integer>, Future<List<ProcessTrainerWorkloadResult>>> parts = new LinkedHashMap<>();
+		indexesByLane.forEach((lane, indexes) -> {
+			List<ProcessTrainerWorkloadCommand> part = indexes.stream().map(commands::get).toList();
+			try {
+				parts.put(indexes, lanes[lane].submit(
+				        () -> inContext(callerContext, () -> batchDelegate.processTrainerWorkloadBatch(part))));
+			} catch (RejectedExecutionException e) {
+				// The other lanes may already be writing their part, so only this part is reported as failed
+				rejectedCounter.increment();
+				log.warn("Rejected {} trainer workload commands of a batch, lane {} is saturated", part.size(), lane);
+				indexes.forEach(index -> results[index] = ProcessTrainerWorkloadResult.failure(SATURATED));
+			}
+		});
+
+		parts.forEach((indexes, part) -> {
+			List<ProcessTrainerWorkloadResult> partResults = awaitPart(part, indexes.size());
+			for (int i = 0; i < indexes.size(); i++) {
+				results[indexes.get(i)] = partResults.get(i);
+			}
+		});
+		return Arrays.asList(results);
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		for (ThreadPoolExecutor lane : lanes) {
+			lane.shutdown();
+		}
+		for (ThreadPoolExecutor lane : lanes) {
+			lane.awaitTermination(30, TimeUnit.SECONDS);
+		}
+	}
+
+	// The same username always hashes onto the same single-threaded lane, which keeps its commands ordered
+	private int laneOf(ProcessTrainerWorkloadCommand command) {
+		return Math.floorMod(Objects.hashCode(command.getUsername()), lanes.length);
+	}
+
+	private static <T> T inContext(Map<String, String> context, Callable<T> task) throws Exception {
+		if (context != null) {
+			MDC.setContextMap(context);
+		}
+		try {
+			return task.call();
+		} finally {
+			MDC.clear();
+		}
+	}
+
+	private void await(Future<?> result, ProcessTrainerWorkloadCommand command) {
+		try {
+			result.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ServiceUnavailableException(
+			        "Interrupted while processing trainer workload for transaction: " + command.getTransactionId());
+		}
+	}
+
+	private List<ProcessTrainerWorkloadResult> awaitPart(Future<List<ProcessTrainerWorkloadResult>> part, int size) {
+		try {
+			return part.get();
+		} catch (ExecutionException e) {
+			String message = e.getCause().getMessage();
+			log.error("Trainer workload batch part of {} commands failed: {}", size, message);
+			return Collections.nCopies(size, ProcessTrainerWorkloadResult.failure(message));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ServiceUnavailableException("Interrupted while processing trainer workload batch");
+		}
+	}
+}
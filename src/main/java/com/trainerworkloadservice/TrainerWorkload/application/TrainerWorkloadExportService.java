@@ -0,0 +1,53 @@
+package com.trainerworkloadservice.TrainerWorkload.application;
+
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ExportTrainerWorkloadsUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadExportQuery;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadExportRow;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadAllTrainerWorkloadsPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.YearWorkload;
+import io.micrometer.core.annotation.Timed;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrainerWorkloadExportService implements ExportTrainerWorkloadsUseCase {
+	private final LoadAllTrainerWorkloadsPort loadAllTrainerWorkloadsPort;
+
+	@Override
+	@Timed(value = "workload.service.export", histogram = true)
+	public int exportTrainerWorkloads(TrainerWorkloadExportQuery query, Consumer<TrainerWorkloadExportRow> consumer) {
+		log.debug("Exporting trainer workloads from username: {}, batch size: {}", query.getFromUsername(),
+		        query.getBatchSize());
+
+		// Only one trainer document is held at a time; its recorded months are handed on as rows, oldest first
+		long[] rows = new long[1];
+		int trainers = loadAllTrainerWorkloadsPort.forEachTrainerWorkload(query.getFromUsername(),
+		        query.getBatchSize(), trainerWorkload -> rows[0] += flatten(trainerWorkload, consumer));
+
+		log.info("Exported {} workload rows of {} trainers", rows[0], trainers);
+		return trainers;
+	}
+
+	private int flatten(TrainerWorkload trainerWorkload, Consumer<TrainerWorkloadExportRow> consumer) {
+		if (trainerWorkload.getYears() == null) {
+			return 0;
+		}
+
+		int rows = 0;
+		for (YearWorkload yearWorkload : trainerWorkload.getYears()) {
+			for (int month = 1; month <= YearWorkload.MONTHS_IN_YEAR; month++) {
+				if (yearWorkload.hasMonth(month)) {
+					consumer.accept(new TrainerWorkloadExportRow(trainerWorkload.getUsername(), yearWorkload.getYear(),
+					        month, yearWorkload.getDuration(month)));
+					rows++;
+				}
+			}
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,306 @@
+package com.trainerworkloadservice.TrainerWorkload.application;
+
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ReplayTrainerWorkloadJournalUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadReplayResult;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadAllTrainerWorkloadsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerWorkloadEventsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ReplaceTrainerWorkloadsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.TrainerWorkloadSnapshotPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+// Rebuilds trainer workloads from the event journal, and periodically folds new events into per-trainer snapshots
+// so that a rebuild only replays what happened since the last snapshot. The journal only holds changes made since it
+// was enabled, so the first start with it enabled snapshots every trainer as the baseline the events replay onto.
+@Slf4j
+@Service
+@ConditionalOnProperty(value = "workload.journal.enabled", havingValue = "true")
+public class TrainerWorkloadJournalService implements ReplayTrainerWorkloadJournalUseCase, DisposableBean {
+	// Events still in flight when a snapshot starts may carry a slightly earlier recordedAt than events already
+	// stored, so a snapshot only covers events older than this
+	private static final Duration SNAPSHOT_LAG = Duration.ofMinutes(1);
+	private static final int WRITE_BATCH_SIZE = 500;
+	private static final int SAMPLES_PER_PARTITION = 20;
+
+	private final LoadTrainerWorkloadEventsPort loadTrainerWorkloadEventsPort;
+	private final TrainerWorkloadSnapshotPort trainerWorkloadSnapshotPort;
+	private final LoadAllTrainerWorkloadsPort loadAllTrainerWorkloadsPort;
+	private final ReplaceTrainerWorkloadsPort replaceTrainerWorkloadsPort;
+	private final int parallelism;
+	private final Duration snapshotInterval;
+	private final ScheduledExecutorService snapshotScheduler;
+
+	public TrainerWorkloadJournalService(LoadTrainerWorkloadEventsPort loadTrainerWorkloadEventsPort,
+	        TrainerWorkloadSnapshotPort trainerWorkloadSnapshotPort,
+	        LoadAllTrainerWorkloadsPort loadAllTrainerWorkloadsPort,
+	        ReplaceTrainerWorkloadsPort replaceTrainerWorkloadsPort,
+	        @Value("${workload.journal.replay-parallelism:0}") int parallelism,
+	        @Value("${workload.journal.snapshot-interval:1h}") Duration snapshotInterval) {
+		this.loadTrainerWorkloadEventsPort = loadTrainerWorkloadEventsPort;
+		this.trainerWorkloadSnapshotPort = trainerWorkloadSnapshotPort;
+		this.loadAllTrainerWorkloadsPort = loadAllTrainerWorkloadsPort;
+		this.replaceTrainerWorkloadsPort = replaceTrainerWorkloadsPort;
+		this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		this.snapshotInterval = snapshotInterval;
+
+		if (snapshotInterval.isZero()) {
+			this.snapshotScheduler = null;
+		} else {
+			this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable,
+			        "workload-journal-snapshot"));
+			snapshotScheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotInterval.toMillis(),
+			        snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	// Writes the replayed state over trainer_workloads. Commands processed while it runs may be overwritten, so
+	// it is meant for a service whose consumers are stopped.
+	@Override
+	public TrainerWorkloadReplayResult rebuildTrainerWorkloads() {
+		// Without the baseline a trainer would be rebuilt from its journaled events alone, erasing older minutes
+		if (trainerWorkloadSnapshotPort.loadBaselineTime() == null) {
+			throw new IllegalStateException("The trainer workload journal has no baseline snapshot yet; start the "
+			        + "service with the journal enabled to take it before rebuilding");
+		}
+		log.info("Rebuilding trainer workloads from the journal with {} partitions", parallelism);
+
+		TrainerWorkloadReplayResult result = replay(trainerWorkloadSnapshotPort.loadSnapshotTime(), null, false,
+		        snapshots -> replaceTrainerWorkloadsPort.replaceAll(
+		                snapshots.stream().map(TrainerWorkloadSnapshot::getTrainerWorkload).toList()));
+
+		log.info("Rebuilt {} trainer workloads from {} events in {} ms, {} events/s", result.getTrainers(),
+		        result.getEvents(), result.getElapsedMillis(), result.eventsPerSecond());
+		return result;
+	}
+
+	@Override
+	public TrainerWorkloadReplayResult snapshotTrainerWorkloads() {
+		if (trainerWorkloadSnapshotPort.loadBaselineTime() == null) {
+			log.debug("Skipping trainer workload snapshot, the journal has no baseline yet");
+			return TrainerWorkloadReplayResult.builder().build();
+		}
+		// Every instance schedules snapshots; the lease lets only one of them take each one
+		if (!trainerWorkloadSnapshotPort.tryLeaseSnapshot(snapshotLease())) {
+			log.debug("Skipping trainer workload snapshot, another instance is taking it");
+			return TrainerWorkloadReplayResult.builder().build();
+		}
+
+		Instant takenAt = Instant.now().minus(SNAPSHOT_LAG);
+		TrainerWorkloadReplayResult result = replay(trainerWorkloadSnapshotPort.loadSnapshotTime(), takenAt, true,
+		        trainerWorkloadSnapshotPort::saveSnapshots);
+		trainerWorkloadSnapshotPort.saveSnapshotTime(takenAt);
+
+		log.info("Snapshot of {} trainer workloads taken at {} from {} events in {} ms", result.getTrainers(),
+		        takenAt, result.getEvents(), result.getElapsedMillis());
+		return result;
+	}
+
+	// Commands applied while the baseline is copied may be counted both in it and in a later event, so the journal is
+	// best first enabled on a quiet service. A failed baseline is retried on the next start.
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureBaseline() {
+		try {
+			if (trainerWorkloadSnapshotPort.loadBaselineTime() == null) {
+				takeBaseline();
+			}
+		} catch (RuntimeException e) {
+			log.error("Trainer workload journal baseline failed, rebuilds are refused until it is taken: {}",
+			        e.getMessage(), e);
+		}
+	}
+
+	private TrainerWorkloadReplayResult takeBaseline() {
+		if (!trainerWorkloadSnapshotPort.tryLeaseSnapshot(snapshotLease())) {
+			log.info("Skipping trainer workload journal baseline, another instance is taking it");
+			return TrainerWorkloadReplayResult.builder().build();
+		}
+
+		long started = System.nanoTime();
+		Instant takenAt = Instant.now();
+		List<TrainerWorkloadSnapshot> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+		int trainers = loadAllTrainerWorkloadsPort.forEachTrainerWorkload(null, WRITE_BATCH_SIZE, trainerWorkload -> {
+			batch.add(new TrainerWorkloadSnapshot(trainerWorkload, takenAt));
+			if (batch.size() == WRITE_BATCH_SIZE) {
+				trainerWorkloadSnapshotPort.saveSnapshots(List.copyOf(batch));
+				batch.clear();
+			}
+		});
+		if (!batch.isEmpty()) {
+			trainerWorkloadSnapshotPort.saveSnapshots(batch);
+		}
+		trainerWorkloadSnapshotPort.saveSnapshotTime(takenAt);
+		trainerWorkloadSnapshotPort.saveBaselineTime(takenAt);
+
+		TrainerWorkloadReplayResult result = TrainerWorkloadReplayResult.builder().trainers(trainers)
+		        .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).build();
+		log.info("Trainer workload journal baseline of {} trainers taken at {} in {} ms", trainers, takenAt,
+		        result.getElapsedMillis());
+		return result;
+	}
+
+	@Override
+	public void destroy() {
+		if (snapshotScheduler != null) {
+			snapshotScheduler.shutdownNow();
+		}
+	}
+
+	// Trainers are split into username ranges replayed in parallel; each range merges its sorted snapshots with its
+	// sorted events, so a trainer is complete, and written, as soon as the events move on to the next username.
+	private TrainerWorkloadReplayResult replay(Instant after, Instant until, boolean changedOnly,
+	        Consumer<List<TrainerWorkloadSnapshot>> sink) {
+		long started = System.nanoTime();
+		List<String> boundaries = partitionBoundaries();
+
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService workers = Executors.newFixedThreadPool(boundaries.size() + 1,
+		        runnable -> new Thread(runnable, "workload-journal-replay-" + threadCount.getAndIncrement()));
+		try {
+			List<Future<long[]>> partitions = new ArrayList<>();
+			for (int i = 0; i <= boundaries.size(); i++) {
+				String fromUsername = i == 0 ? null : boundaries.get(i - 1);
+				String toUsername = i == boundaries.size() ? null : boundaries.get(i);
+				partitions.add(workers.submit(
+				        () -> replayPartition(fromUsername, toUsername, after, until, changedOnly, sink)));
+			}
+
+			long trainers = 0;
+			long events = 0;
+			for (Future<long[]> partition : partitions) {
+				long[] counts = await(partition);
+				trainers += counts[0];
+				events += counts[1];
+			}
+			return TrainerWorkloadReplayResult.builder().trainers(trainers).events(events)
+			        .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).build();
+		} finally {
+			workers.shutdownNow();
+		}
+	}
+
+	private long[] replayPartition(String fromUsername, String toUsername, Instant after, Instant until,
+	        boolean changedOnly, Consumer<List<TrainerWorkloadSnapshot>> sink) {
+		long trainers = 0;
+		long events = 0;
+		List<TrainerWorkloadSnapshot> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+		try (Stream<TrainerWorkloadSnapshot> snapshotStream = trainerWorkloadSnapshotPort.streamSnapshots(fromUsername,
+		        toUsername);
+		        Stream<TrainerWorkloadEvent> eventStream = loadTrainerWorkloadEventsPort.streamEvents(fromUsername,
+		                toUsername, after, until)) {
+			Iterator<TrainerWorkloadSnapshot> snapshots = snapshotStream.iterator();
+			Iterator<TrainerWorkloadEvent> eventIterator = eventStream.iterator();
+			TrainerWorkloadSnapshot snapshot = snapshots.hasNext() ? snapshots.next() : null;
+			TrainerWorkloadEvent event = eventIterator.hasNext() ? eventIterator.next() : null;
+
+			while (snapshot != null || event != null) {
+				String username = nextUsername(snapshot, event);
+				TrainerWorkloadSnapshot current;
+				if (snapshot != null && snapshot.getTrainerWorkload().getUsername().equals(username)) {
+					current = snapshot;
+					snapshot = snapshots.hasNext() ? snapshots.next() : null;
+				} else {
+					current = new TrainerWorkloadSnapshot(TrainerWorkload.builder().username(username).build(), null);
+				}
+
+				boolean changed = false;
+				while (event != null && event.getUsername().equals(username)) {
+					// A snapshot saved by a run that stopped before recording the snapshot time already holds these
+					if (current.getTakenAt() == null || event.getRecordedAt().isAfter(current.getTakenAt())) {
+						event.applyTo(current.getTrainerWorkload());
+						changed = true;
+						events++;
+					}
+					event = eventIterator.hasNext() ? eventIterator.next() : null;
+				}
+
+				if (changed || !changedOnly) {
+					current.setTakenAt(until);
+					batch.add(current);
+					trainers++;
+				}
+				if (batch.size() == WRITE_BATCH_SIZE) {
+					sink.accept(batch);
+					batch = new ArrayList<>(WRITE_BATCH_SIZE);
+				}
+			}
+		}
+		if (!batch.isEmpty()) {
+			sink.accept(batch);
+		}
+		return new long[]{trainers, events};
+	}
+
+	private String nextUsername(TrainerWorkloadSnapshot snapshot, TrainerWorkloadEvent event) {
+		if (snapshot == null) {
+			return event.getUsername();
+		}
+		String snapshotUsername = snapshot.getTrainerWorkload().getUsername();
+		if (event == null || snapshotUsername.compareTo(event.getUsername()) <= 0) {
+			return snapshotUsername;
+		}
+		return event.getUsername();
+	}
+
+	// Range boundaries are quantiles of a random sample of usernames, which keeps the partitions roughly even
+	private List<String> partitionBoundaries() {
+		if (parallelism == 1) {
+			return List.of();
+		}
+		List<String> sample = new ArrayList<>(new TreeSet<>(
+		        loadTrainerWorkloadEventsPort.sampleUsernames(parallelism * SAMPLES_PER_PARTITION)));
+		TreeSet<String> boundaries = new TreeSet<>();
+		for (int i = 1; i < parallelism && !sample.isEmpty(); i++) {
+			boundaries.add(sample.get(i * sample.size() / parallelism));
+		}
+		return new ArrayList<>(boundaries);
+	}
+
+	private Duration snapshotLease() {
+		return snapshotInterval.isZero() ? SNAPSHOT_LAG : snapshotInterval;
+	}
+
+	private long[] await(Future<long[]> partition) {
+		try {
+			return partition.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while replaying the trainer workload journal", e);
+		}
+	}
+
+	private void snapshotQuietly() {
+		try {
+			snapshotTrainerWorkloads();
+		} catch (RuntimeException e) {
+			log.error("Trainer workload snapshot failed: {}", e.getMessage(), e);
+		}
+	}
+}
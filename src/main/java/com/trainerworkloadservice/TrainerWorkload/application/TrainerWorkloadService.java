@@ -1,175 +1,351 @@
 package com.trainerworkloadservice.TrainerWorkload.application;
 
+import com.trainerworkloadservice.TrainerWorkload.application.exception.InvalidWorkloadRangeException;
 import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadNotFoundException;
 import com.trainerworkloadservice.TrainerWorkload.application.factory.TrainerWorkloadFactory;
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainerMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainersMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadBatchUseCase;
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadResult;
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainersMonthlyWorkloadQuery;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.AppendTrainerWorkloadEventPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ApplyTrainerWorkloadDeltaPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerMonthlyWorkloadPort;
 import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerWorkloadPort;
-import com.trainerworkloadservice.TrainerWorkload.application.port.output.UpdateTrainerWorkloadPort;
-import com.trainerworkloadservice.TrainerWorkload.domain.MonthWorkload;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainersMonthlyWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
 import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
 import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
-import com.trainerworkloadservice.TrainerWorkload.domain.YearWorkload;
-import java.time.LocalDate;
-import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadRange;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class TrainerWorkloadService implements ProcessTrainerWorkloadUseCase, LoadTrainerMonthlyWorkloadUseCase {
+public class TrainerWorkloadService implements ProcessTrainerWorkloadUseCase, ProcessTrainerWorkloadBatchUseCase,
+        LoadTrainerMonthlyWorkloadUseCase, LoadTrainersMonthlyWorkloadUseCase {
+	private static final YearMonth FIRST_MONTH = YearMonth.of(Year.MIN_VALUE, 1);
+	private static final YearMonth LAST_MONTH = YearMonth.of(Year.MAX_VALUE, 12);
+
+	private final LoadTrainerMonthlyWorkloadPort loadTrainerMonthlyWorkloadPort;
 	private final LoadTrainerWorkloadPort loadTrainerWorkloadPort;
-	private final UpdateTrainerWorkloadPort updateTrainerWorkloadPort;
+	private final LoadTrainersMonthlyWorkloadPort loadTrainersMonthlyWorkloadPort;
+	private final ApplyTrainerWorkloadDeltaPort applyTrainerWorkloadDeltaPort;
 	private final TrainerWorkloadFactory trainerWorkloadFactory;
+	private final AppendTrainerWorkloadEventPort appendTrainerWorkloadEventPort;
+	private final ConflictRetryPolicy conflictRetryPolicy;
+	private final TransactionDeduplicator transactionDeduplicator;
+	private final Map<ActionType, Counter> processedCommands = new EnumMap<>(ActionType.class);
+	private final Counter trainerNotFound;
+	private final Counter journalFailures;
+
+	public TrainerWorkloadService(LoadTrainerMonthlyWorkloadPort loadTrainerMonthlyWorkloadPort,
+	        LoadTrainerWorkloadPort loadTrainerWorkloadPort,
+	        LoadTrainersMonthlyWorkloadPort loadTrainersMonthlyWorkloadPort,
+	        ApplyTrainerWorkloadDeltaPort applyTrainerWorkloadDeltaPort, TrainerWorkloadFactory trainerWorkloadFactory,
+	        AppendTrainerWorkloadEventPort appendTrainerWorkloadEventPort, ConflictRetryPolicy conflictRetryPolicy,
+	        TransactionDeduplicator transactionDeduplicator, MeterRegistry meterRegistry) {
+		this.loadTrainerMonthlyWorkloadPort = loadTrainerMonthlyWorkloadPort;
+		this.loadTrainerWorkloadPort = loadTrainerWorkloadPort;
+		this.loadTrainersMonthlyWorkloadPort = loadTrainersMonthlyWorkloadPort;
+		this.applyTrainerWorkloadDeltaPort = applyTrainerWorkloadDeltaPort;
+		this.trainerWorkloadFactory = trainerWorkloadFactory;
+		this.appendTrainerWorkloadEventPort = appendTrainerWorkloadEventPort;
+		this.conflictRetryPolicy = conflictRetryPolicy;
+		this.transactionDeduplicator = transactionDeduplicator;
+		for (ActionType actionType : ActionType.values()) {
+			processedCommands.put(actionType, Counter.builder("workload.commands.processed")
+			        .description("Trainer workload commands applied").tag("action", actionType.name())
+			        .register(meterRegistry));
+		}
+		trainerNotFound = Counter.builder("workload.trainer.not-found")
+		        .description("Monthly workload lookups for trainers without any workload").register(meterRegistry);
+		journalFailures = Counter.builder("workload.journal.append.failures")
+		        .description("Applied trainer workload changes the journal could not record").register(meterRegistry);
+	}
 
 	@Override
+	@Timed(value = "workload.service.process", histogram = true)
 	public void processTrainerWorkload(ProcessTrainerWorkloadCommand command) {
-		log.debug("Transaction [{}]: Processing trainer workload for username: {}", command.getTransactionId(),
-		        command.getUsername());
+		log.debug("Processing trainer workload for username: {}", command.getUsername());
+
+		TrainerWorkloadDelta delta = trainerWorkloadFactory.createDeltaFrom(command);
+		if (!transactionDeduplicator.begin(command.getIdempotencyKey())) {
+			log.info("Skipping already processed trainer workload for username: {}, transaction: {}",
+			        command.getUsername(), command.getIdempotencyKey());
+			return;
+		}
+		try {
+			conflictRetryPolicy.run(command.getUsername(), () -> applyTrainerWorkloadDeltaPort.applyDelta(delta));
+		} catch (RuntimeException e) {
+			transactionDeduplicator.abandon(command.getIdempotencyKey());
+			throw e;
+		}
+		journal(List.of(TrainerWorkloadEvent.of(delta, command.getTransactionId(), Instant.now())));
+		transactionDeduplicator.complete(command.getIdempotencyKey());
+		countProcessed(command);
+
+		log.debug("Applied {} minutes to month {} of year {} for trainer: {}", delta.getDuration(), delta.getMonth(),
+		        delta.getYear(), command.getUsername());
+		log.info("Trainer workload processed successfully for username: {}, action: {}", command.getUsername(),
+		        command.getActionType());
+	}
+
+	@Override
+	@Timed(value = "workload.service.process-batch", histogram = true)
+	public List<ProcessTrainerWorkloadResult> processTrainerWorkloadBatch(
+	        List<ProcessTrainerWorkloadCommand> commands) {
+		log.debug("Processing trainer workload batch of {} commands", commands.size());
+
+		List<ProcessTrainerWorkloadResult> results = new ArrayList<>(commands.size());
+		List<BatchDelta> deltas = new ArrayList<>(commands.size());
+		Map<DeltaKey, Integer> latestDeltas = new HashMap<>();
+		Map<String, Boolean> admitted = new HashMap<>();
+		boolean[] skipped = new boolean[commands.size()];
+		for (int i = 0; i < commands.size(); i++) {
+			ProcessTrainerWorkloadCommand command = commands.get(i);
+			try {
+				TrainerWorkloadDelta delta = trainerWorkloadFactory.createDeltaFrom(command);
+				if (!admit(admitted, batchKey(command))) {
+					log.info("Skipping already processed trainer workload for username: {}, transaction: {}",
+					        command.getUsername(), command.getIdempotencyKey());
+					skipped[i] = true;
+				} else {
+					coalesce(deltas, latestDeltas, new BatchDelta(delta, command.getTransactionId()));
+				}
+				results.add(ProcessTrainerWorkloadResult.success());
+			} catch (RuntimeException e) {
+				log.warn("Rejected trainer workload command for username: {}: {}", command.getUsername(),
+				        e.getMessage());
+				results.add(ProcessTrainerWorkloadResult.failure(e.getMessage()));
+			}
+		}
 
-		TrainerWorkload trainerWorkload = getOrCreateTrainerWorkload(command);
-		updateTrainerPersonalInfo(trainerWorkload, command);
-		updateTrainerWorkloadDuration(trainerWorkload, command);
+		Map<String, String> failures;
+		try {
+			failures = applyTrainerWorkloadDeltaPort
+			        .applyDeltas(deltas.stream().map(BatchDelta::delta).toList());
+		} catch (RuntimeException e) {
+			admitted.forEach((key, begun) -> {
+				if (begun) {
+					transactionDeduplicator.abandon(key);
+				}
+			});
+			throw e;
+		}
+		appendEvents(deltas, failures);
+		finishBatch(commands, admitted, failures);
+		for (int i = 0; i < commands.size(); i++) {
+			String failure = failures.get(commands.get(i).getUsername());
+			if (skipped[i] || !results.get(i).isProcessed()) {
+				continue;
+			}
+			if (failure != null) {
+				results.set(i, ProcessTrainerWorkloadResult.failure(failure));
+			} else {
+				countProcessed(commands.get(i));
+			}
+		}
 
-		updateTrainerWorkloadPort.save(trainerWorkload);
-		log.info("Transaction [{}]: Trainer workload processed successfully for username: {}, action: {}",
-		        command.getTransactionId(), command.getUsername(), command.getActionType());
+		log.info("Trainer workload batch processed: {} commands coalesced into {} updates, {} trainers failed",
+		        commands.size(), deltas.size(), failures.size());
+		return results;
 	}
 
 	@Override
+	@Timed(value = "workload.service.load-monthly", histogram = true)
 	public TrainerMonthlyWorkload loadTrainerMonthlyWorkload(String username, int year, int month,
 	        String transactionId) {
-		log.debug("Transaction [{}]: Getting monthly workload for trainer: {}, year: {}, month: {}", transactionId,
-		        username, year, month);
+		log.debug("Getting monthly workload for trainer: {}, year: {}, month: {}", username, year, month);
 
-		TrainerWorkload trainerWorkload = getTrainerWorkloadOrNull(username, transactionId);
-		if (trainerWorkload == null) {
+		TrainerMonthlyWorkload monthlyWorkload = findMonthlyWorkloadOrNull(username, year, month);
+		if (monthlyWorkload == null) {
 			return createEmptyMonthlyWorkload(username, year, month);
 		}
 
-		return buildTrainerMonthlyWorkload(trainerWorkload, username, year, month, transactionId);
+		log.info("Monthly workload retrieved successfully for trainer: {}, year: {}, month: {}, duration: {}",
+		        username, year, month, monthlyWorkload.getSummaryDuration());
+		return monthlyWorkload;
 	}
 
-	private TrainerWorkload getOrCreateTrainerWorkload(ProcessTrainerWorkloadCommand command) {
-		try {
-			TrainerWorkload existingWorkload = loadTrainerWorkloadPort.findByUsername(command.getUsername());
-			log.debug("Transaction [{}]: Existing trainer workload found for username: {}", command.getTransactionId(),
-			        command.getUsername());
-			return existingWorkload;
-		} catch (TrainerWorkloadNotFoundException e) {
-			TrainerWorkload newWorkload = trainerWorkloadFactory.createFrom(command);
-			log.info("Transaction [{}]: Created new trainer workload for username: {}", command.getTransactionId(),
-			        command.getUsername());
-			return newWorkload;
-		}
+	@Override
+	@Timed(value = "workload.service.load-range", histogram = true)
+	public TrainerWorkloadRange loadTrainerYearlyWorkload(String username, int year, String transactionId) {
+		return loadTrainerWorkloadRange(username, YearMonth.of(year, 1), YearMonth.of(year, 12), transactionId);
 	}
 
-	private void updateTrainerPersonalInfo(TrainerWorkload trainerWorkload, ProcessTrainerWorkloadCommand command) {
-		trainerWorkload.setFirstName(command.getFirstName());
-		trainerWorkload.setLastName(command.getLastName());
-		trainerWorkload.setIsActive(command.getIsActive());
+	@Override
+	@Timed(value = "workload.service.load-range", histogram = true)
+	public TrainerWorkloadRange loadTrainerWorkloadRange(String username, YearMonth from, YearMonth to,
+	        String transactionId) {
+		if (from.isAfter(to)) {
+			throw InvalidWorkloadRangeException.between(from, to);
+		}
+		log.debug("Getting workload for trainer: {}, from: {}, to: {}", username, from, to);
+
+		TrainerWorkloadRange range = loadRange(username, from, to);
+		log.info("Workload range retrieved successfully for trainer: {}, from: {}, to: {}, months: {}", username, from,
+		        to, range.getMonths().size());
+		return range;
 	}
 
-	private void updateTrainerWorkloadDuration(TrainerWorkload trainerWorkload, ProcessTrainerWorkloadCommand command) {
-		LocalDate trainingDate = command.getTrainingDate();
-		int year = trainingDate.getYear();
-		int month = trainingDate.getMonthValue();
-		int duration = command.getTrainingDuration();
+	@Override
+	@Timed(value = "workload.service.load-history", histogram = true)
+	public TrainerWorkloadRange loadTrainerWorkloadHistory(String username, String transactionId) {
+		log.debug("Getting workload history for trainer: {}", username);
 
-		YearWorkload yearWorkload = findOrCreateYearWorkload(trainerWorkload, year);
+		TrainerWorkloadRange range = loadRange(username, FIRST_MONTH, LAST_MONTH);
+		log.info("Workload history retrieved successfully for trainer: {}, months: {}", username,
+		        range.getMonths().size());
+		return range;
+	}
 
-		MonthWorkload monthWorkload = findOrCreateMonthWorkload(yearWorkload, month);
+	@Override
+	@Timed(value = "workload.service.load-monthly-bulk", histogram = true)
+	public int streamTrainersMonthlyWorkload(TrainersMonthlyWorkloadQuery query,
+	        Consumer<TrainerMonthlyWorkload> consumer) {
+		log.debug("Getting monthly workload of trainers for year: {}, month: {}, usernames: {}, active: {}",
+		        query.getYear(), query.getMonth(), query.getUsernames() == null ? "all" : query.getUsernames().size(),
+		        query.getIsActive());
 
-		// Calculate new duration based on action type
-		int newDuration = calculateNewDuration(monthWorkload.getSummaryDuration(), duration, command);
-		monthWorkload.setSummaryDuration(newDuration);
+		int count = loadTrainersMonthlyWorkloadPort.forEachMonthlyWorkload(query.getUsernames(), query.getIsActive(),
+		        query.getYear(), query.getMonth(), consumer);
 
-		log.debug("Transaction [{}]: Updated duration for month {} of year {} for trainer: {} to {}",
-		        command.getTransactionId(), month, year, command.getUsername(), newDuration);
+		log.info("Monthly workload streamed for {} trainers, year: {}, month: {}", count, query.getYear(),
+		        query.getMonth());
+		return count;
 	}
 
-	private int calculateNewDuration(int currentDuration, int duration, ProcessTrainerWorkloadCommand command) {
-		switch (command.getActionType()) {
-			case ADD :
-				int newDuration = currentDuration + duration;
-				log.debug("Transaction [{}]: Added {} minutes to current duration {}", command.getTransactionId(),
-				        duration, currentDuration);
-				return newDuration;
-			case DELETE :
-				int reducedDuration = Math.max(0, currentDuration - duration);
-				log.debug("Transaction [{}]: Deleted {} minutes from current duration {}. Resulting duration: {}",
-				        command.getTransactionId(), duration, currentDuration, reducedDuration);
-				return reducedDuration;
-			default :
-				throw new IllegalArgumentException("Unsupported action type: " + command.getActionType());
+	private void countProcessed(ProcessTrainerWorkloadCommand command) {
+		Counter counter = processedCommands.get(command.getActionType());
+		if (counter != null) {
+			counter.increment();
 		}
 	}
 
-	private TrainerWorkload getTrainerWorkloadOrNull(String username, String transactionId) {
-		try {
-			return loadTrainerWorkloadPort.findByUsername(username);
-		} catch (TrainerWorkloadNotFoundException e) {
-			log.warn("Transaction [{}]: Trainer workload not found for username: {}. Returning empty workload.",
-			        transactionId, username);
-			return null;
-		}
+	// The commands of a batch share the caller's transaction id, and a batch fails trainer by trainer, so each trainer
+	// of the batch is deduplicated on its own
+	private static String batchKey(ProcessTrainerWorkloadCommand command) {
+		String idempotencyKey = command.getIdempotencyKey();
+		return idempotencyKey == null || idempotencyKey.isEmpty() ? null : idempotencyKey + "/" + command.getUsername();
 	}
 
-	private TrainerMonthlyWorkload createEmptyMonthlyWorkload(String username, int year, int month) {
-		return TrainerMonthlyWorkload.builder().username(username).year(year).month(month).summaryDuration(0).build();
+	private boolean admit(Map<String, Boolean> admitted, String key) {
+		if (key == null) {
+			return true;
+		}
+		Boolean begun = admitted.get(key);
+		if (begun == null) {
+			begun = transactionDeduplicator.begin(key);
+			admitted.put(key, begun);
+		}
+		return begun;
 	}
 
-	private TrainerMonthlyWorkload buildTrainerMonthlyWorkload(TrainerWorkload trainerWorkload, String username,
-	        int year, int month, String transactionId) {
+	private void finishBatch(List<ProcessTrainerWorkloadCommand> commands, Map<String, Boolean> admitted,
+	        Map<String, String> failures) {
+		for (ProcessTrainerWorkloadCommand command : commands) {
+			String key = batchKey(command);
+			if (key == null || !Boolean.TRUE.equals(admitted.remove(key))) {
+				continue;
+			}
+			if (failures.containsKey(command.getUsername())) {
+				transactionDeduplicator.abandon(key);
+			} else {
+				transactionDeduplicator.complete(key);
+			}
+		}
+	}
 
-		int summaryDuration = findMonthlyWorkloadDuration(trainerWorkload, year, month, transactionId);
+	// Deltas of one trainer month stay in command order; only a run in the same direction is netted into one
+	private void coalesce(List<BatchDelta> deltas, Map<DeltaKey, Integer> latestDeltas, BatchDelta batchDelta) {
+		TrainerWorkloadDelta delta = batchDelta.delta();
+		DeltaKey key = new DeltaKey(delta.getUsername(), delta.getYear(), delta.getMonth());
+		Integer latest = latestDeltas.get(key);
+		if (latest != null && deltas.get(latest).delta().canNetWith(delta)) {
+			// Net the minutes and keep the personal info of the latest command
+			delta.setDuration(deltas.get(latest).delta().getDuration() + delta.getDuration());
+			deltas.set(latest, batchDelta);
+			return;
+		}
+		latestDeltas.put(key, deltas.size());
+		deltas.add(batchDelta);
+	}
 
-		TrainerMonthlyWorkload response = TrainerMonthlyWorkload.builder().username(username)
-		        .firstName(trainerWorkload.getFirstName()).lastName(trainerWorkload.getLastName())
-		        .isActive(trainerWorkload.getIsActive()).year(year).month(month).summaryDuration(summaryDuration)
-		        .build();
+	// The journal records the netted deltas that were actually applied, in order, so that a replay clamps each
+	// month at zero exactly as the batch did
+	private void appendEvents(List<BatchDelta> deltas, Map<String, String> failures) {
+		List<TrainerWorkloadEvent> events = new ArrayList<>(deltas.size());
+		Instant recordedAt = Instant.now();
+		for (BatchDelta batchDelta : deltas) {
+			if (!failures.containsKey(batchDelta.delta().getUsername())) {
+				events.add(TrainerWorkloadEvent.of(batchDelta.delta(), batchDelta.transactionId(), recordedAt));
+			}
+		}
+		journal(events);
+	}
 
-		log.info(
-		        "Transaction [{}]: Monthly workload retrieved successfully for trainer: {}, year: {}, month: {}, duration: {}",
-		        transactionId, username, year, month, summaryDuration);
-		return response;
+	// The changes are already applied, so failing the command would only make its retry a duplicate that is skipped;
+	// an event the journal missed is logged and counted instead
+	private void journal(List<TrainerWorkloadEvent> events) {
+		try {
+			appendTrainerWorkloadEventPort.append(events);
+		} catch (RuntimeException e) {
+			journalFailures.increment(events.size());
+			log.error("Journal missed {} applied trainer workload changes: {}, events: {}", events.size(),
+			        e.getMessage(), events, e);
+		}
 	}
 
-	private int findMonthlyWorkloadDuration(TrainerWorkload trainerWorkload, int year, int month,
-	        String transactionId) {
-		Optional<YearWorkload> yearWorkloadOpt = trainerWorkload.getYears().stream()
-		        .filter(y -> y.getYear().equals(year)).findFirst();
+	private TrainerMonthlyWorkload findMonthlyWorkloadOrNull(String username, int year, int month) {
+		try {
+			return loadTrainerMonthlyWorkloadPort.findMonthlyWorkload(username, year, month);
+		} catch (TrainerWorkloadNotFoundException e) {
+			trainerNotFound.increment();
+			log.warn("Trainer workload not found for username: {}. Returning empty workload.", username);
+			return null;
+		}
+	}
 
-		if (yearWorkloadOpt.isEmpty()) {
-			log.debug("Transaction [{}]: No workload data found for year {} for trainer: {}", transactionId, year,
-			        trainerWorkload.getUsername());
-			return 0;
+	// Every month of the range comes from one read of the trainer document, which is itself cached
+	private TrainerWorkloadRange loadRange(String username, YearMonth from, YearMonth to) {
+		TrainerWorkload trainerWorkload;
+		try {
+			trainerWorkload = loadTrainerWorkloadPort.findByUsername(username);
+		} catch (TrainerWorkloadNotFoundException e) {
+			trainerNotFound.increment();
+			log.warn("Trainer workload not found for username: {}. Returning empty workload.", username);
+			return TrainerWorkloadRange.builder().username(username).build();
 		}
 
-		Optional<MonthWorkload> monthWorkloadOpt = yearWorkloadOpt.get().getMonths().stream()
-		        .filter(m -> m.getMonth().equals(month)).findFirst();
+		return TrainerWorkloadRange.builder().username(username).firstName(trainerWorkload.getFirstName())
+		        .lastName(trainerWorkload.getLastName()).isActive(trainerWorkload.getIsActive())
+		        .months(trainerWorkload.getYears().monthsBetween(from, to)).build();
+	}
 
-		return monthWorkloadOpt.map(MonthWorkload::getSummaryDuration).orElse(0);
+	private TrainerMonthlyWorkload createEmptyMonthlyWorkload(String username, int year, int month) {
+		return TrainerMonthlyWorkload.builder().username(username).year(year).month(month).summaryDuration(0).build();
 	}
 
-	private YearWorkload findOrCreateYearWorkload(TrainerWorkload trainerWorkload, int year) {
-		return trainerWorkload.getYears().stream().filter(y -> y.getYear().equals(year)).findFirst().orElseGet(() -> {
-			YearWorkload newYearWorkload = YearWorkload.builder().year(year).build();
-			trainerWorkload.getYears().add(newYearWorkload);
-			log.debug("Created new YearWorkload for year: {}", year);
-			return newYearWorkload;
-		});
+	private record DeltaKey(String username, int year, int month) {
 	}
 
-	private MonthWorkload findOrCreateMonthWorkload(YearWorkload yearWorkload, int month) {
-		return yearWorkload.getMonths().stream().filter(m -> m.getMonth().equals(month)).findFirst().orElseGet(() -> {
-			MonthWorkload newMonthWorkload = MonthWorkload.builder().month(month).summaryDuration(0).build();
-			yearWorkload.getMonths().add(newMonthWorkload);
-			log.debug("Created new MonthWorkload for month: {}", month);
-			return newMonthWorkload;
-		});
+	private record BatchDelta(TrainerWorkloadDelta delta, String transactionId) {
 	}
 }
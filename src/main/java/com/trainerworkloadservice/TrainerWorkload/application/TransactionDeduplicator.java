@@ -0,0 +1,102 @@
+package com.trainerworkloadservice.TrainerWorkload.application;
+
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadConflictException;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ProcessedTransactionPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Lets each caller-supplied transaction id be applied once. A transaction is recorded only after it was applied, so
+// one that failed stays free for the upstream retry; a crash between the two lets the retry apply it again rather than
+// lose it. Recent ids are answered from a bounded in-memory map, the rest from the shared store, so a retry that lands
+// on another instance is caught as well.
+@Slf4j
+@Component
+public class TransactionDeduplicator {
+	private final ProcessedTransactionPort processedTransactionPort;
+	private final boolean enabled;
+	// False while this instance is applying the transaction, true once it is applied
+	private final Cache<String, Boolean> recentTransactions;
+	private final Counter memoryDuplicates;
+	private final Counter storeDuplicates;
+	private final Counter firstSeen;
+
+	public TransactionDeduplicator(ProcessedTransactionPort processedTransactionPort,
+	        @Value("${workload.idempotency.enabled:true}") boolean enabled,
+	        @Value("${workload.idempotency.local-size:100000}") long localSize,
+	        @Value("${workload.idempotency.ttl:24h}") Duration ttl, MeterRegistry meterRegistry) {
+		this.processedTransactionPort = processedTransactionPort;
+		this.enabled = enabled;
+		this.recentTransactions = Caffeine.newBuilder().maximumSize(localSize).expireAfterWrite(ttl).build();
+		this.memoryDuplicates = lookups(meterRegistry, "duplicate", "memory");
+		this.storeDuplicates = lookups(meterRegistry, "duplicate", "store");
+		this.firstSeen = lookups(meterRegistry, "new", "store");
+	}
+
+	// False when the transaction was already applied, here or on another instance. Every true must be followed by
+	// complete or abandon.
+	public boolean begin(String transactionId) {
+		if (isUntracked(transactionId)) {
+			return true;
+		}
+		Boolean applied = recentTransactions.asMap().putIfAbsent(transactionId, Boolean.FALSE);
+		if (applied != null) {
+			memoryDuplicates.increment();
+			if (!applied) {
+				// Answering success here would lose the transaction if the delivery in progress fails
+				throw TrainerWorkloadConflictException.inProgress(transactionId);
+			}
+			return false;
+		}
+
+		boolean processed;
+		try {
+			processed = processedTransactionPort.isProcessed(transactionId);
+		} catch (RuntimeException e) {
+			recentTransactions.invalidate(transactionId);
+			throw e;
+		}
+		if (processed) {
+			recentTransactions.put(transactionId, Boolean.TRUE);
+			storeDuplicates.increment();
+			return false;
+		}
+		firstSeen.increment();
+		return true;
+	}
+
+	public void complete(String transactionId) {
+		if (isUntracked(transactionId)) {
+			return;
+		}
+		recentTransactions.put(transactionId, Boolean.TRUE);
+		try {
+			processedTransactionPort.markProcessed(transactionId);
+		} catch (RuntimeException e) {
+			// The delta is already applied, so failing the request would only invite a retry that applies it again
+			log.warn("Could not record processed transaction: {}: {}", transactionId, e.getMessage());
+		}
+	}
+
+	public void abandon(String transactionId) {
+		if (isUntracked(transactionId)) {
+			return;
+		}
+		recentTransactions.invalidate(transactionId);
+	}
+
+	private boolean isUntracked(String transactionId) {
+		return !enabled || transactionId == null || transactionId.isEmpty();
+	}
+
+	private static Counter lookups(MeterRegistry meterRegistry, String result, String source) {
+		return Counter.builder("workload.idempotency.lookups")
+		        .description("Transaction ids checked before processing, by whether and where they were seen before")
+		        .tag("result", result).tag("source", source).register(meterRegistry);
+	}
+}
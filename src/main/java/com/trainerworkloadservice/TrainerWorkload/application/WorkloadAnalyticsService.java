@@ -0,0 +1,109 @@
+package com.trainerworkloadservice.TrainerWorkload.application;
+
+import com.trainerworkloadservice.TrainerWorkload.application.exception.InvalidWorkloadQueryException;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadWorkloadAnalyticsUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.RebuildMonthlyTotalsUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadWorkloadAnalyticsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.RebuildMonthlyTotalsPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadTotal;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadPercentile;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadTotal;
+import com.trainerworkloadservice.TrainerWorkload.domain.YearWorkload;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkloadAnalyticsService implements LoadWorkloadAnalyticsUseCase, RebuildMonthlyTotalsUseCase {
+	static final int MAX_TOP_TRAINERS = 100;
+	static final int MAX_PERCENTILES = 20;
+
+	private final LoadWorkloadAnalyticsPort loadWorkloadAnalyticsPort;
+	private final RebuildMonthlyTotalsPort rebuildMonthlyTotalsPort;
+
+	@Override
+	@Timed(value = "workload.service.analytics", extraTags = {"query", "total"}, histogram = true)
+	public WorkloadTotal loadWorkloadTotal(int year, Integer month, String transactionId) {
+		validateMonth(month);
+		log.debug("Getting total workload for year: {}, month: {}", year, month);
+
+		WorkloadTotal total = loadWorkloadAnalyticsPort.sumDuration(year, month);
+		log.info("Total workload retrieved for year: {}, month: {}: {} minutes of {} trainers", year, month,
+		        total.getTotalDuration(), total.getTrainers());
+		return total;
+	}
+
+	@Override
+	@Timed(value = "workload.service.analytics", extraTags = {"query", "top"}, histogram = true)
+	public List<TrainerWorkloadTotal> loadTopTrainers(int year, Integer month, int limit, String transactionId) {
+		validateMonth(month);
+		if (limit < 1 || limit > MAX_TOP_TRAINERS) {
+			throw new InvalidWorkloadQueryException(
+			        "Top trainers limit must be between 1 and " + MAX_TOP_TRAINERS + ": " + limit);
+		}
+		log.debug("Getting top {} trainers for year: {}, month: {}", limit, year, month);
+
+		List<TrainerWorkloadTotal> trainers = loadWorkloadAnalyticsPort.findTopTrainers(year, month, limit);
+		log.info("Top trainers retrieved for year: {}, month: {}, trainers: {}", year, month, trainers.size());
+		return trainers;
+	}
+
+	// Nearest-rank percentiles over the trainers with minutes recorded in the month. Each one is a single
+	// indexed lookup at its rank, so nothing is sorted in memory however many trainers there are.
+	@Override
+	@Timed(value = "workload.service.analytics", extraTags = {"query", "percentiles"}, histogram = true)
+	public List<WorkloadPercentile> loadWorkloadPercentiles(int year, int month, List<Double> percentiles,
+	        String transactionId) {
+		validateMonth(month);
+		if (percentiles.isEmpty() || percentiles.size() > MAX_PERCENTILES) {
+			throw new InvalidWorkloadQueryException(
+			        "Between 1 and " + MAX_PERCENTILES + " percentiles can be requested: " + percentiles.size());
+		}
+		for (Double percentile : percentiles) {
+			if (percentile == null || percentile <= 0 || percentile > 100) {
+				throw new InvalidWorkloadQueryException("Percentile must be above 0 and at most 100: " + percentile);
+			}
+		}
+		log.debug("Getting percentiles {} of workload for year: {}, month: {}", percentiles, year, month);
+
+		long trainers = loadWorkloadAnalyticsPort.countTrainers(year, month);
+		// Nearest rank of each percentile, all looked up together
+		List<Integer> durations = trainers == 0
+		        ? Collections.nCopies(percentiles.size(), 0)
+		        : loadWorkloadAnalyticsPort.findDurationsAtRanks(year, month, trainers, percentiles.stream()
+		                .map(percentile -> Math.max(1, (long) Math.ceil(percentile / 100 * trainers))).toList());
+		List<WorkloadPercentile> result = new ArrayList<>(percentiles.size());
+		for (int i = 0; i < percentiles.size(); i++) {
+			Integer summaryDuration = durations.get(i);
+			result.add(new WorkloadPercentile(percentiles.get(i), summaryDuration == null ? 0 : summaryDuration));
+		}
+
+		log.info("Workload percentiles retrieved for year: {}, month: {} over {} trainers", year, month, trainers);
+		return result;
+	}
+
+	@Override
+	public long rebuildMonthlyTotals() {
+		log.info("Rebuilding monthly totals from trainer workloads");
+		long started = System.nanoTime();
+
+		long rows = rebuildMonthlyTotalsPort.rebuildMonthlyTotals();
+
+		log.info("Rebuilt {} monthly total rows in {} ms", rows,
+		        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+		return rows;
+	}
+
+	private void validateMonth(Integer month) {
+		if (month != null && (month < 1 || month > YearWorkload.MONTHS_IN_YEAR)) {
+			throw new InvalidWorkloadQueryException("Invalid month: " + month);
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.trainerworkloadservice.TrainerWorkload.application.exception;
+
+import com.trainerworkloadservice.common.exception.BadRequestException;
+
+public class InvalidWorkloadQueryException extends BadRequestException {
+	public InvalidWorkloadQueryException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,14 @@
+package com.trainerworkloadservice.TrainerWorkload.application.exception;
+
+import com.trainerworkloadservice.common.exception.BadRequestException;
+import java.time.YearMonth;
+
+public class InvalidWorkloadRangeException extends BadRequestException {
+	public InvalidWorkloadRangeException(String message) {
+		super(message);
+	}
+
+	public static InvalidWorkloadRangeException between(YearMonth from, YearMonth to) {
+		return new InvalidWorkloadRangeException("Workload range start " + from + " is after its end " + to);
+	}
+}
@@ -0,0 +1,17 @@
+package com.trainerworkloadservice.TrainerWorkload.application.exception;
+
+import com.trainerworkloadservice.common.exception.ConflictException;
+
+public class TrainerWorkloadConflictException extends ConflictException {
+	public TrainerWorkloadConflictException(String message) {
+		super(message);
+	}
+
+	public static TrainerWorkloadConflictException by(String username) {
+		return new TrainerWorkloadConflictException("Could not apply workload update for username: " + username);
+	}
+
+	public static TrainerWorkloadConflictException inProgress(String transactionId) {
+		return new TrainerWorkloadConflictException("Transaction is still being processed: " + transactionId);
+	}
+}
@@ -2,6 +2,8 @@ package com.trainerworkloadservice.TrainerWorkload.application.factory;
 
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
 import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import java.time.LocalDate;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -10,4 +12,22 @@ public class TrainerWorkloadFactory {
 		return TrainerWorkload.builder().username(command.getUsername()).firstName(command.getFirstName())
 		        .lastName(command.getLastName()).isActive(command.getIsActive()).build();
 	}
+
+	public TrainerWorkloadDelta createDeltaFrom(ProcessTrainerWorkloadCommand command) {
+		LocalDate trainingDate = command.getTrainingDate();
+		return TrainerWorkloadDelta.builder().username(command.getUsername()).firstName(command.getFirstName())
+		        .lastName(command.getLastName()).isActive(command.getIsActive()).year(trainingDate.getYear())
+		        .month(trainingDate.getMonthValue()).duration(signedDuration(command)).build();
+	}
+
+	private int signedDuration(ProcessTrainerWorkloadCommand command) {
+		switch (command.getActionType()) {
+			case ADD :
+				return command.getTrainingDuration();
+			case DELETE :
+				return -command.getTrainingDuration();
+			default :
+				throw new IllegalArgumentException("Unsupported action type: " + command.getActionType());
+		}
+	}
 }
@@ -0,0 +1,7 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import java.util.function.Consumer;
+
+public interface ExportTrainerWorkloadsUseCase {
+	int exportTrainerWorkloads(TrainerWorkloadExportQuery query, Consumer<TrainerWorkloadExportRow> consumer);
+}
@@ -1,7 +1,16 @@
 package com.trainerworkloadservice.TrainerWorkload.application.port.input;
 
 import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadRange;
+import java.time.YearMonth;
 
 public interface LoadTrainerMonthlyWorkloadUseCase {
 	TrainerMonthlyWorkload loadTrainerMonthlyWorkload(String username, int year, int month, String transactionId);
+
+	TrainerWorkloadRange loadTrainerYearlyWorkload(String username, int year, String transactionId);
+
+	TrainerWorkloadRange loadTrainerWorkloadRange(String username, YearMonth from, YearMonth to,
+	        String transactionId);
+
+	TrainerWorkloadRange loadTrainerWorkloadHistory(String username, String transactionId);
 }
@@ -0,0 +1,8 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import java.util.function.Consumer;
+
+public interface LoadTrainersMonthlyWorkloadUseCase {
+	int streamTrainersMonthlyWorkload(TrainersMonthlyWorkloadQuery query, Consumer<TrainerMonthlyWorkload> consumer);
+}
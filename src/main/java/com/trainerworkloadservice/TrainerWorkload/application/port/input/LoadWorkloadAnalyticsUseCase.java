@@ -0,0 +1,15 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadTotal;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadPercentile;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadTotal;
+import java.util.List;
+
+public interface LoadWorkloadAnalyticsUseCase {
+	WorkloadTotal loadWorkloadTotal(int year, Integer month, String transactionId);
+
+	List<TrainerWorkloadTotal> loadTopTrainers(int year, Integer month, int limit, String transactionId);
+
+	List<WorkloadPercentile> loadWorkloadPercentiles(int year, int month, List<Double> percentiles,
+	        String transactionId);
+}
@@ -0,0 +1,7 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import java.util.List;
+
+public interface ProcessTrainerWorkloadBatchUseCase {
+	List<ProcessTrainerWorkloadResult> processTrainerWorkloadBatch(List<ProcessTrainerWorkloadCommand> commands);
+}
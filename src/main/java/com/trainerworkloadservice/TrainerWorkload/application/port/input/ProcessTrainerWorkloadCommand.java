@@ -20,4 +20,6 @@ public class ProcessTrainerWorkloadCommand {
 	private Integer trainingDuration;
 	private ActionType actionType;
 	private String transactionId;
+	// The transaction id when the caller sent it, so that a retry of the same request can be recognised
+	private String idempotencyKey;
 }
@@ -0,0 +1,23 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessTrainerWorkloadResult {
+	private boolean processed;
+	private String message;
+
+	public static ProcessTrainerWorkloadResult success() {
+		return ProcessTrainerWorkloadResult.builder().processed(true).build();
+	}
+
+	public static ProcessTrainerWorkloadResult failure(String message) {
+		return ProcessTrainerWorkloadResult.builder().processed(false).message(message).build();
+	}
+}
@@ -0,0 +1,9 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveLoadTrainerMonthlyWorkloadUseCase {
+	Mono<TrainerMonthlyWorkload> loadTrainerMonthlyWorkload(String username, int year, int month,
+	        String transactionId);
+}
@@ -0,0 +1,7 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProcessTrainerWorkloadUseCase {
+	Mono<Void> processTrainerWorkload(ProcessTrainerWorkloadCommand command);
+}
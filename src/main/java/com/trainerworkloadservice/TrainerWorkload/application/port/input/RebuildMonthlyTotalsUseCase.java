@@ -0,0 +1,5 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+public interface RebuildMonthlyTotalsUseCase {
+	long rebuildMonthlyTotals();
+}
@@ -0,0 +1,7 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+public interface ReplayTrainerWorkloadJournalUseCase {
+	TrainerWorkloadReplayResult rebuildTrainerWorkloads();
+
+	TrainerWorkloadReplayResult snapshotTrainerWorkloads();
+}
@@ -0,0 +1,17 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadExportQuery {
+	// Export starts at this trainer (inclusive) when set, in username order
+	private String fromUsername;
+	private int batchSize;
+	private String transactionId;
+}
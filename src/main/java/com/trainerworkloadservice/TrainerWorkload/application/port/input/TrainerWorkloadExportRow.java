@@ -0,0 +1,15 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadExportRow {
+	private String username;
+	private int year;
+	private int month;
+	private int minutes;
+}
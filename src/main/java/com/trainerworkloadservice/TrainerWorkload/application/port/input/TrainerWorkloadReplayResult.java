@@ -0,0 +1,20 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadReplayResult {
+	private long trainers;
+	private long events;
+	private long elapsedMillis;
+
+	public long eventsPerSecond() {
+		return events * 1000 / Math.max(1, elapsedMillis);
+	}
+}
@@ -0,0 +1,20 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.input;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainersMonthlyWorkloadQuery {
+	private int year;
+	private int month;
+	// Null means no filter on that field, so a query without either covers every trainer
+	private List<String> usernames;
+	private Boolean isActive;
+	private String transactionId;
+}
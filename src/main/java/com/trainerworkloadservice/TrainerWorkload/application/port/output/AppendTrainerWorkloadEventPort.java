@@ -0,0 +1,8 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadEvent;
+import java.util.List;
+
+public interface AppendTrainerWorkloadEventPort {
+	void append(List<TrainerWorkloadEvent> events);
+}
@@ -0,0 +1,11 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import java.util.List;
+import java.util.Map;
+
+public interface ApplyTrainerWorkloadDeltaPort {
+	void applyDelta(TrainerWorkloadDelta delta);
+
+	Map<String, String> applyDeltas(List<TrainerWorkloadDelta> deltas);
+}
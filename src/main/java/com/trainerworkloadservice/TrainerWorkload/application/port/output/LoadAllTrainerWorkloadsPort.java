@@ -0,0 +1,8 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import java.util.function.Consumer;
+
+public interface LoadAllTrainerWorkloadsPort {
+	int forEachTrainerWorkload(String fromUsername, int batchSize, Consumer<TrainerWorkload> consumer);
+}
@@ -0,0 +1,7 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+
+public interface LoadTrainerMonthlyWorkloadPort {
+	TrainerMonthlyWorkload findMonthlyWorkload(String username, int year, int month);
+}
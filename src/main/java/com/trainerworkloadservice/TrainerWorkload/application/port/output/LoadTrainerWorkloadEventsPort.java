@@ -0,0 +1,14 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadEvent;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface LoadTrainerWorkloadEventsPort {
+	// Events of the trainers in [fromUsername, toUsername) recorded in (after, until], grouped by trainer in
+	// username order and in recording order within a trainer. Null bounds are open.
+	Stream<TrainerWorkloadEvent> streamEvents(String fromUsername, String toUsername, Instant after, Instant until);
+
+	List<String> sampleUsernames(int size);
+}
@@ -0,0 +1,10 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface LoadTrainersMonthlyWorkloadPort {
+	int forEachMonthlyWorkload(List<String> usernames, Boolean isActive, int year, int month,
+	        Consumer<TrainerMonthlyWorkload> consumer);
+}
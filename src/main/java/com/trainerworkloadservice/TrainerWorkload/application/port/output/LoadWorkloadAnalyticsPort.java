@@ -0,0 +1,18 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadTotal;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadTotal;
+import java.util.List;
+
+// Reads only the flat trainer-month totals; a null month covers the whole year
+public interface LoadWorkloadAnalyticsPort {
+	WorkloadTotal sumDuration(int year, Integer month);
+
+	List<TrainerWorkloadTotal> findTopTrainers(int year, Integer month, int limit);
+
+	long countTrainers(int year, int month);
+
+	// Minutes of the trainers at the given 1-based ranks in ascending order of minutes, null for a rank past the end.
+	// trainers is the count of the month, which lets the lookup start from the nearer end.
+	List<Integer> findDurationsAtRanks(int year, int month, long trainers, List<Long> ranks);
+}
@@ -0,0 +1,8 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+public interface ProcessedTransactionPort {
+	boolean isProcessed(String transactionId);
+
+	// Recording a transaction twice is not an error
+	void markProcessed(String transactionId);
+}
@@ -0,0 +1,8 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveApplyTrainerWorkloadDeltaPort {
+	Mono<Void> applyDelta(TrainerWorkloadDelta delta);
+}
@@ -0,0 +1,9 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveLoadTrainerMonthlyWorkloadPort {
+	// Completes empty when the trainer does not exist
+	Mono<TrainerMonthlyWorkload> findMonthlyWorkload(String username, int year, int month);
+}
@@ -0,0 +1,5 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+public interface RebuildMonthlyTotalsPort {
+	long rebuildMonthlyTotals();
+}
@@ -1,7 +1,8 @@
 package com.trainerworkloadservice.TrainerWorkload.application.port.output;
 
 import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import java.util.List;
 
-public interface UpdateTrainerWorkloadPort {
-	void save(TrainerWorkload trainerWorkload);
+public interface ReplaceTrainerWorkloadsPort {
+	void replaceAll(List<TrainerWorkload> trainerWorkloads);
 }
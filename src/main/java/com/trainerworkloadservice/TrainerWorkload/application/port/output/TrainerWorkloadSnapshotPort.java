@@ -0,0 +1,26 @@
+package com.trainerworkloadservice.TrainerWorkload.application.port.output;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TrainerWorkloadSnapshotPort {
+	// Every snapshot was taken at or after this time, or null before the first snapshot
+	Instant loadSnapshotTime();
+
+	// Snapshots of the trainers in [fromUsername, toUsername) in username order. Null bounds are open.
+	Stream<TrainerWorkloadSnapshot> streamSnapshots(String fromUsername, String toUsername);
+
+	void saveSnapshots(List<TrainerWorkloadSnapshot> snapshots);
+
+	void saveSnapshotTime(Instant snapshotTime);
+
+	boolean tryLeaseSnapshot(Duration lease);
+
+	// When every stored trainer was snapshotted as the base the journal replays onto, or null before that
+	Instant loadBaselineTime();
+
+	void saveBaselineTime(Instant baselineTime);
+}
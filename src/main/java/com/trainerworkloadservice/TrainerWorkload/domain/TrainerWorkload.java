@@ -1,12 +1,11 @@
 package com.trainerworkloadservice.TrainerWorkload.domain;
 
-import java.util.ArrayList;
-import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
@@ -17,10 +16,11 @@ import org.springframework.data.mongodb.core.mapping.Document;
 public class TrainerWorkload {
 	@Id
 	private String id;
+	@Indexed(unique = true)
 	private String username;
 	private String firstName;
 	private String lastName;
 	private Boolean isActive;
 	@Builder.Default
-	private List<YearWorkload> years = new ArrayList<>();
+	private WorkloadYears years = new WorkloadYears();
 }
@@ -0,0 +1,26 @@
+package com.trainerworkloadservice.TrainerWorkload.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadDelta {
+	private String username;
+	private String firstName;
+	private String lastName;
+	private Boolean isActive;
+	private int year;
+	private int month;
+	private int duration;
+
+	// A month is clamped at zero after every delta, so only deltas pointing the same way add up to the same total
+	// as applying them one by one: a month at 0 ends at 60 after DELETE 30 then ADD 60, but at 30 after their sum
+	public boolean canNetWith(TrainerWorkloadDelta other) {
+		return (duration < 0) == (other.duration < 0);
+	}
+}
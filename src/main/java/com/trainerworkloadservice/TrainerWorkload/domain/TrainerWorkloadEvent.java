@@ -0,0 +1,42 @@
+package com.trainerworkloadservice.TrainerWorkload.domain;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadEvent {
+	private String id;
+	private String username;
+	private String firstName;
+	private String lastName;
+	private Boolean isActive;
+	private int year;
+	private int month;
+	// Signed minutes, negative for DELETE
+	private int duration;
+	private ActionType actionType;
+	private String transactionId;
+	private Instant recordedAt;
+
+	public static TrainerWorkloadEvent of(TrainerWorkloadDelta delta, String transactionId, Instant recordedAt) {
+		return TrainerWorkloadEvent.builder().username(delta.getUsername()).firstName(delta.getFirstName())
+		        .lastName(delta.getLastName()).isActive(delta.getIsActive()).year(delta.getYear())
+		        .month(delta.getMonth()).duration(delta.getDuration())
+		        .actionType(delta.getDuration() < 0 ? ActionType.DELETE : ActionType.ADD).transactionId(transactionId)
+		        .recordedAt(recordedAt).build();
+	}
+
+	// Same rules as the live update path: the latest personal info wins and a month never drops below zero
+	public void applyTo(TrainerWorkload trainerWorkload) {
+		trainerWorkload.setFirstName(firstName);
+		trainerWorkload.setLastName(lastName);
+		trainerWorkload.setIsActive(isActive);
+		trainerWorkload.getYears().getOrCreate(year).addDuration(month, duration);
+	}
+}
@@ -0,0 +1,21 @@
+package com.trainerworkloadservice.TrainerWorkload.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadRange {
+	private String username;
+	private String firstName;
+	private String lastName;
+	private Boolean isActive;
+	@Builder.Default
+	private List<WorkloadMonth> months = new ArrayList<>();
+}
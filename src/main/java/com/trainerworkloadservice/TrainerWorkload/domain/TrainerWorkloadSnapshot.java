@@ -0,0 +1,15 @@
+package com.trainerworkloadservice.TrainerWorkload.domain;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A trainer's workload with every journaled event recorded up to takenAt folded in
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadSnapshot {
+	private TrainerWorkload trainerWorkload;
+	private Instant takenAt;
+}
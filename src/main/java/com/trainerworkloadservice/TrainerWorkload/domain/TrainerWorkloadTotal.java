@@ -0,0 +1,18 @@
+package com.trainerworkloadservice.TrainerWorkload.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerWorkloadTotal {
+	private String username;
+	private String firstName;
+	private String lastName;
+	private Boolean isActive;
+	private long totalDuration;
+}
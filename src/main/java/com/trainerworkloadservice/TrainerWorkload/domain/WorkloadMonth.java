@@ -0,0 +1,14 @@
+package com.trainerworkloadservice.TrainerWorkload.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadMonth {
+	private int year;
+	private int month;
+	private int summaryDuration;
+}
@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class MonthWorkload {
-	private Integer month;
-	private Integer summaryDuration;
+public class WorkloadPercentile {
+	private double percentile;
+	private int summaryDuration;
 }
@@ -0,0 +1,18 @@
+package com.trainerworkloadservice.TrainerWorkload.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadTotal {
+	private int year;
+	// Null for a yearly total
+	private Integer month;
+	private long trainers;
+	private long totalDuration;
+}
@@ -0,0 +1,118 @@
+package com.trainerworkloadservice.TrainerWorkload.domain;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Years kept sorted in parallel primitive/object arrays: lookups are a binary search over int keys, with no
+// boxing and no allocation, and iteration yields years in ascending order.
+public class WorkloadYears implements Iterable<YearWorkload> {
+	private static final int INITIAL_CAPACITY = 4;
+
+	private int[] years = new int[INITIAL_CAPACITY];
+	private YearWorkload[] workloads = new YearWorkload[INITIAL_CAPACITY];
+	private int size;
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public YearWorkload find(int year) {
+		int index = Arrays.binarySearch(years, 0, size, year);
+		return index >= 0 ? workloads[index] : null;
+	}
+
+	public YearWorkload getOrCreate(int year) {
+		int index = Arrays.binarySearch(years, 0, size, year);
+		if (index >= 0) {
+			return workloads[index];
+		}
+
+		int insertAt = -(index + 1);
+		if (size == years.length) {
+			years = Arrays.copyOf(years, size * 2);
+			workloads = Arrays.copyOf(workloads, size * 2);
+		}
+		System.arraycopy(years, insertAt, years, insertAt + 1, size - insertAt);
+		System.arraycopy(workloads, insertAt, workloads, insertAt + 1, size - insertAt);
+
+		YearWorkload workload = new YearWorkload(year);
+		years[insertAt] = year;
+		workloads[insertAt] = workload;
+		size++;
+		return workload;
+	}
+
+	public int getDuration(int year, int month) {
+		YearWorkload workload = find(year);
+		return workload == null ? 0 : workload.getDuration(month);
+	}
+
+	// Recorded months from..to inclusive, oldest first. Years before the range are skipped with a binary search.
+	public List<WorkloadMonth> monthsBetween(YearMonth from, YearMonth to) {
+		int index = Arrays.binarySearch(years, 0, size, from.getYear());
+		List<WorkloadMonth> months = new ArrayList<>();
+		for (int i = index >= 0 ? index : -(index + 1); i < size && years[i] <= to.getYear(); i++) {
+			int firstMonth = years[i] == from.getYear() ? from.getMonthValue() : 1;
+			int lastMonth = years[i] == to.getYear() ? to.getMonthValue() : YearWorkload.MONTHS_IN_YEAR;
+			for (int month = firstMonth; month <= lastMonth; month++) {
+				if (workloads[i].hasMonth(month)) {
+					months.add(new WorkloadMonth(years[i], month, workloads[i].getDuration(month)));
+				}
+			}
+		}
+		return months;
+	}
+
+	@Override
+	public Iterator<YearWorkload> iterator() {
+		return new Iterator<>() {
+			private int next;
+
+			@Override
+			public boolean hasNext() {
+				return next < size;
+			}
+
+			@Override
+			public YearWorkload next() {
+				if (next >= size) {
+					throw new NoSuchElementException();
+				}
+				return workloads[next++];
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof WorkloadYears that) || size != that.size) {
+			return false;
+		}
+		return Arrays.equals(workloads, 0, size, that.workloads, 0, that.size);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < size; i++) {
+			hash = 31 * hash + workloads[i].hashCode();
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return "WorkloadYears(" + Arrays.toString(Arrays.copyOf(workloads, size)) + ")";
+	}
+}
@@ -1,18 +1,49 @@
 package com.trainerworkloadservice.TrainerWorkload.domain;
 
-import java.util.ArrayList;
-import java.util.List;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@EqualsAndHashCode
+@ToString
 public class YearWorkload {
-	private Integer year;
-	@Builder.Default
-	private List<MonthWorkload> months = new ArrayList<>();
+	public static final int MONTHS_IN_YEAR = 12;
+
+	private final int year;
+	@Getter(AccessLevel.NONE)
+	private final int[] durations = new int[MONTHS_IN_YEAR];
+	// Bit (month - 1) is set once the month has been recorded, so a recorded 0 can be told apart from no data
+	@Getter(AccessLevel.NONE)
+	private int recordedMonths;
+
+	public YearWorkload(int year) {
+		this.year = year;
+	}
+
+	public boolean hasMonth(int month) {
+		return (recordedMonths & (1 << indexOf(month))) != 0;
+	}
+
+	public int getDuration(int month) {
+		return durations[indexOf(month)];
+	}
+
+	public void setDuration(int month, int duration) {
+		int index = indexOf(month);
+		durations[index] = duration;
+		recordedMonths |= 1 << index;
+	}
+
+	public void addDuration(int month, int duration) {
+		setDuration(month, Math.max(0, getDuration(month) + duration));
+	}
+
+	private static int indexOf(int month) {
+		if (month < 1 || month > MONTHS_IN_YEAR) {
+			throw new IllegalArgumentException("Invalid month: " + month);
+		}
+		return month - 1;
+	}
 }
@@ -1,59 +1,101 @@
 package com.trainerworkloadservice.aspect;
 
-import java.util.Arrays;
-import java.util.Objects;
-import java.util.UUID;
-import javax.servlet.http.HttpServletRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 @Aspect
 @Component
 @Slf4j
+// Reactive handlers return before their work runs, so timing them here would be meaningless
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class LoggingAspect {
+	public static final String ENDPOINT_LATENCY_METRIC = "workload.endpoint.latency";
+
+	private final MeterRegistry meterRegistry;
+	private final double payloadSampleRate;
+	private final Map<Endpoint, EndpointTimers> timers = new ConcurrentHashMap<>();
+
+	public LoggingAspect(MeterRegistry meterRegistry,
+	        @Value("${workload.logging.payload-sample-rate:0.01}") double payloadSampleRate) {
+		if (payloadSampleRate < 0 || payloadSampleRate > 1) {
+			throw new IllegalArgumentException("Payload sample rate must be between 0 and 1");
+		}
+		this.meterRegistry = meterRegistry;
+		this.payloadSampleRate = payloadSampleRate;
+	}
+
 	@Around("execution(* com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller.*.*(..))")
 	public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-		long start = System.currentTimeMillis();
-		String transactionId = getTransactionId();
+		long start = System.nanoTime();
+		Signature signature = joinPoint.getSignature();
+		boolean logPayload = log.isDebugEnabled() && isSampled();
 
-		log.info("Transaction [{}]: Started execution of {}.{}() with arguments: {}", transactionId,
-		        joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName(),
-		        Arrays.toString(joinPoint.getArgs()));
+		// Arguments are handed to the logger as an array, so they are only rendered if the event is written
+		if (logPayload) {
+			log.debug("Started execution of {}.{}() with arguments: {}", signature.getDeclaringTypeName(),
+			        signature.getName(), joinPoint.getArgs());
+		}
 
 		Object result;
 		try {
 			result = joinPoint.proceed();
-			long executionTime = System.currentTimeMillis() - start;
-
-			log.info("Transaction [{}]: Completed execution of {}.{}() in {} ms with result: {}", transactionId,
-			        joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName(), executionTime,
-			        result);
-
-			return result;
 		} catch (Exception e) {
-			log.error("Transaction [{}]: Exception in {}.{}() with cause = {}", transactionId,
-			        joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName(),
+			long elapsed = System.nanoTime() - start;
+			timersFor(signature).error().record(elapsed, TimeUnit.NANOSECONDS);
+
+			log.error("Exception in {}.{}() after {} ms with cause = {}", signature.getDeclaringTypeName(),
+			        signature.getName(), TimeUnit.NANOSECONDS.toMillis(elapsed),
 			        e.getMessage() != null ? e.getMessage() : "NULL", e);
 			throw e;
 		}
-	}
 
-	private String getTransactionId() {
-		try {
-			HttpServletRequest request = ((ServletRequestAttributes) Objects
-			        .requireNonNull(RequestContextHolder.getRequestAttributes())).getRequest();
-			String transactionId = request.getHeader("X-Transaction-ID");
-			if (transactionId == null || transactionId.isEmpty()) {
-				transactionId = UUID.randomUUID().toString();
-			}
-			return transactionId;
-		} catch (Exception e) {
-			return UUID.randomUUID().toString();
+		long elapsed = System.nanoTime() - start;
+		timersFor(signature).success().record(elapsed, TimeUnit.NANOSECONDS);
+
+		if (logPayload) {
+			log.debug("Completed execution of {}.{}() in {} ms with result: {}", signature.getDeclaringTypeName(),
+			        signature.getName(), TimeUnit.NANOSECONDS.toMillis(elapsed), result);
+		} else if (log.isInfoEnabled()) {
+			log.info("Completed execution of {}.{}() in {} ms", signature.getDeclaringTypeName(), signature.getName(),
+			        TimeUnit.NANOSECONDS.toMillis(elapsed));
 		}
+
+		return result;
+	}
+
+	private boolean isSampled() {
+		return payloadSampleRate >= 1 || (payloadSampleRate > 0 && ThreadLocalRandom.current()
+		        .nextDouble() < payloadSampleRate);
+	}
+
+	private EndpointTimers timersFor(Signature signature) {
+		return timers.computeIfAbsent(new Endpoint(signature.getDeclaringTypeName(), signature.getName()),
+		        endpoint -> new EndpointTimers(timer(endpoint, "success"), timer(endpoint, "error")));
+	}
+
+	private Timer timer(Endpoint endpoint, String outcome) {
+		String declaringType = endpoint.declaringType();
+		return Timer.builder(ENDPOINT_LATENCY_METRIC).description("Latency of trainer workload endpoints")
+		        .tag("class", declaringType.substring(declaringType.lastIndexOf('.') + 1))
+		        .tag("method", endpoint.method()).tag("outcome", outcome).publishPercentileHistogram()
+		        .register(meterRegistry);
+	}
+
+	private record Endpoint(String declaringType, String method) {
+	}
+
+	private record EndpointTimers(Timer success, Timer error) {
 	}
 }
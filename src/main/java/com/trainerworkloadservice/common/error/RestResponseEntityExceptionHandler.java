@@ -5,12 +5,13 @@ import java.util.List;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.lang.NonNull;
-import org.springframework.lang.Nullable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -19,6 +20,7 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionHandler {
 	private static final Logger logger = LoggerFactory.getLogger(RestResponseEntityExceptionHandler.class);
 
@@ -52,9 +54,15 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
 		return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
 	}
 
+	@ExceptionHandler(ServiceUnavailableException.class)
+	protected ResponseEntity<ErrorsDetails> handleServiceUnavailableException(Throwable ex, WebRequest request) {
+		ErrorsDetails errorDetails = new ErrorsDetails(ex.getMessage());
+		return new ResponseEntity<>(errorDetails, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
 	@Override
 	protected ResponseEntity<Object> handleMethodArgumentNotValid(@NonNull MethodArgumentNotValidException ex,
-	        @Nullable HttpHeaders headers, @NonNull HttpStatus status, @NonNull WebRequest request) {
+	        @NonNull HttpHeaders headers, @NonNull HttpStatusCode status, @NonNull WebRequest request) {
 
 		List<String> errors = ex.getBindingResult().getFieldErrors().stream()
 		        .map(error -> error.getField() + " " + error.getDefaultMessage()).collect(Collectors.toList());
@@ -67,8 +75,8 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
 	}
 
 	@Override
-	protected ResponseEntity<Object> handleHttpMessageNotReadable(HttpMessageNotReadableException ex,
-	        @Nullable HttpHeaders headers, @NonNull HttpStatus status, @NonNull WebRequest request) {
+	protected ResponseEntity<Object> handleHttpMessageNotReadable(@NonNull HttpMessageNotReadableException ex,
+	        @NonNull HttpHeaders headers, @NonNull HttpStatusCode status, @NonNull WebRequest request) {
 
 		ErrorsDetails errorDetails = new ErrorsDetails(ex.getLocalizedMessage());
 		return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
@@ -0,0 +1,11 @@
+package com.trainerworkloadservice.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends BaseException {
+	public ServiceUnavailableException(String message) {
+		super(message);
+	}
+}
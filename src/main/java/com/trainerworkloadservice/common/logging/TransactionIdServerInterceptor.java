@@ -0,0 +1,117 @@
+package com.trainerworkloadservice.common.logging;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+// The gRPC counterpart of TransactionIdFilter
+@Component
+public class TransactionIdServerInterceptor implements ServerInterceptor {
+	public static final Metadata.Key<String> TRANSACTION_ID_METADATA_KEY = Metadata.Key.of("x-transaction-id",
+	        Metadata.ASCII_STRING_MARSHALLER);
+	public static final Context.Key<String> TRANSACTION_ID = Context.key(TransactionIdFilter.TRANSACTION_ID_MDC_KEY);
+	// Unset when the id was generated here
+	public static final Context.Key<String> CLIENT_TRANSACTION_ID = Context.key("clientTransactionId");
+
+	@Override
+	public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+	        ServerCallHandler<Q, R> next) {
+		String header = headers.get(TRANSACTION_ID_METADATA_KEY);
+		if (header != null && header.isEmpty()) {
+			header = null;
+		}
+		String transactionId = header == null ? UUID.randomUUID().toString() : header;
+
+		Context context = Context.current().withValues(TRANSACTION_ID, transactionId, CLIENT_TRANSACTION_ID, header);
+		ServerCall.Listener<Q> listener = withMdc(transactionId,
+		        () -> Contexts.interceptCall(context, new EchoingCall<>(call, transactionId), headers, next));
+		return new MdcListener<>(listener, transactionId);
+	}
+
+	private static <T> T withMdc(String transactionId, Supplier<T> callback) {
+		MDC.put(TransactionIdFilter.TRANSACTION_ID_MDC_KEY, transactionId);
+		try {
+			return callback.get();
+		} finally {
+			MDC.remove(TransactionIdFilter.TRANSACTION_ID_MDC_KEY);
+		}
+	}
+
+	// Returns the id in the response headers, or in the trailers of a call closed before sending any
+	private static class EchoingCall<Q, R> extends SimpleForwardingServerCall<Q, R> {
+		private final String transactionId;
+		private boolean headersSent;
+
+		EchoingCall(ServerCall<Q, R> call, String transactionId) {
+			super(call);
+			this.transactionId = transactionId;
+		}
+
+		@Override
+		public void sendHeaders(Metadata headers) {
+			headers.put(TRANSACTION_ID_METADATA_KEY, transactionId);
+			headersSent = true;
+			super.sendHeaders(headers);
+		}
+
+		@Override
+		public void close(Status status, Metadata trailers) {
+			if (!headersSent) {
+				trailers.put(TRANSACTION_ID_METADATA_KEY, transactionId);
+			}
+			super.close(status, trailers);
+		}
+	}
+
+	// gRPC runs the callbacks of one call on whichever executor thread is free, so the MDC is set around each of them
+	private static class MdcListener<Q> extends SimpleForwardingServerCallListener<Q> {
+		private final String transactionId;
+
+		MdcListener(ServerCall.Listener<Q> listener, String transactionId) {
+			super(listener);
+			this.transactionId = transactionId;
+		}
+
+		@Override
+		public void onMessage(Q message) {
+			inMdc(() -> super.onMessage(message));
+		}
+
+		@Override
+		public void onHalfClose() {
+			inMdc(() -> super.onHalfClose());
+		}
+
+		@Override
+		public void onCancel() {
+			inMdc(() -> super.onCancel());
+		}
+
+		@Override
+		public void onComplete() {
+			inMdc(() -> super.onComplete());
+		}
+
+		@Override
+		public void onReady() {
+			inMdc(() -> super.onReady());
+		}
+
+		private void inMdc(Runnable callback) {
+			withMdc(transactionId, () -> {
+				callback.run();
+				return null;
+			});
+		}
+	}
+}
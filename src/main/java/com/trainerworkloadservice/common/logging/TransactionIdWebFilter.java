@@ -0,0 +1,39 @@
+package com.trainerworkloadservice.common.logging;
+
+import io.micrometer.context.ContextRegistry;
+import java.util.UUID;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+// The reactive counterpart of TransactionIdFilter. The id travels in the Reactor context, and with
+// spring.reactor.context-propagation=auto Reactor copies it into the MDC on whichever thread runs each step.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class TransactionIdWebFilter implements WebFilter {
+	public TransactionIdWebFilter() {
+		ContextRegistry.getInstance().registerThreadLocalAccessor(TransactionIdFilter.TRANSACTION_ID_MDC_KEY,
+		        () -> MDC.get(TransactionIdFilter.TRANSACTION_ID_MDC_KEY),
+		        transactionId -> MDC.put(TransactionIdFilter.TRANSACTION_ID_MDC_KEY, transactionId),
+		        () -> MDC.remove(TransactionIdFilter.TRANSACTION_ID_MDC_KEY));
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		String transactionId = exchange.getRequest().getHeaders().getFirst(TransactionIdFilter.TRANSACTION_ID_HEADER);
+		if (transactionId == null || transactionId.isEmpty()) {
+			transactionId = UUID.randomUUID().toString();
+		}
+
+		exchange.getResponse().getHeaders().set(TransactionIdFilter.TRANSACTION_ID_HEADER, transactionId);
+		return chain.filter(exchange).contextWrite(Context.of(TransactionIdFilter.TRANSACTION_ID_MDC_KEY, transactionId));
+	}
+}
@@ -0,0 +1,11 @@
+package com.trainerworkloadservice.configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching(proxyTargetClass = true)
+public class CacheConfig {
+	public static final String TRAINER_WORKLOAD_CACHE = "trainerWorkloads";
+	public static final String TRAINER_MONTHLY_WORKLOAD_CACHE = "trainerMonthlyWorkloads";
+}
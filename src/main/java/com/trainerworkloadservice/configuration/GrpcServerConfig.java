@@ -0,0 +1,36 @@
+package com.trainerworkloadservice.configuration;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.grpc.TrainerWorkloadGrpcService;
+import com.trainerworkloadservice.common.logging.TransactionIdServerInterceptor;
+import com.trainerworkloadservice.configuration.security.JwtServerInterceptor;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(value = "workload.grpc.enabled", havingValue = "true")
+public class GrpcServerConfig {
+	@Bean
+	public ServerServiceDefinition trainerWorkloadServiceDefinition(TrainerWorkloadGrpcService service,
+	        JwtServerInterceptor jwtServerInterceptor, TransactionIdServerInterceptor transactionIdServerInterceptor) {
+		// The last interceptor runs first, so lines logged while authenticating already carry the transaction id
+		return ServerInterceptors.intercept(service, jwtServerInterceptor, transactionIdServerInterceptor);
+	}
+
+	@Bean
+	public GrpcServerLifecycle grpcServer(List<ServerServiceDefinition> services,
+	        @Value("${workload.grpc.port:9091}") int port,
+	        @Value("${workload.grpc.shutdown-grace:10s}") Duration shutdownGrace) {
+		ServerBuilder<?> builder = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create());
+		services.forEach(builder::addService);
+		return new GrpcServerLifecycle(builder.build(), shutdownGrace);
+	}
+}
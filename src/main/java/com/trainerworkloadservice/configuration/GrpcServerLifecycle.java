@@ -0,0 +1,59 @@
+package com.trainerworkloadservice.configuration;
+
+import io.grpc.Server;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+// Starts the gRPC server with the application context and, on shutdown, lets calls in flight finish for up to
+// the grace period before cancelling them
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+	private final Server server;
+	private final Duration shutdownGrace;
+	private volatile boolean running;
+
+	public GrpcServerLifecycle(Server server, Duration shutdownGrace) {
+		this.server = server;
+		this.shutdownGrace = shutdownGrace;
+	}
+
+	@Override
+	public void start() {
+		try {
+			server.start();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not start the gRPC server", e);
+		}
+		running = true;
+		log.info("gRPC server listening on port {}", server.getPort());
+	}
+
+	@Override
+	public void stop() {
+		server.shutdown();
+		try {
+			if (!server.awaitTermination(shutdownGrace.toMillis(), TimeUnit.MILLISECONDS)) {
+				log.warn("Cancelling gRPC calls still running after {}", shutdownGrace);
+				server.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			server.shutdownNow();
+		} finally {
+			running = false;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	public int getPort() {
+		return server.getPort();
+	}
+}
@@ -0,0 +1,38 @@
+package com.trainerworkloadservice.configuration;
+
+import jakarta.jms.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jms.activemq.ActiveMQConnectionFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.annotation.EnableJms;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+
+@Configuration
+@EnableJms
+@ConditionalOnProperty(value = "workload.messaging.enabled", havingValue = "true")
+public class JmsConfig {
+	@Bean
+	public ActiveMQConnectionFactoryCustomizer trainerWorkloadConnectionFactoryCustomizer(
+	        @Value("${workload.messaging.prefetch:10}") int prefetch,
+	        @Value("${workload.messaging.max-redeliveries:5}") int maxRedeliveries) {
+		return connectionFactory -> {
+			// A small prefetch keeps unprocessed events on the broker instead of in a busy consumer's buffer
+			connectionFactory.getPrefetchPolicy().setQueuePrefetch(prefetch);
+			connectionFactory.getRedeliveryPolicy().setMaximumRedeliveries(maxRedeliveries);
+		};
+	}
+
+	@Bean
+	public DefaultJmsListenerContainerFactory trainerWorkloadListenerContainerFactory(
+	        ConnectionFactory connectionFactory,
+	        @Value("${workload.messaging.concurrency:1-4}") String concurrency) {
+		DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory();
+		factory.setConnectionFactory(connectionFactory);
+		factory.setConcurrency(concurrency);
+		// The message is acknowledged on commit, i.e. only after the workload update has been persisted
+		factory.setSessionTransacted(true);
+		return factory;
+	}
+}
@@ -0,0 +1,17 @@
+package com.trainerworkloadservice.configuration;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadReadConverter;
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadWriteConverter;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+@Configuration
+public class MongoConfig {
+	@Bean
+	public MongoCustomConversions mongoCustomConversions() {
+		return new MongoCustomConversions(
+		        List.of(new TrainerWorkloadReadConverter(), new TrainerWorkloadWriteConverter()));
+	}
+}
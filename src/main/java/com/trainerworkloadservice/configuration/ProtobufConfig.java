@@ -0,0 +1,14 @@
+package com.trainerworkloadservice.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+
+@Configuration
+public class ProtobufConfig {
+	// Reads application/x-protobuf bodies straight into the generated message classes
+	@Bean
+	public ProtobufHttpMessageConverter protobufHttpMessageConverter() {
+		return new ProtobufHttpMessageConverter();
+	}
+}
@@ -0,0 +1,39 @@
+package com.trainerworkloadservice.configuration;
+
+import java.util.Set;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+// The reactive Mongo client keeps a connection pool of its own, so it is only configured when the application
+// serves the reactive stack. Registered in META-INF/spring.factories.
+public class ReactiveMongoImportFilter implements AutoConfigurationImportFilter, EnvironmentAware {
+	private static final Set<String> REACTIVE_MONGO_AUTO_CONFIGURATIONS = Set.of(
+	        MongoReactiveAutoConfiguration.class.getName(), MongoReactiveDataAutoConfiguration.class.getName());
+
+	private Environment environment;
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public boolean[] match(String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
+		boolean reactive = environment.getProperty("spring.main.web-application-type", WebApplicationType.class,
+		        WebApplicationType.SERVLET) == WebApplicationType.REACTIVE;
+
+		boolean[] matches = new boolean[autoConfigurationClasses.length];
+		for (int i = 0; i < autoConfigurationClasses.length; i++) {
+			// Classes already rejected by an earlier filter arrive as null
+			String autoConfigurationClass = autoConfigurationClasses[i];
+			matches[i] = reactive || autoConfigurationClass == null
+			        || !REACTIVE_MONGO_AUTO_CONFIGURATIONS.contains(autoConfigurationClass);
+		}
+		return matches;
+	}
+}
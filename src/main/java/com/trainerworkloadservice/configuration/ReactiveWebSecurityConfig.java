@@ -0,0 +1,40 @@
+package com.trainerworkloadservice.configuration;
+
+import com.trainerworkloadservice.configuration.security.JwtReactiveAuthenticationManager;
+import com.trainerworkloadservice.configuration.security.JwtTokenUtil;
+import com.trainerworkloadservice.configuration.security.ReactiveJwtAuthenticationEntryPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebSecurityConfig {
+	@Bean
+	public SecurityWebFilterChain reactiveSecurityFilterChain(ServerHttpSecurity http, JwtTokenUtil jwtTokenUtil) {
+		JwtReactiveAuthenticationManager jwtAuthenticationManager = new JwtReactiveAuthenticationManager(jwtTokenUtil);
+		ReactiveJwtAuthenticationEntryPoint entryPoint = new ReactiveJwtAuthenticationEntryPoint();
+
+		AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(jwtAuthenticationManager);
+		jwtFilter.setServerAuthenticationConverter(jwtAuthenticationManager);
+		// Like JwtRequestFilter, an invalid token leaves the request anonymous instead of failing it outright
+		jwtFilter.setAuthenticationFailureHandler(
+		        (webFilterExchange, exception) -> webFilterExchange.getChain().filter(webFilterExchange.getExchange()));
+		jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+		return http.csrf(ServerHttpSecurity.CsrfSpec::disable).httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+		        .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+		        .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+		        .authorizeExchange(exchanges -> exchanges.pathMatchers("/api/v1/workload/**").authenticated()
+		                .pathMatchers("/actuator/**").permitAll().anyExchange().permitAll())
+		        .exceptionHandling(exceptionHandling -> exceptionHandling.authenticationEntryPoint(entryPoint))
+		        .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION).build();
+	}
+}
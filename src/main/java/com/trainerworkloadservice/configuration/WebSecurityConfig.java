@@ -2,16 +2,20 @@ package com.trainerworkloadservice.configuration;
 
 import com.trainerworkloadservice.configuration.security.JwtAuthenticationEntryPoint;
 import com.trainerworkloadservice.configuration.security.JwtRequestFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WebSecurityConfig {
 	private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 	private final JwtRequestFilter jwtRequestFilter;
@@ -24,16 +28,18 @@ public class WebSecurityConfig {
 
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-		http.csrf().disable()
-		        .authorizeRequests(
-		                authorizeRequests -> authorizeRequests.antMatchers("/api/v1/workload/**").authenticated()
-		                        .antMatchers("/h2-console/**", "/actuator/**").permitAll().anyRequest().permitAll())
-		        .exceptionHandling().authenticationEntryPoint(jwtAuthenticationEntryPoint).and().sessionManagement()
-		        .sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+		http.csrf(AbstractHttpConfigurer::disable)
+		        .authorizeHttpRequests(authorizeRequests -> authorizeRequests
+		                .requestMatchers("/api/v1/workload/**").authenticated()
+		                .requestMatchers("/h2-console/**", "/actuator/**").permitAll().anyRequest().permitAll())
+		        .exceptionHandling(exceptionHandling -> exceptionHandling
+		                .authenticationEntryPoint(jwtAuthenticationEntryPoint))
+		        .sessionManagement(sessionManagement -> sessionManagement
+		                .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
 		http.addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class);
 
-		http.headers().frameOptions().disable();
+		http.headers(headers -> headers.frameOptions(FrameOptionsConfig::disable));
 
 		return http.build();
 	}
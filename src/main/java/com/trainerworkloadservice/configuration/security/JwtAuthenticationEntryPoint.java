@@ -2,11 +2,11 @@ package com.trainerworkloadservice.configuration.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trainerworkloadservice.common.error.ErrorsDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
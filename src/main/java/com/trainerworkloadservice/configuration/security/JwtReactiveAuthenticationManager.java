@@ -0,0 +1,48 @@
+package com.trainerworkloadservice.configuration.security;
+
+import java.util.Collections;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// Reactive counterpart of JwtRequestFilter: a bearer token is converted into an unauthenticated token and
+// checked by the manager; requests without one continue anonymously and are rejected by the authorization rules
+@Slf4j
+public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager, ServerAuthenticationConverter {
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private final JwtTokenUtil jwtTokenUtil;
+
+	public JwtReactiveAuthenticationManager(JwtTokenUtil jwtTokenUtil) {
+		this.jwtTokenUtil = jwtTokenUtil;
+	}
+
+	@Override
+	public Mono<Authentication> convert(ServerWebExchange exchange) {
+		String requestTokenHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		if (requestTokenHeader == null || !requestTokenHeader.startsWith(BEARER_PREFIX)) {
+			log.debug("No JWT token found in request headers or token doesn't start with Bearer");
+			return Mono.empty();
+		}
+
+		String jwtToken = requestTokenHeader.substring(BEARER_PREFIX.length());
+		return Mono.just(new UsernamePasswordAuthenticationToken(jwtToken, jwtToken));
+	}
+
+	@Override
+	public Mono<Authentication> authenticate(Authentication authentication) {
+		return Mono.justOrEmpty(jwtTokenUtil.validateAndGetClaims((String) authentication.getCredentials()))
+		        .<Authentication>map(claims -> {
+			        log.info("Valid JWT token for service: {}", claims.getSubject());
+			        return new UsernamePasswordAuthenticationToken(claims.getSubject(), null,
+			                Collections.singletonList(new SimpleGrantedAuthority("ROLE_SERVICE")));
+		        }).switchIfEmpty(Mono.error(() -> new BadCredentialsException("Invalid JWT token")));
+	}
+}
@@ -1,11 +1,13 @@
 package com.trainerworkloadservice.configuration.security;
 
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collections;
-import javax.servlet.FilterChain;
-import javax.servlet.ServletException;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -27,32 +29,28 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 	        throws ServletException, IOException {
 
 		final String requestTokenHeader = request.getHeader("Authorization");
-		String transactionId = request.getHeader("X-Transaction-ID");
-		if (transactionId == null) {
-			transactionId = "unknown";
-		}
 
 		if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
 			String jwtToken = requestTokenHeader.substring(7);
 
 			try {
-				if (jwtTokenUtil.validateToken(jwtToken)) {
-					String serviceName = jwtTokenUtil.getServiceNameFromToken(jwtToken);
+				Optional<Claims> claims = jwtTokenUtil.validateAndGetClaims(jwtToken);
+				if (claims.isPresent()) {
+					String serviceName = claims.get().getSubject();
 
 					UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
 					        serviceName, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_SERVICE")));
 
 					SecurityContextHolder.getContext().setAuthentication(authentication);
-					log.info("Transaction [{}]: Valid JWT token for service: {}", transactionId, serviceName);
+					log.info("Valid JWT token for service: {}", serviceName);
 				} else {
-					log.warn("Transaction [{}]: Invalid JWT token", transactionId);
+					log.warn("Invalid JWT token");
 				}
 			} catch (Exception e) {
-				log.error("Transaction [{}]: Error validating JWT token: {}", transactionId, e.getMessage());
+				log.error("Error validating JWT token: {}", e.getMessage());
 			}
 		} else {
-			log.debug("Transaction [{}]: No JWT token found in request headers or token doesn't start with Bearer",
-			        transactionId);
+			log.debug("No JWT token found in request headers or token doesn't start with Bearer");
 		}
 
 		chain.doFilter(request, response);
@@ -0,0 +1,58 @@
+package com.trainerworkloadservice.configuration.security;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.jsonwebtoken.Claims;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// The gRPC counterpart of JwtRequestFilter. Every method of the workload service needs a valid service token, as
+// /api/v1/workload/** does, so a call without one is closed with UNAUTHENTICATED before it reaches the service.
+@Slf4j
+@Component
+public class JwtServerInterceptor implements ServerInterceptor {
+	public static final Context.Key<String> SERVICE_NAME = Context.key("serviceName");
+
+	private static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("authorization",
+	        Metadata.ASCII_STRING_MARSHALLER);
+
+	private final JwtTokenUtil jwtTokenUtil;
+
+	public JwtServerInterceptor(JwtTokenUtil jwtTokenUtil) {
+		this.jwtTokenUtil = jwtTokenUtil;
+	}
+
+	@Override
+	public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+	        ServerCallHandler<Q, R> next) {
+		final String authorization = headers.get(AUTHORIZATION);
+
+		if (authorization == null || !authorization.startsWith("Bearer ")) {
+			log.debug("No JWT token found in call metadata or token doesn't start with Bearer");
+			return reject(call, "Full authentication is required to access this resource");
+		}
+
+		Optional<Claims> claims = jwtTokenUtil.validateAndGetClaims(authorization.substring(7));
+		if (claims.isEmpty()) {
+			log.warn("Invalid JWT token");
+			return reject(call, "Invalid JWT token");
+		}
+
+		String serviceName = claims.get().getSubject();
+		log.info("Valid JWT token for service: {}", serviceName);
+		return Contexts.interceptCall(Context.current().withValue(SERVICE_NAME, serviceName), call, headers, next);
+	}
+
+	private <Q, R> ServerCall.Listener<Q> reject(ServerCall<Q, R> call, String reason) {
+		log.error("Unauthorized error: {} for {}", reason, call.getMethodDescriptor().getFullMethodName());
+		call.close(Status.UNAUTHENTICATED.withDescription("Unauthorized: " + reason), new Metadata());
+		return new ServerCall.Listener<>() {
+		};
+	}
+}
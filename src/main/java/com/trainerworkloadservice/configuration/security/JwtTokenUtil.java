@@ -1,46 +1,104 @@
 package com.trainerworkloadservice.configuration.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.util.Date;
-import javax.crypto.SecretKey;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 public class JwtTokenUtil {
-	@Value("${jwt.secret}")
-	private String secret;
+	private final Clock clock;
+	private final JwtParser jwtParser;
+	// SHA-256 of recently verified tokens; an entry lives no longer than the token's own expiration
+	private final Cache<String, Claims> verifiedTokens;
 
-	public boolean validateToken(String token) {
-		try {
-			SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-			Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+	@Autowired
+	public JwtTokenUtil(@Value("${jwt.secret}") String secret,
+	        @Value("${jwt.verified-token-cache-size:10000}") long verifiedTokenCacheSize) {
+		this(secret, verifiedTokenCacheSize, Clock.systemUTC());
+	}
 
-			boolean isValid = !claims.getExpiration().before(new Date());
-			if (!isValid) {
+	// Token expiration and the cache both go by the given clock
+	public JwtTokenUtil(String secret, long verifiedTokenCacheSize, Clock clock) {
+		this.clock = clock;
+		this.jwtParser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+		        .setClock(() -> new Date(clock.millis())).build();
+		this.verifiedTokens = Caffeine.newBuilder().maximumSize(verifiedTokenCacheSize)
+		        .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis())).expireAfter(new UntilTokenExpiration())
+		        .build();
+	}
+
+	public Optional<Claims> validateAndGetClaims(String token) {
+		if (token == null || token.isEmpty()) {
+			log.error("Invalid JWT token: token is empty");
+			return Optional.empty();
+		}
+
+		String tokenHash = sha256(token);
+		Claims cached = verifiedTokens.getIfPresent(tokenHash);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		try {
+			Claims claims = jwtParser.parseClaimsJws(token).getBody();
+			if (claims.getExpiration() == null || claims.getExpiration().before(new Date(clock.millis()))) {
 				log.warn("JWT token is expired");
+				return Optional.empty();
 			}
-			return isValid;
+
+			verifiedTokens.put(tokenHash, claims);
+			return Optional.of(claims);
+		} catch (ExpiredJwtException e) {
+			log.warn("JWT token is expired");
+			return Optional.empty();
 		} catch (Exception e) {
 			log.error("Invalid JWT token: {}", e.getMessage());
-			return false;
+			return Optional.empty();
 		}
 	}
 
-	public String getServiceNameFromToken(String token) {
+	private static String sha256(String token) {
 		try {
-			SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-			Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+			return HexFormat.of().formatHex(
+			        MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
 
-			return claims.getSubject();
-		} catch (Exception e) {
-			log.error("Error extracting subject from JWT token: {}", e.getMessage());
-			return null;
+	private static class UntilTokenExpiration implements Expiry<String, Claims> {
+		@Override
+		public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+			// currentTime comes from the cache ticker, which follows the same clock as the expiration check
+			return Math.max(0, TimeUnit.MILLISECONDS.toNanos(claims.getExpiration().getTime()) - currentTime);
+		}
+
+		@Override
+		public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(tokenHash, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
 		}
 	}
 }
@@ -0,0 +1,36 @@
+package com.trainerworkloadservice.configuration.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainerworkloadservice.common.error.ErrorsDetails;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+public class ReactiveJwtAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Override
+	public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException authException) {
+		log.error("Unauthorized error: {}", authException.getMessage());
+
+		ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.UNAUTHORIZED);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+		ErrorsDetails errorDetails = new ErrorsDetails("Unauthorized: " + authException.getMessage());
+		try {
+			DataBuffer body = response.bufferFactory().wrap(objectMapper.writeValueAsBytes(errorDetails));
+			return response.writeWith(Mono.just(body));
+		} catch (JsonProcessingException e) {
+			return Mono.error(e);
+		}
+	}
+}
@@ -0,0 +1,353 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.input.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.grpc.TrainerWorkloadGrpcService;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.MonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.MonthlyWorkloadRequest;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.MonthlyWorkloadsRequest;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.TrainerWorkloadServiceGrpc;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadIngestErrorType;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadIngestSummary;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadConflictException;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainerMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainersMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainersMonthlyWorkloadQuery;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.common.logging.TransactionIdServerInterceptor;
+import com.trainerworkloadservice.configuration.GrpcServerConfig;
+import com.trainerworkloadservice.configuration.security.JwtServerInterceptor;
+import com.trainerworkloadservice.configuration.security.JwtTokenUtil;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+class TrainerWorkloadGrpcServiceTest {
+	private static final String SECRET = "thisIsAVeryLongSecretKeyForTestingPurposesOnly12345678901234567890";
+	private static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("authorization",
+	        Metadata.ASCII_STRING_MARSHALLER);
+
+	private ProcessTrainerWorkloadUseCase processTrainerWorkloadUseCase;
+	private LoadTrainerMonthlyWorkloadUseCase loadTrainerMonthlyWorkloadUseCase;
+	private LoadTrainersMonthlyWorkloadUseCase loadTrainersMonthlyWorkloadUseCase;
+	private Server server;
+	private ManagedChannel channel;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		processTrainerWorkloadUseCase = Mockito.mock(ProcessTrainerWorkloadUseCase.class);
+		loadTrainerMonthlyWorkloadUseCase = Mockito.mock(LoadTrainerMonthlyWorkloadUseCase.class);
+		loadTrainersMonthlyWorkloadUseCase = Mockito.mock(LoadTrainersMonthlyWorkloadUseCase.class);
+		TrainerWorkloadGrpcService service = new TrainerWorkloadGrpcService(processTrainerWorkloadUseCase,
+		        loadTrainerMonthlyWorkloadUseCase, loadTrainersMonthlyWorkloadUseCase);
+
+		String serverName = InProcessServerBuilder.generateName();
+		server = InProcessServerBuilder.forName(serverName)
+		        .addService(new GrpcServerConfig().trainerWorkloadServiceDefinition(service,
+		                new JwtServerInterceptor(new JwtTokenUtil(SECRET, 100)),
+		                new TransactionIdServerInterceptor()))
+		        .build().start();
+		channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+	}
+
+	@AfterEach
+	public void tearDown() throws InterruptedException {
+		channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void processTrainerWorkload_ShouldProcessCommand_WhenEventIsValid() {
+		blockingStub(token(), "tx-1").processTrainerWorkload(event("john.doe"));
+
+		ArgumentCaptor<ProcessTrainerWorkloadCommand> captor = ArgumentCaptor
+		        .forClass(ProcessTrainerWorkloadCommand.class);
+		verify(processTrainerWorkloadUseCase).processTrainerWorkload(captor.capture());
+		assertEquals(ProcessTrainerWorkloadCommand.builder().username("john.doe").firstName("John").lastName("Doe")
+		        .isActive(true).trainingDate(LocalDate.of(2023, 5, 15)).trainingDuration(60).actionType(ActionType.ADD)
+		        .transactionId("tx-1").idempotencyKey("tx-1").build(), captor.getValue());
+	}
+
+	@Test
+	public void processTrainerWorkload_ShouldReturnTransactionId_WhenNotProvided() {
+		AtomicReference<Metadata> headers = new AtomicReference<>();
+		AtomicReference<Metadata> trailers = new AtomicReference<>();
+
+		blockingStub(token(), null)
+		        .withInterceptors(MetadataUtils.newCaptureMetadataInterceptor(headers, trailers))
+		        .processTrainerWorkload(event("john.doe"));
+
+		ArgumentCaptor<ProcessTrainerWorkloadCommand> captor = ArgumentCaptor
+		        .forClass(ProcessTrainerWorkloadCommand.class);
+		verify(processTrainerWorkloadUseCase).processTrainerWorkload(captor.capture());
+		assertNotNull(captor.getValue().getTransactionId());
+		assertEquals(captor.getValue().getTransactionId(),
+		        headers.get().get(TransactionIdServerInterceptor.TRANSACTION_ID_METADATA_KEY));
+		assertNull(captor.getValue().getIdempotencyKey());
+	}
+
+	@Test
+	public void processTrainerWorkload_ShouldBeUnauthenticated_WhenTokenIsMissing() {
+		StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+		        () -> blockingStub(null, "tx-1").processTrainerWorkload(event("john.doe")));
+
+		assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+		assertEquals("tx-1", exception.getTrailers().get(TransactionIdServerInterceptor.TRANSACTION_ID_METADATA_KEY));
+		verify(processTrainerWorkloadUseCase, never()).processTrainerWorkload(any());
+	}
+
+	@Test
+	public void processTrainerWorkload_ShouldBeUnauthenticated_WhenTokenIsExpired() {
+		String token = Jwts.builder().setSubject("gym-service").setIssuedAt(new Date())
+		        .setExpiration(new Date(System.currentTimeMillis() - 60000))
+		        .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+		        .compact();
+
+		StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+		        () -> blockingStub(token, "tx-1").processTrainerWorkload(event("john.doe")));
+
+		assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+		verify(processTrainerWorkloadUseCase, never()).processTrainerWorkload(any());
+	}
+
+	@Test
+	public void processTrainerWorkload_ShouldBeInvalidArgument_WhenEventIsInvalid() {
+		WorkloadEvent event = event("john.doe").toBuilder().clearFirstName().setTrainingDuration(-1).build();
+
+		StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+		        () -> blockingStub(token(), "tx-1").processTrainerWorkload(event));
+
+		assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+		assertEquals("firstName First name is required|trainingDuration Training duration must be positive",
+		        exception.getStatus().getDescription());
+		verify(processTrainerWorkloadUseCase, never()).processTrainerWorkload(any());
+	}
+
+	@Test
+	public void processTrainerWorkload_ShouldBeAborted_WhenUpdateConflicts() {
+		doThrow(TrainerWorkloadConflictException.by("john.doe")).when(processTrainerWorkloadUseCase)
+		        .processTrainerWorkload(any());
+
+		StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+		        () -> blockingStub(token(), "tx-1").processTrainerWorkload(event("john.doe")));
+
+		assertEquals(Status.Code.ABORTED, exception.getStatus().getCode());
+		assertEquals("Could not apply workload update for username: john.doe", exception.getStatus().getDescription());
+	}
+
+	@Test
+	public void ingestTrainerWorkloads_ShouldProcessEachEventAndSummarise() throws Exception {
+		doThrow(new IllegalStateException("Mongo is down")).when(processTrainerWorkloadUseCase)
+		        .processTrainerWorkload(Mockito.argThat(command -> command.getUsername().equals("jane.doe")));
+
+		CompletableFuture<WorkloadIngestSummary> summary = new CompletableFuture<>();
+		StreamObserver<WorkloadEvent> events = asyncStub(token(), "tx-1").ingestTrainerWorkloads(observer(summary));
+		events.onNext(event("john.doe"));
+		events.onNext(event("invalid").toBuilder().clearActionType().build());
+		events.onNext(event("jane.doe"));
+		events.onNext(event("jim.doe").toBuilder().setTransactionId("jim-tx").build());
+		events.onCompleted();
+
+		WorkloadIngestSummary result = summary.get(5, TimeUnit.SECONDS);
+		assertEquals(2, result.getProcessed());
+		assertEquals(1, result.getRejected());
+		assertEquals(1, result.getFailed());
+		assertEquals(2, result.getErrorsCount());
+		assertEquals(1, result.getErrors(0).getIndex());
+		assertEquals(WorkloadIngestErrorType.REJECTED, result.getErrors(0).getType());
+		assertEquals("actionType Action type is required", result.getErrors(0).getMessage());
+		assertEquals(2, result.getErrors(1).getIndex());
+		assertEquals("jane.doe", result.getErrors(1).getUsername());
+		assertEquals(WorkloadIngestErrorType.FAILED, result.getErrors(1).getType());
+
+		ArgumentCaptor<ProcessTrainerWorkloadCommand> captor = ArgumentCaptor
+		        .forClass(ProcessTrainerWorkloadCommand.class);
+		verify(processTrainerWorkloadUseCase, Mockito.times(3)).processTrainerWorkload(captor.capture());
+		assertEquals(List.of("tx-1-0", "tx-1-2", "jim-tx"),
+		        captor.getAllValues().stream().map(ProcessTrainerWorkloadCommand::getTransactionId).toList());
+	}
+
+	@Test
+	public void ingestTrainerWorkloads_ShouldBeUnauthenticated_WhenTokenIsMissing() {
+		CompletableFuture<WorkloadIngestSummary> summary = new CompletableFuture<>();
+		StreamObserver<WorkloadEvent> events = asyncStub(null, "tx-1").ingestTrainerWorkloads(observer(summary));
+		events.onNext(event("john.doe"));
+		events.onCompleted();
+
+		Exception exception = assertThrows(Exception.class, () -> summary.get(5, TimeUnit.SECONDS));
+		assertEquals(Status.Code.UNAUTHENTICATED, Status.fromThrowable(exception).getCode());
+		verify(processTrainerWorkloadUseCase, never()).processTrainerWorkload(any());
+	}
+
+	@Test
+	public void getTrainerMonthlyWorkload_ShouldReturnWorkload() {
+		when(loadTrainerMonthlyWorkloadUseCase.loadTrainerMonthlyWorkload("john.doe", 2023, 5, "tx-1"))
+		        .thenReturn(TrainerMonthlyWorkload.builder().username("john.doe").firstName("John").lastName("Doe")
+		                .isActive(true).year(2023).month(5).summaryDuration(120).build());
+
+		MonthlyWorkload workload = blockingStub(token(), "tx-1").getTrainerMonthlyWorkload(
+		        MonthlyWorkloadRequest.newBuilder().setUsername("john.doe").setYear(2023).setMonth(5).build());
+
+		assertEquals(MonthlyWorkload.newBuilder().setUsername("john.doe").setFirstName("John").setLastName("Doe")
+		        .setIsActive(true).setYear(2023).setMonth(5).setSummaryDuration(120).build(), workload);
+	}
+
+	@Test
+	public void getTrainerMonthlyWorkload_ShouldReturnEmptyWorkload_WhenTrainerIsUnknown() {
+		when(loadTrainerMonthlyWorkloadUseCase.loadTrainerMonthlyWorkload("unknown", 2023, 5, "tx-1"))
+		        .thenReturn(TrainerMonthlyWorkload.builder().username("unknown").year(2023).month(5)
+		                .summaryDuration(0).build());
+
+		MonthlyWorkload workload = blockingStub(token(), "tx-1").getTrainerMonthlyWorkload(
+		        MonthlyWorkloadRequest.newBuilder().setUsername("unknown").setYear(2023).setMonth(5).build());
+
+		assertEquals("unknown", workload.getUsername());
+		assertEquals("", workload.getFirstName());
+		assertEquals(0, workload.getSummaryDuration());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamTrainersMonthlyWorkload_ShouldStreamEveryTrainer() {
+		doAnswer(invocation -> {
+			Consumer<TrainerMonthlyWorkload> consumer = invocation.getArgument(1);
+			for (int i = 0; i < 3; i++) {
+				consumer.accept(TrainerMonthlyWorkload.builder().username("trainer" + i).firstName("John")
+				        .lastName("Doe").isActive(true).year(2023).month(5).summaryDuration(60 * i).build());
+			}
+			return 3;
+		}).when(loadTrainersMonthlyWorkloadUseCase).streamTrainersMonthlyWorkload(any(), any(Consumer.class));
+
+		Iterator<MonthlyWorkload> workloads = blockingStub(token(), "tx-1")
+		        .streamTrainersMonthlyWorkload(MonthlyWorkloadsRequest.newBuilder().setYear(2023).setMonth(5).build());
+
+		List<String> usernames = new ArrayList<>();
+		workloads.forEachRemaining(workload -> usernames.add(workload.getUsername()));
+		assertEquals(List.of("trainer0", "trainer1", "trainer2"), usernames);
+
+		ArgumentCaptor<TrainersMonthlyWorkloadQuery> captor = ArgumentCaptor
+		        .forClass(TrainersMonthlyWorkloadQuery.class);
+		verify(loadTrainersMonthlyWorkloadUseCase).streamTrainersMonthlyWorkload(captor.capture(), any());
+		assertNull(captor.getValue().getUsernames());
+		assertNull(captor.getValue().getIsActive());
+		assertEquals("tx-1", captor.getValue().getTransactionId());
+	}
+
+	@Test
+	public void streamTrainersMonthlyWorkload_ShouldPassFilters() {
+		Iterator<MonthlyWorkload> workloads = blockingStub(token(), "tx-1")
+		        .streamTrainersMonthlyWorkload(MonthlyWorkloadsRequest.newBuilder().setYear(2023).setMonth(5)
+		                .addUsernames("john.doe").addUsernames("jane.doe").setIsActive(false).build());
+		workloads.forEachRemaining(workload -> {
+		});
+
+		verify(loadTrainersMonthlyWorkloadUseCase).streamTrainersMonthlyWorkload(
+		        eq(TrainersMonthlyWorkloadQuery.builder().year(2023).month(5).usernames(List.of("john.doe", "jane.doe"))
+		                .isActive(false).transactionId("tx-1").build()),
+		        any());
+	}
+
+	@Test
+	public void streamTrainersMonthlyWorkload_ShouldBeInvalidArgument_WhenMonthIsOutOfRange() {
+		Iterator<MonthlyWorkload> workloads = blockingStub(token(), "tx-1")
+		        .streamTrainersMonthlyWorkload(MonthlyWorkloadsRequest.newBuilder().setYear(2023).setMonth(13).build());
+
+		StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, workloads::hasNext);
+		assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+		assertEquals("month Month must be between 1 and 12", exception.getStatus().getDescription());
+		verify(loadTrainersMonthlyWorkloadUseCase, never()).streamTrainersMonthlyWorkload(any(), any());
+	}
+
+	private TrainerWorkloadServiceGrpc.TrainerWorkloadServiceBlockingStub blockingStub(String token,
+	        String transactionId) {
+		return TrainerWorkloadServiceGrpc.newBlockingStub(channel)
+		        .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadata(token, transactionId)));
+	}
+
+	private TrainerWorkloadServiceGrpc.TrainerWorkloadServiceStub asyncStub(String token, String transactionId) {
+		return TrainerWorkloadServiceGrpc.newStub(channel)
+		        .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadata(token, transactionId)));
+	}
+
+	private Metadata metadata(String token, String transactionId) {
+		Metadata metadata = new Metadata();
+		if (token != null) {
+			metadata.put(AUTHORIZATION, "Bearer " + token);
+		}
+		if (transactionId != null) {
+			metadata.put(TransactionIdServerInterceptor.TRANSACTION_ID_METADATA_KEY, transactionId);
+		}
+		return metadata;
+	}
+
+	private String token() {
+		return Jwts.builder().setSubject("gym-service").setIssuedAt(new Date())
+		        .setExpiration(new Date(System.currentTimeMillis() + 60000))
+		        .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+		        .compact();
+	}
+
+	private WorkloadEvent event(String username) {
+		return WorkloadEvent.newBuilder().setUsername(username).setFirstName("John").setLastName("Doe")
+		        .setIsActive(true).setTrainingDate((int) LocalDate.of(2023, 5, 15).toEpochDay())
+		        .setTrainingDuration(60)
+		        .setActionType(com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.ActionType.ADD).build();
+	}
+
+	private <T> StreamObserver<T> observer(CompletableFuture<T> result) {
+		return new StreamObserver<>() {
+			@Override
+			public void onNext(T value) {
+				result.complete(value);
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				result.completeExceptionally(t);
+			}
+
+			@Override
+			public void onCompleted() {
+			}
+		};
+	}
+}
@@ -0,0 +1,147 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.input.messaging.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.messaging.listener.TrainerWorkloadMessageListener;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.configuration.JmsConfig;
+import jakarta.validation.Validation;
+import java.time.LocalDate;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.jms.config.MethodJmsListenerEndpoint;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
+
+class TrainerWorkloadMessageListenerTest {
+	private static final String QUEUE = "trainer.workload.events.test";
+
+	private ProcessTrainerWorkloadUseCase processTrainerWorkloadUseCase;
+	private ObjectMapper objectMapper;
+	private TrainerWorkloadMessageListener listener;
+	private ProcessTrainerWorkloadCommand command;
+
+	@BeforeEach
+	public void setup() {
+		processTrainerWorkloadUseCase = Mockito.mock(ProcessTrainerWorkloadUseCase.class);
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+		        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		listener = new TrainerWorkloadMessageListener(processTrainerWorkloadUseCase, objectMapper,
+		        Validation.buildDefaultValidatorFactory().getValidator());
+
+		command = ProcessTrainerWorkloadCommand.builder().username("john.doe").firstName("John").lastName("Doe")
+		        .isActive(true).trainingDate(LocalDate.of(2023, 5, 15)).trainingDuration(60)
+		        .actionType(ActionType.ADD).transactionId("tx-1").idempotencyKey("tx-1").build();
+	}
+
+	@Test
+	public void onTrainerWorkloadMessage_ShouldProcessCommand() throws Exception {
+		listener.onTrainerWorkloadMessage(objectMapper.writeValueAsString(command), "ID:message-1");
+
+		verify(processTrainerWorkloadUseCase).processTrainerWorkload(command);
+	}
+
+	@Test
+	public void onTrainerWorkloadMessage_WhenTransactionIdMissing_ShouldUseMessageId() throws Exception {
+		command.setTransactionId(null);
+
+		listener.onTrainerWorkloadMessage(objectMapper.writeValueAsString(command), "ID:message-1");
+
+		ArgumentCaptor<ProcessTrainerWorkloadCommand> captor = ArgumentCaptor
+		        .forClass(ProcessTrainerWorkloadCommand.class);
+		verify(processTrainerWorkloadUseCase).processTrainerWorkload(captor.capture());
+		assertEquals("ID:message-1", captor.getValue().getTransactionId());
+		assertEquals("ID:message-1", captor.getValue().getIdempotencyKey());
+	}
+
+	@Test
+	public void onTrainerWorkloadMessage_WhenPayloadMalformed_ShouldDiscardMessage() {
+		listener.onTrainerWorkloadMessage("{not json", "ID:message-1");
+
+		verify(processTrainerWorkloadUseCase, never()).processTrainerWorkload(any());
+	}
+
+	@Test
+	public void onTrainerWorkloadMessage_WhenCommandIncomplete_ShouldDiscardMessage() throws Exception {
+		command.setTrainingDate(null);
+
+		listener.onTrainerWorkloadMessage(objectMapper.writeValueAsString(command), "ID:message-1");
+
+		verify(processTrainerWorkloadUseCase, never()).processTrainerWorkload(any());
+	}
+
+	@Test
+	public void onTrainerWorkloadMessage_WhenTrainerDetailsMissing_ShouldDiscardMessage() throws Exception {
+		command.setFirstName(" ");
+		command.setLastName(null);
+		command.setIsActive(null);
+
+		listener.onTrainerWorkloadMessage(objectMapper.writeValueAsString(command), "ID:message-1");
+
+		verify(processTrainerWorkloadUseCase, never()).processTrainerWorkload(any());
+	}
+
+	@Test
+	public void onTrainerWorkloadMessage_WhenTrainingDurationNotPositive_ShouldDiscardMessage() throws Exception {
+		command.setTrainingDuration(0);
+
+		listener.onTrainerWorkloadMessage(objectMapper.writeValueAsString(command), "ID:message-1");
+
+		verify(processTrainerWorkloadUseCase, never()).processTrainerWorkload(any());
+	}
+
+	@Test
+	public void onTrainerWorkloadMessage_WhenProcessingFails_ShouldBeRedeliveredByEmbeddedBroker() throws Exception {
+		ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(
+		        "vm://workload-test?broker.persistent=false&broker.useJmx=false");
+		JmsConfig jmsConfig = new JmsConfig();
+		jmsConfig.trainerWorkloadConnectionFactoryCustomizer(1, 2).customize(connectionFactory);
+		connectionFactory.getRedeliveryPolicy().setInitialRedeliveryDelay(0);
+
+		doThrow(new IllegalStateException("Mongo unavailable")).doNothing().when(processTrainerWorkloadUseCase)
+		        .processTrainerWorkload(any());
+
+		DefaultMessageListenerContainer container = createContainer(jmsConfig, connectionFactory);
+		try {
+			new JmsTemplate(connectionFactory).convertAndSend(QUEUE, objectMapper.writeValueAsString(command));
+
+			verify(processTrainerWorkloadUseCase, timeout(5000).times(2)).processTrainerWorkload(command);
+		} finally {
+			container.shutdown();
+		}
+	}
+
+	private DefaultMessageListenerContainer createContainer(JmsConfig jmsConfig,
+	        ActiveMQConnectionFactory connectionFactory) throws Exception {
+		DefaultMessageHandlerMethodFactory handlerMethodFactory = new DefaultMessageHandlerMethodFactory();
+		handlerMethodFactory.afterPropertiesSet();
+
+		MethodJmsListenerEndpoint endpoint = new MethodJmsListenerEndpoint();
+		endpoint.setId("trainer-workload-test");
+		endpoint.setBean(listener);
+		endpoint.setMethod(TrainerWorkloadMessageListener.class.getMethod("onTrainerWorkloadMessage", String.class,
+		        String.class));
+		endpoint.setDestination(QUEUE);
+		endpoint.setMessageHandlerMethodFactory(handlerMethodFactory);
+
+		DefaultMessageListenerContainer container = jmsConfig
+		        .trainerWorkloadListenerContainerFactory(connectionFactory, "1").createListenerContainer(endpoint);
+		container.afterPropertiesSet();
+		container.start();
+		return container;
+	}
+}
@@ -0,0 +1,79 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.input.web.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller.ReactiveTrainerWorkloadController;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ReactiveLoadTrainerMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ReactiveProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+class ReactiveTrainerWorkloadControllerTest {
+	private WebTestClient webTestClient;
+	private ReactiveProcessTrainerWorkloadUseCase reactiveProcessTrainerWorkloadUseCase;
+	private ReactiveLoadTrainerMonthlyWorkloadUseCase reactiveLoadTrainerMonthlyWorkloadUseCase;
+
+	@BeforeEach
+	public void setup() {
+		reactiveProcessTrainerWorkloadUseCase = Mockito.mock(ReactiveProcessTrainerWorkloadUseCase.class);
+		reactiveLoadTrainerMonthlyWorkloadUseCase = Mockito.mock(ReactiveLoadTrainerMonthlyWorkloadUseCase.class);
+
+		webTestClient = WebTestClient.bindToController(new ReactiveTrainerWorkloadController(
+		        reactiveProcessTrainerWorkloadUseCase, reactiveLoadTrainerMonthlyWorkloadUseCase)).build();
+	}
+
+	@Test
+	public void processTrainerWorkload_ShouldPassCommandWithTransactionId() {
+		when(reactiveProcessTrainerWorkloadUseCase.processTrainerWorkload(any())).thenReturn(Mono.empty());
+
+		webTestClient.post().uri("/api/v1/workload").contentType(MediaType.APPLICATION_JSON)
+		        .header("X-Transaction-ID", "transaction-123")
+		        .bodyValue("{\"username\":\"john.doe\",\"first_name\":\"John\",\"last_name\":\"Doe\","
+		                + "\"is_active\":true,\"training_date\":\"2024-06-15\",\"training_duration\":60,"
+		                + "\"action_type\":\"ADD\"}")
+		        .exchange().expectStatus().isOk();
+
+		ArgumentCaptor<ProcessTrainerWorkloadCommand> commandCaptor = ArgumentCaptor
+		        .forClass(ProcessTrainerWorkloadCommand.class);
+		verify(reactiveProcessTrainerWorkloadUseCase).processTrainerWorkload(commandCaptor.capture());
+		ProcessTrainerWorkloadCommand command = commandCaptor.getValue();
+		assertEquals("john.doe", command.getUsername());
+		assertEquals(LocalDate.of(2024, 6, 15), command.getTrainingDate());
+		assertEquals(ActionType.ADD, command.getActionType());
+		assertEquals("transaction-123", command.getTransactionId());
+	}
+
+	@Test
+	public void processTrainerWorkload_ShouldRejectInvalidRequest() {
+		webTestClient.post().uri("/api/v1/workload").contentType(MediaType.APPLICATION_JSON)
+		        .bodyValue("{\"username\":\"\"}").exchange().expectStatus().isBadRequest();
+
+		verify(reactiveProcessTrainerWorkloadUseCase, never()).processTrainerWorkload(any());
+	}
+
+	@Test
+	public void getTrainerMonthlyWorkload_ShouldReturnMonthlyWorkload() {
+		TrainerMonthlyWorkload monthlyWorkload = TrainerMonthlyWorkload.builder().username("john.doe")
+		        .firstName("John").lastName("Doe").isActive(true).year(2024).month(6).summaryDuration(120).build();
+		when(reactiveLoadTrainerMonthlyWorkloadUseCase.loadTrainerMonthlyWorkload(Mockito.eq("john.doe"),
+		        Mockito.eq(2024), Mockito.eq(6), anyString())).thenReturn(Mono.just(monthlyWorkload));
+
+		webTestClient.get().uri("/api/v1/workload/john.doe/2024/6").exchange().expectStatus().isOk().expectBody()
+		        .jsonPath("$.username").isEqualTo("john.doe").jsonPath("$.year").isEqualTo(2024)
+		        .jsonPath("$.month").isEqualTo(6).jsonPath("$.summaryDuration").isEqualTo(120);
+	}
+}
@@ -1,33 +1,63 @@
 package com.trainerworkloadservice.unit.TrainerWorkload.adapter.input.web.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.WorkloadEventBatch;
 import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller.TrainerWorkloadController;
 import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.TrainerWorkloadRequest;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.request.TrainersMonthlyWorkloadRequest;
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainerMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadTrainersMonthlyWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadBatchUseCase;
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadResult;
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainersMonthlyWorkloadQuery;
 import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
 import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadRange;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadMonth;
+import com.trainerworkloadservice.common.error.RestResponseEntityExceptionHandler;
+import jakarta.validation.Validation;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 class TrainerWorkloadControllerTest {
+	private static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
 	private MockMvc mockMvc;
+	private TrainerWorkloadController controller;
 	private ProcessTrainerWorkloadUseCase processTrainerWorkloadUseCase;
+	private ProcessTrainerWorkloadBatchUseCase processTrainerWorkloadBatchUseCase;
 	private LoadTrainerMonthlyWorkloadUseCase loadTrainerMonthlyWorkloadUseCase;
+	private LoadTrainersMonthlyWorkloadUseCase loadTrainersMonthlyWorkloadUseCase;
 	private ObjectMapper objectMapper;
 
 	private String username;
@@ -44,16 +74,20 @@ class TrainerWorkloadControllerTest {
 	@BeforeEach
 	public void setup() {
 		processTrainerWorkloadUseCase = Mockito.mock(ProcessTrainerWorkloadUseCase.class);
+		processTrainerWorkloadBatchUseCase = Mockito.mock(ProcessTrainerWorkloadBatchUseCase.class);
 		loadTrainerMonthlyWorkloadUseCase = Mockito.mock(LoadTrainerMonthlyWorkloadUseCase.class);
-
-		TrainerWorkloadController controller = new TrainerWorkloadController(processTrainerWorkloadUseCase,
-		        loadTrainerMonthlyWorkloadUseCase);
-
-		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+		loadTrainersMonthlyWorkloadUseCase = Mockito.mock(LoadTrainersMonthlyWorkloadUseCase.class);
 
 		objectMapper = new ObjectMapper();
 		objectMapper.registerModule(new JavaTimeModule());
 
+		controller = new TrainerWorkloadController(processTrainerWorkloadUseCase,
+		        processTrainerWorkloadBatchUseCase, loadTrainerMonthlyWorkloadUseCase,
+		        loadTrainersMonthlyWorkloadUseCase, Validation.buildDefaultValidatorFactory().getValidator(),
+		        objectMapper);
+
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
 		username = "trainer.username";
 		firstName = "John";
 		lastName = "Doe";
@@ -85,6 +119,12 @@ class TrainerWorkloadControllerTest {
 		mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/workload").contentType(MediaType.APPLICATION_JSON)
 		        .content(objectMapper.writeValueAsString(createWorkloadRequest())))
 		        .andExpect(MockMvcResultMatchers.status().isOk());
+
+		ArgumentCaptor<ProcessTrainerWorkloadCommand> commandCaptor = ArgumentCaptor
+		        .forClass(ProcessTrainerWorkloadCommand.class);
+		verify(processTrainerWorkloadUseCase).processTrainerWorkload(commandCaptor.capture());
+		assertNotNull(commandCaptor.getValue().getTransactionId());
+		assertNull(commandCaptor.getValue().getIdempotencyKey());
 	}
 
 	@Test
@@ -204,6 +244,202 @@ class TrainerWorkloadControllerTest {
 		        .andExpect(MockMvcResultMatchers.jsonPath("$.username").value(username));
 	}
 
+	@Test
+	public void getTrainerYearlyWorkload_ShouldReturnRecordedMonthsWithETag() throws Exception {
+		when(loadTrainerMonthlyWorkloadUseCase.loadTrainerYearlyWorkload(username, year, transactionId))
+		        .thenReturn(workloadRange());
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/{username}/{year}", username, year)
+		        .header("X-Transaction-ID", transactionId)).andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.username").value(username))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.months.length()").value(2))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.months[1].month").value(month))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.months[1].summaryDuration").value(120));
+	}
+
+	@Test
+	public void getTrainerYearlyWorkload_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+		when(loadTrainerMonthlyWorkloadUseCase.loadTrainerYearlyWorkload(eq(username), eq(year), any(String.class)))
+		        .thenReturn(workloadRange());
+		String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/{username}/{year}", username, year))
+		        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/{username}/{year}", username, year)
+		        .header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(MockMvcResultMatchers.status().isNotModified())
+		        .andExpect(MockMvcResultMatchers.content().string(""));
+
+		TrainerWorkloadRange changed = workloadRange();
+		changed.getMonths().get(1).setSummaryDuration(180);
+		when(loadTrainerMonthlyWorkloadUseCase.loadTrainerYearlyWorkload(eq(username), eq(year), any(String.class)))
+		        .thenReturn(changed);
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/{username}/{year}", username, year)
+		        .header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.months[1].summaryDuration").value(180));
+	}
+
+	@Test
+	public void getTrainerWorkloadRange_ShouldParseMonthBounds() throws Exception {
+		when(loadTrainerMonthlyWorkloadUseCase.loadTrainerWorkloadRange(eq(username),
+		        Mockito.eq(YearMonth.of(2022, 11)), Mockito.eq(YearMonth.of(2023, 5)), any(String.class)))
+		        .thenReturn(workloadRange());
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/{username}/range", username)
+		        .param("from", "2022-11").param("to", "2023-05")).andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.months[0].year").value(year));
+	}
+
+	@Test
+	public void getTrainerWorkloadHistory_ShouldReturnWholeHistory() throws Exception {
+		when(loadTrainerMonthlyWorkloadUseCase.loadTrainerWorkloadHistory(eq(username), any(String.class)))
+		        .thenReturn(workloadRange());
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/{username}/history", username))
+		        .andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.months.length()").value(2));
+	}
+
+	@Test
+	public void getTrainersMonthlyWorkload_ShouldStreamEveryTrainerOfQuery() throws Exception {
+		TrainersMonthlyWorkloadRequest request = TrainersMonthlyWorkloadRequest.builder().year(year).month(month)
+		        .isActive(true).build();
+		when(loadTrainersMonthlyWorkloadUseCase.streamTrainersMonthlyWorkload(any(), any())).thenAnswer(invocation -> {
+			Consumer<TrainerMonthlyWorkload> consumer = invocation.getArgument(1);
+			consumer.accept(TrainerMonthlyWorkload.builder().username("anna").year(year).month(month)
+			        .summaryDuration(90).build());
+			consumer.accept(TrainerMonthlyWorkload.builder().username(username).year(year).month(month)
+			        .summaryDuration(0).build());
+			return 2;
+		});
+
+		mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/workload/monthly").contentType(MediaType.APPLICATION_JSON)
+		        .content(objectMapper.writeValueAsString(request))).andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$[0].username").value("anna"))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$[0].summaryDuration").value(90))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$[1].summaryDuration").value(0));
+
+		ArgumentCaptor<TrainersMonthlyWorkloadQuery> queryCaptor = ArgumentCaptor
+		        .forClass(TrainersMonthlyWorkloadQuery.class);
+		verify(loadTrainersMonthlyWorkloadUseCase).streamTrainersMonthlyWorkload(queryCaptor.capture(), any());
+		assertEquals(month, queryCaptor.getValue().getMonth());
+		assertNull(queryCaptor.getValue().getUsernames());
+		assertEquals(true, queryCaptor.getValue().getIsActive());
+	}
+
+	@Test
+	public void getTrainersMonthlyWorkload_ShouldReturnBadRequest_WhenMonthIsInvalid() throws Exception {
+		TrainersMonthlyWorkloadRequest request = TrainersMonthlyWorkloadRequest.builder().year(year).month(13)
+		        .usernames(List.of(username)).build();
+
+		mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/workload/monthly").contentType(MediaType.APPLICATION_JSON)
+		        .content(objectMapper.writeValueAsString(request)))
+		        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+		verifyNoInteractions(loadTrainersMonthlyWorkloadUseCase);
+	}
+
+	@Test
+	public void processTrainerWorkloadBatch_ShouldReportPerItemStatus() throws Exception {
+		TrainerWorkloadRequest invalidRequest = createWorkloadRequest();
+		invalidRequest.setTrainingDuration(0);
+
+		when(processTrainerWorkloadBatchUseCase.processTrainerWorkloadBatch(anyList())).thenReturn(
+		        List.of(ProcessTrainerWorkloadResult.success(), ProcessTrainerWorkloadResult.failure("write failed")));
+
+		mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/workload/batch").contentType(MediaType.APPLICATION_JSON)
+		        .header("X-Transaction-ID", transactionId).content(objectMapper.writeValueAsString(
+		                List.of(createWorkloadRequest(), invalidRequest, createWorkloadRequest()))))
+		        .andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.processed").value(1))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.rejected").value(1))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.failed").value(1))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].status").value("PROCESSED"))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].status").value("REJECTED"))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].message")
+		                .value("trainingDuration Training duration must be positive"))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.items[2].status").value("FAILED"))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.items[2].message").value("write failed"));
+	}
+
+	@Test
+	public void processTrainerWorkloadBatch_ShouldNotCallUseCaseWithInvalidItems() throws Exception {
+		TrainerWorkloadRequest invalidRequest = createWorkloadRequest();
+		invalidRequest.setUsername("");
+
+		when(processTrainerWorkloadBatchUseCase.processTrainerWorkloadBatch(List.of())).thenReturn(List.of());
+
+		mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/workload/batch").contentType(MediaType.APPLICATION_JSON)
+		        .content(objectMapper.writeValueAsString(List.of(invalidRequest))))
+		        .andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.rejected").value(1))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].status").value("REJECTED"));
+	}
+
+	@Test
+	public void processTrainerWorkloadEvent_ShouldMapProtobufEventToCommand() throws Exception {
+		protobufMockMvc().perform(MockMvcRequestBuilders.post("/api/v1/workload").contentType(PROTOBUF)
+		        .header("X-Transaction-ID", transactionId).content(createWorkloadEvent().build().toByteArray()))
+		        .andExpect(MockMvcResultMatchers.status().isOk());
+
+		ArgumentCaptor<ProcessTrainerWorkloadCommand> commandCaptor = ArgumentCaptor
+		        .forClass(ProcessTrainerWorkloadCommand.class);
+		verify(processTrainerWorkloadUseCase).processTrainerWorkload(commandCaptor.capture());
+		assertEquals(createWorkloadRequest().toCommand(transactionId, transactionId), commandCaptor.getValue());
+	}
+
+	@Test
+	public void processTrainerWorkloadEvent_ShouldReturnBadRequest_WhenRequiredFieldsAreMissing() throws Exception {
+		WorkloadEvent event = createWorkloadEvent().clearIsActive().setTrainingDuration(0).build();
+
+		protobufMockMvc().perform(MockMvcRequestBuilders.post("/api/v1/workload").contentType(PROTOBUF)
+		        .content(event.toByteArray())).andExpect(MockMvcResultMatchers.status().isBadRequest())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("isActive Active status is required"
+		                + "|trainingDuration Training duration must be positive"));
+
+		verifyNoInteractions(processTrainerWorkloadUseCase);
+	}
+
+	@Test
+	public void processTrainerWorkloadEventBatch_ShouldReportPerItemStatus() throws Exception {
+		WorkloadEventBatch batch = WorkloadEventBatch.newBuilder().addEvents(createWorkloadEvent())
+		        .addEvents(createWorkloadEvent().clearUsername().setActionTypeValue(0)).build();
+
+		when(processTrainerWorkloadBatchUseCase.processTrainerWorkloadBatch(anyList()))
+		        .thenReturn(List.of(ProcessTrainerWorkloadResult.success()));
+
+		protobufMockMvc().perform(MockMvcRequestBuilders.post("/api/v1/workload/batch").contentType(PROTOBUF)
+		        .accept(MediaType.APPLICATION_JSON).content(batch.toByteArray()))
+		        .andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.processed").value(1))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.rejected").value(1))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].username").value(username))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].status").value("REJECTED"))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].message")
+		                .value("actionType Action type is required|username Username is required"));
+	}
+
+	private MockMvc protobufMockMvc() {
+		return MockMvcBuilders.standaloneSetup(controller)
+		        .setMessageConverters(new ProtobufHttpMessageConverter(), new MappingJackson2HttpMessageConverter())
+		        .setControllerAdvice(new RestResponseEntityExceptionHandler()).build();
+	}
+
+	private WorkloadEvent.Builder createWorkloadEvent() {
+		return WorkloadEvent.newBuilder().setUsername(username).setFirstName(firstName).setLastName(lastName)
+		        .setIsActive(isActive).setTrainingDate((int) trainingDate.toEpochDay())
+		        .setTrainingDuration(trainingDuration)
+		        .setActionType(com.trainerworkloadservice.TrainerWorkload.adapter.input.proto.ActionType.ADD);
+	}
+
+	private TrainerWorkloadRange workloadRange() {
+		return TrainerWorkloadRange.builder().username(username).firstName(firstName).lastName(lastName)
+		        .isActive(isActive)
+		        .months(new ArrayList<>(List.of(new WorkloadMonth(year, 1, 60), new WorkloadMonth(year, month, 120))))
+		        .build();
+	}
+
 	private TrainerWorkloadRequest createWorkloadRequest() {
 		return TrainerWorkloadRequest.builder().username(username).firstName(firstName).lastName(lastName)
 		        .isActive(isActive).trainingDate(trainingDate).trainingDuration(trainingDuration).actionType(actionType)
@@ -0,0 +1,127 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.input.web.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller.TrainerWorkloadExportController;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ExportTrainerWorkloadsUseCase;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadExportQuery;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadExportRow;
+import com.trainerworkloadservice.common.error.RestResponseEntityExceptionHandler;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class TrainerWorkloadExportControllerTest {
+	private MockMvc mockMvc;
+	private ExportTrainerWorkloadsUseCase exportTrainerWorkloadsUseCase;
+
+	@BeforeEach
+	public void setup() {
+		exportTrainerWorkloadsUseCase = Mockito.mock(ExportTrainerWorkloadsUseCase.class);
+
+		TrainerWorkloadExportController controller = new TrainerWorkloadExportController(
+		        exportTrainerWorkloadsUseCase, new ObjectMapper(), 500);
+
+		mockMvc = MockMvcBuilders.standaloneSetup(controller)
+		        .setControllerAdvice(new RestResponseEntityExceptionHandler()).build();
+
+		when(exportTrainerWorkloadsUseCase.exportTrainerWorkloads(any(), any())).thenAnswer(invocation -> {
+			Consumer<TrainerWorkloadExportRow> consumer = invocation.getArgument(1);
+			consumer.accept(new TrainerWorkloadExportRow("anna", 2023, 5, 60));
+			consumer.accept(new TrainerWorkloadExportRow("doe, \"jr\"", 2024, 1, 0));
+			return 2;
+		});
+	}
+
+	@Test
+	public void exportTrainerWorkloads_ShouldWriteOneJsonLinePerRow_ByDefault() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/export"))
+		        .andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_TYPE,
+		                "application/x-ndjson;charset=UTF-8"))
+		        .andExpect(MockMvcResultMatchers.content()
+		                .string("{\"username\":\"anna\",\"year\":2023,\"month\":5,\"minutes\":60}\n"
+		                        + "{\"username\":\"doe, \\\"jr\\\"\",\"year\":2024,\"month\":1,\"minutes\":0}\n"));
+
+		ArgumentCaptor<TrainerWorkloadExportQuery> queryCaptor = ArgumentCaptor
+		        .forClass(TrainerWorkloadExportQuery.class);
+		verify(exportTrainerWorkloadsUseCase).exportTrainerWorkloads(queryCaptor.capture(), any());
+		assertNull(queryCaptor.getValue().getFromUsername());
+		assertEquals(500, queryCaptor.getValue().getBatchSize());
+	}
+
+	@Test
+	public void exportTrainerWorkloads_ShouldWriteCsvAndResumeFromUsername() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/export").param("format", "csv")
+		        .param("from", "anna").param("batchSize", "50")).andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.content().string(
+		                "username,year,month,minutes\nanna,2023,5,60\n\"doe, \"\"jr\"\"\",2024,1,0\n"));
+
+		ArgumentCaptor<TrainerWorkloadExportQuery> queryCaptor = ArgumentCaptor
+		        .forClass(TrainerWorkloadExportQuery.class);
+		verify(exportTrainerWorkloadsUseCase).exportTrainerWorkloads(queryCaptor.capture(), any());
+		assertEquals("anna", queryCaptor.getValue().getFromUsername());
+		assertEquals(50, queryCaptor.getValue().getBatchSize());
+	}
+
+	@Test
+	public void exportTrainerWorkloads_ShouldCompress_WhenClientAcceptsGzip() throws Exception {
+		MvcResult result = mockMvc
+		        .perform(MockMvcRequestBuilders.get("/api/v1/workload/export").param("format", "csv")
+		                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+		        .andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip")).andReturn();
+
+		try (GZIPInputStream body = new GZIPInputStream(
+		        new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+			assertEquals("username,year,month,minutes\nanna,2023,5,60\n\"doe, \"\"jr\"\"\",2024,1,0\n",
+			        new String(body.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	public void exportTrainerWorkloads_ShouldNotCompress_WhenClientRefusesGzip() throws Exception {
+		for (String acceptEncoding : new String[]{"gzip;q=0", "deflate, GZIP ; q=0.0", "*, gzip;q=0", "identity"}) {
+			mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/export").param("format", "csv")
+			        .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+			        .andExpect(MockMvcResultMatchers.status().isOk())
+			        .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+			        .andExpect(MockMvcResultMatchers.content().string(
+			                "username,year,month,minutes\nanna,2023,5,60\n\"doe, \"\"jr\"\"\",2024,1,0\n"));
+		}
+	}
+
+	@Test
+	public void exportTrainerWorkloads_ShouldCompress_WhenClientAcceptsGzipWithWeight() throws Exception {
+		for (String acceptEncoding : new String[]{"br;q=1.0, gzip;q=0.5", "*;q=0.1"}) {
+			mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/export")
+			        .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+			        .andExpect(MockMvcResultMatchers.status().isOk())
+			        .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+		}
+	}
+
+	@Test
+	public void exportTrainerWorkloads_ShouldReturnBadRequest_WhenFormatIsUnsupported() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/export").param("format", "xml"))
+		        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+		verifyNoInteractions(exportTrainerWorkloadsUseCase);
+	}
+}
@@ -0,0 +1,78 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.input.web.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.input.web.controller.WorkloadAnalyticsController;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.InvalidWorkloadQueryException;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.LoadWorkloadAnalyticsUseCase;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadTotal;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadPercentile;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadTotal;
+import com.trainerworkloadservice.common.error.RestResponseEntityExceptionHandler;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class WorkloadAnalyticsControllerTest {
+	private MockMvc mockMvc;
+	private LoadWorkloadAnalyticsUseCase loadWorkloadAnalyticsUseCase;
+
+	@BeforeEach
+	public void setup() {
+		loadWorkloadAnalyticsUseCase = Mockito.mock(LoadWorkloadAnalyticsUseCase.class);
+		mockMvc = MockMvcBuilders.standaloneSetup(new WorkloadAnalyticsController(loadWorkloadAnalyticsUseCase))
+		        .setControllerAdvice(new RestResponseEntityExceptionHandler()).build();
+	}
+
+	@Test
+	public void getWorkloadTotal_ShouldReturnYearlyTotal_WhenMonthIsOmitted() throws Exception {
+		when(loadWorkloadAnalyticsUseCase.loadWorkloadTotal(eq(2024), isNull(), any()))
+		        .thenReturn(WorkloadTotal.builder().year(2024).trainers(12).totalDuration(5400).build());
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/analytics/total").param("year", "2024"))
+		        .andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.year").value(2024))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.month").doesNotExist())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.trainers").value(12))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$.totalDuration").value(5400));
+	}
+
+	@Test
+	public void getTopTrainers_ShouldDefaultToTwenty() throws Exception {
+		when(loadWorkloadAnalyticsUseCase.loadTopTrainers(eq(2024), eq(3), eq(20), any())).thenReturn(
+		        List.of(TrainerWorkloadTotal.builder().username("anna").firstName("Anna").totalDuration(900).build()));
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/analytics/top").param("year", "2024")
+		        .param("month", "3")).andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$[0].username").value("anna"))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$[0].totalDuration").value(900));
+	}
+
+	@Test
+	public void getWorkloadPercentiles_ShouldParseCommaSeparatedPercentiles() throws Exception {
+		when(loadWorkloadAnalyticsUseCase.loadWorkloadPercentiles(eq(2024), eq(3), eq(List.of(50.0, 99.9)), any()))
+		        .thenReturn(List.of(new WorkloadPercentile(50.0, 60), new WorkloadPercentile(99.9, 480)));
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/analytics/percentiles").param("year", "2024")
+		        .param("month", "3").param("p", "50,99.9")).andExpect(MockMvcResultMatchers.status().isOk())
+		        .andExpect(MockMvcResultMatchers.jsonPath("$[1].percentile").value(99.9))
+		        .andExpect(MockMvcResultMatchers.jsonPath("$[1].summaryDuration").value(480));
+	}
+
+	@Test
+	public void getWorkloadTotal_ShouldReturnBadRequest_WhenQueryIsInvalid() throws Exception {
+		when(loadWorkloadAnalyticsUseCase.loadWorkloadTotal(eq(2024), eq(13), any()))
+		        .thenThrow(new InvalidWorkloadQueryException("Invalid month: 13"));
+
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/workload/analytics/total").param("year", "2024")
+		        .param("month", "13")).andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+}
@@ -0,0 +1,101 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.output.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.ProcessedTransactionRepository;
+import com.mongodb.MongoWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+class ProcessedTransactionRepositoryTest {
+	private MongoTemplate mongoTemplate;
+	private MongoCollection<Document> transactions;
+	private ProcessedTransactionRepository repository;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		transactions = mock(MongoCollection.class);
+		when(mongoTemplate.getCollection("processed_transactions")).thenReturn(transactions);
+		repository = new ProcessedTransactionRepository(mongoTemplate, true, Duration.ofHours(24));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void isProcessed_ShouldLookTransactionUpById() {
+		FindIterable<Document> found = mock(FindIterable.class);
+		when(transactions.find(any(Bson.class))).thenReturn(found);
+		when(found.limit(1)).thenReturn(found);
+		when(found.first()).thenReturn(new Document("_id", "transaction-123"), (Document) null);
+
+		assertTrue(repository.isProcessed("transaction-123"));
+		assertFalse(repository.isProcessed("transaction-123"));
+
+		ArgumentCaptor<Bson> filterCaptor = ArgumentCaptor.forClass(Bson.class);
+		verify(transactions, times(2)).find(filterCaptor.capture());
+		assertEquals(Filters.eq("_id", "transaction-123").toBsonDocument(),
+		        filterCaptor.getValue().toBsonDocument());
+	}
+
+	@Test
+	void markProcessed_ShouldInsertTransactionKeyedById() {
+		repository.markProcessed("transaction-123");
+
+		ArgumentCaptor<Document> documentCaptor = ArgumentCaptor.forClass(Document.class);
+		verify(transactions).insertOne(documentCaptor.capture());
+		assertEquals("transaction-123", documentCaptor.getValue().get("_id"));
+		assertNotNull(documentCaptor.getValue().getDate("processedAt"));
+	}
+
+	@Test
+	void markProcessed_ShouldIgnoreTransactionThatWasAlreadyRecorded() {
+		when(transactions.insertOne(any(Document.class))).thenThrow(writeError(11000));
+
+		assertDoesNotThrow(() -> repository.markProcessed("transaction-123"));
+	}
+
+	@Test
+	void markProcessed_ShouldPropagateOtherWriteErrors() {
+		when(transactions.insertOne(any(Document.class))).thenThrow(writeError(2));
+
+		assertThrows(MongoWriteException.class, () -> repository.markProcessed("transaction-123"));
+	}
+
+	@Test
+	void ensureIndexes_ShouldExpireTransactionsAfterTtl() {
+		repository.ensureIndexes();
+
+		ArgumentCaptor<IndexOptions> optionsCaptor = ArgumentCaptor.forClass(IndexOptions.class);
+		verify(transactions).createIndex(any(Bson.class), optionsCaptor.capture());
+		assertEquals(24 * 60 * 60, optionsCaptor.getValue().getExpireAfter(TimeUnit.SECONDS));
+	}
+
+	@Test
+	void ensureIndexes_ShouldDoNothing_WhenDisabled() {
+		new ProcessedTransactionRepository(mongoTemplate, false, Duration.ofHours(24)).ensureIndexes();
+
+		verifyNoInteractions(transactions);
+	}
+
+	private MongoWriteException writeError(int code) {
+		return new MongoWriteException(new WriteError(code, "write failed", new BsonDocument()), new ServerAddress(),
+		        Set.of());
+	}
+}
@@ -0,0 +1,150 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.output.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerMonthlyTotalsRepository;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import com.mongodb.MongoCommandException;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Answers;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+class TrainerMonthlyTotalsRepositoryTest {
+	private MongoTemplate mongoTemplate;
+	private MongoCollection<Document> trainerWorkloads;
+	private AggregateIterable<Document> aggregation;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		trainerWorkloads = mock(MongoCollection.class);
+		aggregation = mock(AggregateIterable.class);
+		meterRegistry = new SimpleMeterRegistry();
+		when(mongoTemplate.getCollectionName(TrainerWorkload.class)).thenReturn("trainer_workloads");
+		when(mongoTemplate.getCollection("trainer_workloads")).thenReturn(trainerWorkloads);
+		when(trainerWorkloads.aggregate(anyList())).thenReturn(aggregation);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void refresh_ShouldMergeOnlyTheTouchedTrainerMonths() {
+		TrainerMonthlyTotalsRepository repository = repository(true);
+
+		repository.refresh(List.of(delta("anna", 3), delta("anna", 3), delta("bob", 4)));
+		verifyNoInteractions(trainerWorkloads);
+		repository.flush();
+
+		ArgumentCaptor<List<Bson>> pipelineCaptor = ArgumentCaptor.forClass(List.class);
+		verify(trainerWorkloads).aggregate(pipelineCaptor.capture());
+		verify(aggregation).toCollection();
+
+		List<Bson> pipeline = pipelineCaptor.getValue();
+		Document trainers = (Document) ((Document) pipeline.get(0)).get("$match");
+		assertEquals(List.of("anna", "bob"), ((Document) trainers.get("username")).get("$in"));
+		List<?> months = (List<?>) ((Document) ((Document) pipeline.get(3)).get("$match")).get("$or");
+		assertEquals(2, months.size());
+		Document merge = (Document) ((Document) pipeline.get(pipeline.size() - 1)).get("$merge");
+		assertEquals("trainer_monthly_totals", merge.get("into"));
+		assertEquals(List.of("year", "month", "username"), merge.get("on"));
+		assertEquals("replace", merge.get("whenMatched"));
+	}
+
+	@Test
+	void refresh_ShouldRunOnTheRefresherOnce_ForWritesMadeBeforeItStarts() {
+		List<Runnable> scheduled = new ArrayList<>();
+		TrainerMonthlyTotalsRepository repository = new TrainerMonthlyTotalsRepository(mongoTemplate, meterRegistry,
+		        true, scheduled::add);
+
+		repository.refresh(List.of(delta("anna", 3)));
+		repository.refresh(List.of(delta("bob", 4)));
+		assertEquals(1, scheduled.size());
+		scheduled.get(0).run();
+
+		verify(trainerWorkloads, times(1)).aggregate(anyList());
+		repository.refresh(List.of(delta("anna", 3)));
+		assertEquals(2, scheduled.size());
+	}
+
+	@Test
+	void refresh_ShouldCountFailureAndKeepTheMonthsForTheNextRefresh() {
+		TrainerMonthlyTotalsRepository repository = repository(true);
+		doThrow(new MongoCommandException(new BsonDocument(), new ServerAddress())).doNothing().when(aggregation)
+		        .toCollection();
+
+		assertDoesNotThrow(() -> repository.refresh(List.of(delta("anna", 3))));
+		repository.flush();
+		assertEquals(1, meterRegistry.get("workload.monthly-totals.refresh.failures").counter().count());
+
+		repository.flush();
+		verify(aggregation, times(2)).toCollection();
+		repository.flush();
+		verify(aggregation, times(2)).toCollection();
+	}
+
+	@Test
+	void refresh_ShouldDoNothing_WhenDisabled() {
+		TrainerMonthlyTotalsRepository repository = repository(false);
+
+		repository.refresh(List.of(delta("anna", 3)));
+		repository.refreshTrainers(List.of("anna"));
+		repository.flush();
+
+		verifyNoInteractions(trainerWorkloads);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findDurationsAtRanks_ShouldWalkTheIndexOnceFromTheNearerEnd() {
+		MongoCollection<Document> totals = mock(MongoCollection.class);
+		FindIterable<Document> find = mock(FindIterable.class, Answers.RETURNS_SELF);
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(mongoTemplate.getCollection("trainer_monthly_totals")).thenReturn(totals);
+		when(totals.find(any(Bson.class))).thenReturn(find);
+		when(find.cursor()).thenReturn(cursor);
+		// The 10 highest of 100 trainers, walked down from the top
+		List<Document> rows = new ArrayList<>();
+		for (int duration : new int[]{900, 800, 700, 600, 500, 400, 300, 200, 100, 90}) {
+			rows.add(new Document("summaryDuration", duration));
+		}
+		when(cursor.hasNext()).thenAnswer(invocation -> !rows.isEmpty());
+		when(cursor.next()).thenAnswer(invocation -> rows.remove(0));
+		TrainerMonthlyTotalsRepository repository = repository(true);
+
+		List<Integer> durations = repository.findDurationsAtRanks(2024, 3, 100, List.of(91L, 100L, 99L));
+
+		assertEquals(List.of(90, 900, 800), durations);
+		verify(find).sort(new Document("summaryDuration", -1));
+		verify(find).limit(10);
+		verify(find).projection(new Document("_id", 0).append("summaryDuration", 1));
+		verify(totals, times(1)).find(any(Bson.class));
+	}
+
+	private TrainerWorkloadDelta delta(String username, int month) {
+		return TrainerWorkloadDelta.builder().username(username).firstName("John").lastName("Doe").isActive(true)
+		        .year(2024).month(month).duration(30).build();
+	}
+
+	private TrainerMonthlyTotalsRepository repository(boolean enabled) {
+		// Refreshes only run when a test flushes
+		return new TrainerMonthlyTotalsRepository(mongoTemplate, meterRegistry, enabled, task -> {
+		});
+	}
+}
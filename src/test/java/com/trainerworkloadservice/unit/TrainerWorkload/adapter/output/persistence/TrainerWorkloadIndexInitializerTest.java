@@ -0,0 +1,58 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.output.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadIndexInitializer;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerWorkloadIndexInitializerTest {
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private MongoConverter mongoConverter;
+
+	@Mock
+	private IndexOperations indexOperations;
+
+	@InjectMocks
+	private TrainerWorkloadIndexInitializer trainerWorkloadIndexInitializer;
+
+	@Test
+	void ensureIndexes_ShouldEnsureUniqueUsernameIndex() {
+		when(mongoTemplate.indexOps(TrainerWorkload.class)).thenReturn(indexOperations);
+		when(mongoTemplate.getConverter()).thenReturn(mongoConverter);
+		doReturn(new MongoMappingContext()).when(mongoConverter).getMappingContext();
+		when(indexOperations.ensureIndex(any(IndexDefinition.class))).thenReturn("username");
+
+		trainerWorkloadIndexInitializer.ensureIndexes();
+
+		ArgumentCaptor<IndexDefinition> indexCaptor = ArgumentCaptor.forClass(IndexDefinition.class);
+		verify(indexOperations, atLeastOnce()).ensureIndex(indexCaptor.capture());
+		List<IndexDefinition> indexes = indexCaptor.getAllValues();
+
+		assertEquals(1, indexes.size());
+		assertEquals(new Document("username", 1), indexes.get(0).getIndexKeys());
+		assertTrue(indexes.get(0).getIndexOptions().getBoolean("unique"));
+	}
+}
@@ -0,0 +1,55 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.output.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadReadConverter;
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadWriteConverter;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class TrainerWorkloadReadConverterTest {
+	private static final String STORED = "{_id: {$oid: '64b7f0c2a1b2c3d4e5f60718'}, username: 'trainer.username',"
+	        + " firstName: 'John', lastName: 'Doe', isActive: true, years: ["
+	        + " {year: 2023, months: [{month: 5, summaryDuration: 120}, {month: 6, summaryDuration: 0}]},"
+	        + " {year: 2022, months: [{month: 1, summaryDuration: {$numberLong: '30'}}]}, {year: 2021}]}";
+
+	private final TrainerWorkloadReadConverter readConverter = new TrainerWorkloadReadConverter();
+	private final TrainerWorkloadWriteConverter writeConverter = new TrainerWorkloadWriteConverter();
+
+	@Test
+	void convert_ShouldIndexStoredYearsAndMonths() {
+		TrainerWorkload trainerWorkload = readConverter.convert(Document.parse(STORED));
+
+		assertEquals("64b7f0c2a1b2c3d4e5f60718", trainerWorkload.getId());
+		assertEquals("trainer.username", trainerWorkload.getUsername());
+		assertEquals("John", trainerWorkload.getFirstName());
+		assertTrue(trainerWorkload.getIsActive());
+		assertEquals(3, trainerWorkload.getYears().size());
+		assertEquals(120, trainerWorkload.getYears().getDuration(2023, 5));
+		assertTrue(trainerWorkload.getYears().find(2023).hasMonth(6));
+		assertEquals(30, trainerWorkload.getYears().getDuration(2022, 1));
+		assertFalse(trainerWorkload.getYears().find(2021).hasMonth(1));
+	}
+
+	@Test
+	void convert_ShouldRoundTripThroughWriteConverter() {
+		TrainerWorkload trainerWorkload = readConverter.convert(Document.parse(STORED));
+
+		Document written = writeConverter.convert(trainerWorkload);
+
+		assertEquals(new ObjectId("64b7f0c2a1b2c3d4e5f60718"), written.get("_id"));
+		assertEquals(Document.parse("{year: 2023, months: [{month: 5, summaryDuration: 120},"
+		        + " {month: 6, summaryDuration: 0}]}"), written.getList("years", Document.class).get(2));
+		assertEquals(trainerWorkload, readConverter.convert(written));
+	}
+
+	@Test
+	void convert_ShouldReadDocumentWithoutYears() {
+		TrainerWorkload trainerWorkload = readConverter.convert(new Document("username", "trainer.username"));
+
+		assertNull(trainerWorkload.getId());
+		assertTrue(trainerWorkload.getYears().isEmpty());
+	}
+}
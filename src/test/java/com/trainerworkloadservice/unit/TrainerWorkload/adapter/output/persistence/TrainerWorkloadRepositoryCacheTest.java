@@ -0,0 +1,164 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.output.persistence;
+
+import static com.trainerworkloadservice.configuration.CacheConfig.TRAINER_MONTHLY_WORKLOAD_CACHE;
+import static com.trainerworkloadservice.configuration.CacheConfig.TRAINER_WORKLOAD_CACHE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.result.UpdateResult;
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerMonthlyTotalsRepository;
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadPersistenceRepository;
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadRepository;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadNotFoundException;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import com.trainerworkloadservice.configuration.CacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig
+class TrainerWorkloadRepositoryCacheTest {
+	@Configuration
+	@Import(CacheConfig.class)
+	static class TestConfig {
+		@Bean
+		public CacheManager cacheManager() {
+			CaffeineCacheManager cacheManager = new CaffeineCacheManager(TRAINER_WORKLOAD_CACHE,
+			        TRAINER_MONTHLY_WORKLOAD_CACHE);
+			cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100));
+			return cacheManager;
+		}
+
+		@Bean
+		public TrainerWorkloadPersistenceRepository persistenceRepository() {
+			return mock(TrainerWorkloadPersistenceRepository.class);
+		}
+
+		@Bean
+		public MongoTemplate mongoTemplate() {
+			return mock(MongoTemplate.class);
+		}
+
+		@Bean
+		public TrainerWorkloadRepository trainerWorkloadRepository(
+		        TrainerWorkloadPersistenceRepository persistenceRepository, MongoTemplate mongoTemplate) {
+			return new TrainerWorkloadRepository(persistenceRepository, mongoTemplate,
+			        mock(TrainerMonthlyTotalsRepository.class), new SimpleMeterRegistry());
+		}
+	}
+
+	@Autowired
+	private TrainerWorkloadRepository trainerWorkloadRepository;
+
+	@Autowired
+	private TrainerWorkloadPersistenceRepository persistenceRepository;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private String username;
+	private TrainerWorkload trainerWorkload;
+
+	@BeforeEach
+	void setUp() {
+		reset(persistenceRepository, mongoTemplate);
+		cacheManager.getCache(TRAINER_WORKLOAD_CACHE).clear();
+		cacheManager.getCache(TRAINER_MONTHLY_WORKLOAD_CACHE).clear();
+
+		username = "trainer.username";
+		trainerWorkload = TrainerWorkload.builder().username(username).firstName("John").lastName("Doe").isActive(true)
+		        .build();
+		when(persistenceRepository.findByUsername(username)).thenReturn(Optional.of(trainerWorkload));
+	}
+
+	@Test
+	void findByUsername_RepeatedCalls_ShouldHitDatabaseOnce() {
+		TrainerWorkload first = trainerWorkloadRepository.findByUsername(username);
+		TrainerWorkload second = trainerWorkloadRepository.findByUsername(username);
+
+		assertSame(first, second);
+		verify(persistenceRepository, times(1)).findByUsername(username);
+	}
+
+	@Test
+	void findByUsername_WhenNotFound_ShouldNotCacheMiss() {
+		when(persistenceRepository.findByUsername("unknown")).thenReturn(Optional.empty());
+
+		assertThrows(TrainerWorkloadNotFoundException.class, () -> trainerWorkloadRepository.findByUsername("unknown"));
+		assertThrows(TrainerWorkloadNotFoundException.class, () -> trainerWorkloadRepository.findByUsername("unknown"));
+
+		verify(persistenceRepository, times(2)).findByUsername("unknown");
+	}
+
+	@Test
+	void applyDelta_ShouldEvictCachedTrainer() {
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), any(Class.class)))
+		        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+		trainerWorkloadRepository.findByUsername(username);
+
+		trainerWorkloadRepository.applyDelta(TrainerWorkloadDelta.builder().username(username).firstName("John")
+		        .lastName("Doe").isActive(true).year(2023).month(5).duration(60).build());
+		trainerWorkloadRepository.findByUsername(username);
+
+		verify(persistenceRepository, times(2)).findByUsername(username);
+	}
+
+	@Test
+	void applyDeltas_ShouldEvictAllCachedTrainers() {
+		trainerWorkloadRepository.findByUsername(username);
+
+		assertEquals(0, trainerWorkloadRepository.applyDeltas(List.of()).size());
+		trainerWorkloadRepository.findByUsername(username);
+
+		verify(persistenceRepository, times(2)).findByUsername(username);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findMonthlyWorkload_ShouldBeCachedUntilThatMonthIsUpdated() {
+		MongoCollection<Document> collection = mock(MongoCollection.class);
+		AggregateIterable<Document> result = mock(AggregateIterable.class);
+		when(mongoTemplate.getCollectionName(TrainerWorkload.class)).thenReturn("trainer_workloads");
+		when(mongoTemplate.getCollection("trainer_workloads")).thenReturn(collection);
+		when(collection.aggregate(anyList())).thenReturn(result);
+		when(result.first()).thenReturn(new Document("username", username).append("summaryDuration", 60));
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), any(Class.class)))
+		        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		trainerWorkloadRepository.findMonthlyWorkload(username, 2023, 5);
+		trainerWorkloadRepository.findMonthlyWorkload(username, 2023, 5);
+		trainerWorkloadRepository.applyDelta(TrainerWorkloadDelta.builder().username(username).year(2023).month(5)
+		        .duration(30).build());
+		trainerWorkloadRepository.findMonthlyWorkload(username, 2023, 5);
+
+		verify(collection, times(2)).aggregate(anyList());
+	}
+}
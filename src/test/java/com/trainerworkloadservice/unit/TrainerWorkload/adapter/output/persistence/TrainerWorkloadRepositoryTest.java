@@ -1,25 +1,70 @@
 package com.trainerworkloadservice.unit.TrainerWorkload.adapter.output.persistence;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerMonthlyTotalsRepository;
 import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadPersistenceRepository;
 import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadRepository;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadConflictException;
 import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadNotFoundException;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
 import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 @ExtendWith(MockitoExtension.class)
 class TrainerWorkloadRepositoryTest {
 	@Mock
 	private TrainerWorkloadPersistenceRepository persistenceRepository;
 
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private TrainerMonthlyTotalsRepository monthlyTotals;
+
+	@Spy
+	private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
 	@InjectMocks
 	private TrainerWorkloadRepository trainerWorkloadRepository;
 
@@ -61,9 +106,290 @@ class TrainerWorkloadRepositoryTest {
   }
 
 	@Test
-	void save_ShouldCallPersistenceRepositorySave() {
-		trainerWorkloadRepository.save(trainerWorkload);
+	@SuppressWarnings("unchecked")
+	void findMonthlyWorkload_ShouldMapProjectedDocument() {
+		MongoCollection<Document> collection = mockCollection();
+		AggregateIterable<Document> result = mock(AggregateIterable.class);
+		when(collection.aggregate(anyList())).thenReturn(result);
+		when(result.first()).thenReturn(new Document("username", username).append("firstName", "John")
+		        .append("lastName", "Doe").append("isActive", true).append("summaryDuration", 120));
+
+		TrainerMonthlyWorkload monthlyWorkload = trainerWorkloadRepository.findMonthlyWorkload(username, 2023, 5);
+
+		ArgumentCaptor<List<Bson>> pipelineCaptor = ArgumentCaptor.forClass(List.class);
+		verify(collection).aggregate(pipelineCaptor.capture());
+		assertEquals(new Document("$match", new Document("username", username)), pipelineCaptor.getValue().get(0));
+		assertEquals("John", monthlyWorkload.getFirstName());
+		assertEquals("Doe", monthlyWorkload.getLastName());
+		assertTrue(monthlyWorkload.getIsActive());
+		assertEquals(2023, monthlyWorkload.getYear());
+		assertEquals(5, monthlyWorkload.getMonth());
+		assertEquals(120, monthlyWorkload.getSummaryDuration());
+		verifyNoInteractions(persistenceRepository);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void forEachMonthlyWorkload_ShouldStreamAllTrainersFromOneAggregation() {
+		MongoCollection<Document> collection = mockCollection();
+		AggregateIterable<Document> result = mock(AggregateIterable.class);
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(collection.aggregate(anyList())).thenReturn(result);
+		when(result.cursor()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(
+		        new Document("username", "anna").append("isActive", true).append("summaryDuration", 90),
+		        new Document("username", username).append("isActive", true).append("summaryDuration", 0));
+		List<TrainerMonthlyWorkload> streamed = new ArrayList<>();
+
+		int count = trainerWorkloadRepository.forEachMonthlyWorkload(List.of("anna", username), true, 2023, 5,
+		        streamed::add);
+
+		ArgumentCaptor<List<Bson>> pipelineCaptor = ArgumentCaptor.forClass(List.class);
+		verify(collection).aggregate(pipelineCaptor.capture());
+		assertEquals(new Document("$match", new Document("username", new Document("$in", List.of("anna", username)))
+		        .append("isActive", true)), pipelineCaptor.getValue().get(0));
+		assertEquals(2, count);
+		assertEquals("anna", streamed.get(0).getUsername());
+		assertEquals(90, streamed.get(0).getSummaryDuration());
+		assertEquals(5, streamed.get(1).getMonth());
+		verify(cursor).close();
+		verifyNoInteractions(persistenceRepository);
+	}
+
+	@Test
+	void forEachTrainerWorkload_ShouldResumeFromUsernameInUsernameOrder() {
+		boolean[] closed = new boolean[1];
+		Stream<TrainerWorkload> trainerWorkloads = Stream
+		        .of(trainerWorkload, TrainerWorkload.builder().username("zed").build()).onClose(() -> closed[0] = true);
+		when(mongoTemplate.stream(any(Query.class), eq(TrainerWorkload.class))).thenReturn(trainerWorkloads);
+		List<TrainerWorkload> streamed = new ArrayList<>();
+
+		int count = trainerWorkloadRepository.forEachTrainerWorkload(username, 250, streamed::add);
+
+		ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+		verify(mongoTemplate).stream(queryCaptor.capture(), eq(TrainerWorkload.class));
+		Query query = queryCaptor.getValue();
+		assertEquals(new Document("username", new Document("$gte", username)), query.getQueryObject());
+		assertEquals(new Document("username", 1), query.getSortObject());
+		assertEquals(250, query.getMeta().getCursorBatchSize());
+		assertEquals(2, count);
+		assertEquals("zed", streamed.get(1).getUsername());
+		assertTrue(closed[0]);
+		verifyNoInteractions(persistenceRepository);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findMonthlyWorkload_ShouldThrowTrainerWorkloadNotFoundException_WhenUsernameDoesNotExist() {
+		MongoCollection<Document> collection = mockCollection();
+		AggregateIterable<Document> result = mock(AggregateIterable.class);
+		when(collection.aggregate(anyList())).thenReturn(result);
+
+		assertThrows(TrainerWorkloadNotFoundException.class,
+		        () -> trainerWorkloadRepository.findMonthlyWorkload(username, 2023, 5));
+	}
+
+	@Test
+	void findByUsername_ShouldRecordYearsHeldByDocument() {
+		trainerWorkload.getYears().getOrCreate(2023).setDuration(5, 60);
+		trainerWorkload.getYears().getOrCreate(2024).setDuration(1, 30);
+		when(persistenceRepository.findByUsername(username)).thenReturn(Optional.of(trainerWorkload));
+
+		trainerWorkloadRepository.findByUsername(username);
+
+		DistributionSummary documentYears = meterRegistry.get("workload.trainer.document.years").summary();
+		assertEquals(1, documentYears.count());
+		assertEquals(2, documentYears.max());
+	}
+
+	@Test
+	void applyDelta_ShouldIncrementExistingMonth_InSingleUpdate() {
+		TrainerWorkloadDelta delta = createDelta(60);
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(TrainerWorkload.class)))
+		        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		trainerWorkloadRepository.applyDelta(delta);
+
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(TrainerWorkload.class));
+		verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(TrainerWorkload.class));
+
+		Document increment = (Document) updateCaptor.getValue().getUpdateObject().get("$inc");
+		assertEquals(60, increment.get("years.$[y].months.$[m].summaryDuration"));
+		assertEquals(2, updateCaptor.getValue().getArrayFilters().size());
+		verify(monthlyTotals).refresh(List.of(delta));
+	}
+
+	@Test
+	void applyDelta_ShouldClampMonthAtZero_WhenDeletingMoreThanExists() {
+		TrainerWorkloadDelta delta = createDelta(-60);
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(TrainerWorkload.class)))
+		        .thenReturn(UpdateResult.acknowledged(0, 0L, null), UpdateResult.acknowledged(1, 1L, null));
+
+		trainerWorkloadRepository.applyDelta(delta);
+
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate, times(2)).updateFirst(any(Query.class), updateCaptor.capture(),
+		        eq(TrainerWorkload.class));
+
+		List<Update> updates = updateCaptor.getAllValues();
+		Document decrement = (Document) updates.get(0).getUpdateObject().get("$inc");
+		assertEquals(-60, decrement.get("years.$[y].months.$[m].summaryDuration"));
+		Document clamp = (Document) updates.get(1).getUpdateObject().get("$set");
+		assertEquals(0, clamp.get("years.$[y].months.$[m].summaryDuration"));
+	}
+
+	@Test
+	void applyDelta_ShouldUpsertTrainer_WhenNoDocumentMatches() {
+		TrainerWorkloadDelta delta = createDelta(60);
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(TrainerWorkload.class)))
+		        .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+		when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(TrainerWorkload.class)))
+		        .thenReturn(UpdateResult.acknowledged(0, 0L, new BsonString("id")));
+
+		trainerWorkloadRepository.applyDelta(delta);
+
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).upsert(any(Query.class), updateCaptor.capture(), eq(TrainerWorkload.class));
+
+		Document setOnInsert = (Document) updateCaptor.getValue().getUpdateObject().get("$setOnInsert");
+		assertEquals("John", setOnInsert.get("firstName"));
+		assertNotNull(setOnInsert.get("years"));
+	}
+
+	@Test
+	void applyDelta_ShouldThrowConflict_WhenInsertLosesDuplicateKeyRace() {
+		TrainerWorkloadDelta delta = createDelta(60);
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(TrainerWorkload.class)))
+		        .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+		when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(TrainerWorkload.class)))
+		        .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+		assertThrows(TrainerWorkloadConflictException.class, () -> trainerWorkloadRepository.applyDelta(delta));
+
+		// increment, appendMonth and appendYear miss and the insert loses the race, once; the service retries
+		verify(mongoTemplate, times(1)).upsert(any(Query.class), any(Update.class), eq(TrainerWorkload.class));
+		verify(mongoTemplate, times(3)).updateFirst(any(Query.class), any(Update.class), eq(TrainerWorkload.class));
+		verifyNoInteractions(monthlyTotals);
+	}
+
+	@Test
+	void applyDelta_ShouldThrowConflict_WhenNoStepMatches() {
+		TrainerWorkloadDelta delta = createDelta(60);
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(TrainerWorkload.class)))
+		        .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+		when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(TrainerWorkload.class)))
+		        .thenReturn(UpdateResult.acknowledged(1, 0L, null));
+
+		assertThrows(TrainerWorkloadConflictException.class, () -> trainerWorkloadRepository.applyDelta(delta));
+	}
+
+	@Test
+	void applyDeltas_ShouldWriteOneUnorderedUpsertPerTrainer() {
+		MongoCollection<Document> collection = mockCollection();
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+		        .thenReturn(BulkWriteResult.unacknowledged());
+
+		Map<String, String> failures = trainerWorkloadRepository
+		        .applyDeltas(List.of(createDelta(60), createDelta("other.trainer", 30), createDelta(-10)));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<WriteModel<Document>>> writesCaptor = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<BulkWriteOptions> optionsCaptor = ArgumentCaptor.forClass(BulkWriteOptions.class);
+		verify(collection).bulkWrite(writesCaptor.capture(), optionsCaptor.capture());
+
+		assertTrue(failures.isEmpty());
+		assertFalse(optionsCaptor.getValue().isOrdered());
+		assertEquals(2, writesCaptor.getValue().size());
+
+		UpdateOneModel<Document> first = (UpdateOneModel<Document>) writesCaptor.getValue().get(0);
+		assertTrue(first.getOptions().isUpsert());
+		// personal info stage plus one stage per delta of that trainer
+		assertEquals(3, first.getUpdatePipeline().size());
+	}
+
+	@Test
+	void applyDeltas_ShouldReportFailedTrainers() {
+		MongoCollection<Document> collection = mockCollection();
+		BulkWriteError error = new BulkWriteError(121, "document failed validation", new BsonDocument(), 1);
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+		        .thenThrow(new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(error), null,
+		                new ServerAddress(), Set.of()));
+
+		Map<String, String> failures = trainerWorkloadRepository
+		        .applyDeltas(List.of(createDelta(60), createDelta("other.trainer", 30)));
+
+		assertEquals(Map.of("other.trainer", "document failed validation"), failures);
+		verify(collection, times(1)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+		verify(monthlyTotals).refresh(List.of(createDelta(60)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void applyDeltas_ShouldRetryTrainersThatLostDuplicateKeyRace() {
+		MongoCollection<Document> collection = mockCollection();
+		BulkWriteError error = new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1);
+		when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class)))
+		        .thenThrow(new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(error), null,
+		                new ServerAddress(), Set.of()))
+		        .thenReturn(BulkWriteResult.unacknowledged());
+
+		Map<String, String> failures = trainerWorkloadRepository
+		        .applyDeltas(List.of(createDelta(60), createDelta("other.trainer", 30)));
+
+		ArgumentCaptor<List<WriteModel<Document>>> writesCaptor = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).bulkWrite(writesCaptor.capture(), any(BulkWriteOptions.class));
+
+		assertTrue(failures.isEmpty());
+		UpdateOneModel<Document> retry = (UpdateOneModel<Document>) writesCaptor.getAllValues().get(1).get(0);
+		assertEquals(1, writesCaptor.getAllValues().get(1).size());
+		assertEquals(new BsonString("other.trainer"), retry.getFilter().toBsonDocument().get("username"));
+	}
+
+	@Test
+	void applyDeltas_ShouldSkipWrite_WhenNoDeltas() {
+		Map<String, String> failures = trainerWorkloadRepository.applyDeltas(List.of());
+
+		assertTrue(failures.isEmpty());
+		verifyNoInteractions(mongoTemplate);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void replaceAll_ShouldUpsertWholeDocumentsByUsername_KeepingStoredIds() {
+		MongoCollection<Document> collection = mockCollection();
+		TrainerWorkload trainerWorkload = TrainerWorkload.builder().id("65f0c0ffee0000000000abcd").username(username)
+		        .firstName("John").lastName("Doe").isActive(true).build();
+		trainerWorkload.getYears().getOrCreate(2023).setDuration(5, 90);
+
+		trainerWorkloadRepository.replaceAll(List.of(trainerWorkload));
+
+		ArgumentCaptor<List<WriteModel<Document>>> writesCaptor = ArgumentCaptor.forClass(List.class);
+		verify(collection).bulkWrite(writesCaptor.capture(), any(BulkWriteOptions.class));
+
+		ReplaceOneModel<Document> replace = (ReplaceOneModel<Document>) writesCaptor.getValue().get(0);
+		assertTrue(replace.getReplaceOptions().isUpsert());
+		assertEquals(new BsonString(username), replace.getFilter().toBsonDocument().get("username"));
+		assertFalse(replace.getReplacement().containsKey("_id"));
+		assertEquals(90, replace.getReplacement().getList("years", Document.class).get(0)
+		        .getList("months", Document.class).get(0).getInteger("summaryDuration"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private MongoCollection<Document> mockCollection() {
+		MongoCollection<Document> collection = mock(MongoCollection.class);
+		when(mongoTemplate.getCollectionName(TrainerWorkload.class)).thenReturn("trainer_workloads");
+		when(mongoTemplate.getCollection("trainer_workloads")).thenReturn(collection);
+		return collection;
+	}
+
+	private TrainerWorkloadDelta createDelta(int duration) {
+		return createDelta(username, duration);
+	}
 
-		verify(persistenceRepository).save(trainerWorkload);
+	private TrainerWorkloadDelta createDelta(String username, int duration) {
+		return TrainerWorkloadDelta.builder().username(username).firstName("John").lastName("Doe").isActive(true)
+		        .year(2023).month(5).duration(duration).build();
 	}
 }
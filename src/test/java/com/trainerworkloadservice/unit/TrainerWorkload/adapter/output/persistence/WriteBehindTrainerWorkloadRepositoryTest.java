@@ -0,0 +1,213 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.adapter.output.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.TrainerWorkloadRepository;
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.WriteBehindJournal;
+import com.trainerworkloadservice.TrainerWorkload.adapter.output.persistence.WriteBehindTrainerWorkloadRepository;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadNotFoundException;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import com.trainerworkloadservice.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+class WriteBehindTrainerWorkloadRepositoryTest {
+	@TempDir
+	Path tempDir;
+
+	private TrainerWorkloadRepository delegate;
+	private WriteBehindTrainerWorkloadRepository repository;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		delegate = mock(TrainerWorkloadRepository.class);
+		repository = writeBehind("");
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		repository.destroy();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void flush_ShouldWriteOneNettedDeltaPerTrainerMonth() {
+		repository.applyDelta(delta("john", "John", 2024, 6, 60));
+		repository.applyDelta(delta("john", "Johnny", 2024, 6, 20));
+		repository.applyDeltas(List.of(delta("john", "Johnny", 2024, 7, 30), delta("anna", "Anna", 2024, 6, 45)));
+		verifyNoInteractions(delegate);
+
+		repository.flush();
+
+		ArgumentCaptor<List<TrainerWorkloadDelta>> deltasCaptor = ArgumentCaptor.forClass(List.class);
+		verify(delegate).applyDeltas(deltasCaptor.capture());
+		List<TrainerWorkloadDelta> deltas = deltasCaptor.getValue();
+		assertEquals(3, deltas.size());
+		assertTrue(deltas.contains(delta("john", "Johnny", 2024, 6, 80)));
+		assertTrue(deltas.contains(delta("anna", "Anna", 2024, 6, 45)));
+
+		repository.flush();
+		verify(delegate, times(1)).applyDeltas(anyList());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void flush_ShouldKeepMixedDirectionDeltasInOrder_WhenMonthStartsAtZero() {
+		when(delegate.findMonthlyWorkload("john", 2024, 6)).thenReturn(TrainerMonthlyWorkload.builder()
+		        .username("john").firstName("John").isActive(true).year(2024).month(6).summaryDuration(0).build());
+		repository.applyDelta(delta("john", "John", 2024, 6, -30));
+		repository.applyDelta(delta("john", "John", 2024, 6, 40));
+		repository.applyDelta(delta("john", "John", 2024, 6, 20));
+
+		// Applied one by one the month ends at 60; their sum would leave it at 30
+		assertEquals(60, repository.findMonthlyWorkload("john", 2024, 6).getSummaryDuration());
+
+		repository.flush();
+
+		ArgumentCaptor<List<TrainerWorkloadDelta>> deltasCaptor = ArgumentCaptor.forClass(List.class);
+		verify(delegate).applyDeltas(deltasCaptor.capture());
+		assertEquals(List.of(delta("john", "John", 2024, 6, -30), delta("john", "John", 2024, 6, 60)),
+		        deltasCaptor.getValue());
+	}
+
+	@Test
+	void findMonthlyWorkload_ShouldMergePendingDeltasOverStoredMonth() {
+		when(delegate.findMonthlyWorkload("john", 2024, 6)).thenReturn(TrainerMonthlyWorkload.builder()
+		        .username("john").firstName("John").isActive(true).year(2024).month(6).summaryDuration(30).build());
+		when(delegate.findMonthlyWorkload("anna", 2024, 6)).thenThrow(TrainerWorkloadNotFoundException.by("anna"));
+		repository.applyDelta(delta("john", "Johnny", 2024, 6, -50));
+		repository.applyDelta(delta("anna", "Anna", 2024, 6, 45));
+
+		TrainerMonthlyWorkload john = repository.findMonthlyWorkload("john", 2024, 6);
+		TrainerMonthlyWorkload anna = repository.findMonthlyWorkload("anna", 2024, 6);
+
+		assertEquals(0, john.getSummaryDuration());
+		assertEquals("Johnny", john.getFirstName());
+		assertEquals(45, anna.getSummaryDuration());
+		assertEquals("Anna", anna.getFirstName());
+	}
+
+	@Test
+	void findByUsername_ShouldMergePendingDeltasIntoACopy() {
+		TrainerWorkload stored = TrainerWorkload.builder().username("john").firstName("John").isActive(true).build();
+		stored.getYears().getOrCreate(2024).setDuration(6, 30);
+		when(delegate.findByUsername("john")).thenReturn(stored);
+		repository.applyDelta(delta("john", "John", 2024, 6, 15));
+		repository.applyDelta(delta("john", "John", 2025, 1, 60));
+
+		TrainerWorkload merged = repository.findByUsername("john");
+
+		assertEquals(45, merged.getYears().getDuration(2024, 6));
+		assertEquals(60, merged.getYears().getDuration(2025, 1));
+		assertEquals(30, stored.getYears().getDuration(2024, 6));
+		assertNull(stored.getYears().find(2025));
+	}
+
+	@Test
+	void flush_ShouldKeepDeltasPending_WhenMongoIsUnavailable() {
+		when(delegate.applyDeltas(anyList())).thenThrow(new IllegalStateException("timeout"))
+		        .thenReturn(Collections.emptyMap());
+		when(delegate.findMonthlyWorkload("john", 2024, 6)).thenReturn(
+		        TrainerMonthlyWorkload.builder().username("john").year(2024).month(6).summaryDuration(0).build());
+		repository.applyDelta(delta("john", "John", 2024, 6, 60));
+
+		assertThrows(IllegalStateException.class, () -> repository.flush());
+
+		assertEquals(60, repository.findMonthlyWorkload("john", 2024, 6).getSummaryDuration());
+		repository.flush();
+		verify(delegate, times(2)).applyDeltas(List.of(delta("john", "John", 2024, 6, 60)));
+	}
+
+	@Test
+	void forEachMonthlyWorkload_ShouldFlushBeforeQuerying() {
+		when(delegate.applyDeltas(anyList())).thenReturn(Map.of());
+		repository.applyDelta(delta("john", "John", 2024, 6, 60));
+
+		repository.forEachMonthlyWorkload(null, true, 2024, 6, workload -> {
+		});
+
+		InOrder inOrder = inOrder(delegate);
+		inOrder.verify(delegate).applyDeltas(anyList());
+		inOrder.verify(delegate).forEachMonthlyWorkload(any(), any(), anyInt(), anyInt(), any());
+	}
+
+	@Test
+	void applyDelta_ShouldRejectCommands_WhenBufferIsFull() throws Exception {
+		repository.destroy();
+		repository = new WriteBehindTrainerWorkloadRepository(delegate, new ObjectMapper(), new SimpleMeterRegistry(),
+		        Duration.ofHours(1), 1000, 1, "", false);
+		repository.applyDelta(delta("john", "John", 2024, 6, 60));
+
+		assertThrows(ServiceUnavailableException.class, () -> repository.applyDelta(delta("anna", "Anna", 2024, 6, 5)));
+	}
+
+	@Test
+	void journal_ShouldReplayUnflushedDeltasAfterRestart_AndBeTruncatedByFlush() throws Exception {
+		Path journal = tempDir.resolve("write-behind.log");
+		repository.destroy();
+		when(delegate.applyDeltas(anyList())).thenThrow(new IllegalStateException("down"))
+		        .thenReturn(Collections.emptyMap());
+		repository = writeBehind(journal.toString());
+		repository.applyDelta(delta("john", "John", 2024, 6, 60));
+		repository.applyDelta(delta("john", "John", 2024, 6, -15));
+		repository.destroy();
+
+		repository = writeBehind(journal.toString());
+		repository.flush();
+
+		// Once by the failed flush on shutdown, once after the replay, which keeps the mixed deltas in order
+		verify(delegate, times(2))
+		        .applyDeltas(List.of(delta("john", "John", 2024, 6, 60), delta("john", "John", 2024, 6, -15)));
+		assertEquals(0, Files.size(journal));
+	}
+
+	@Test
+	void flush_ShouldRequeueAndKeepJournalingTrainersMongoRejected() throws Exception {
+		Path journal = tempDir.resolve("write-behind.log");
+		repository.destroy();
+		when(delegate.applyDeltas(anyList())).thenReturn(Map.of("john", "document too large"))
+		        .thenReturn(Collections.emptyMap());
+		repository = writeBehind(journal.toString());
+		repository.applyDelta(delta("john", "John", 2024, 6, 60));
+		repository.applyDelta(delta("john", "John", 2024, 7, 15));
+		repository.applyDelta(delta("anna", "Anna", 2024, 6, 45));
+
+		repository.flush();
+
+		// Only john's months are left, in memory and in the journal
+		assertEquals(List.of(delta("john", "John", 2024, 6, 60), delta("john", "John", 2024, 7, 15)),
+		        new WriteBehindJournal(journal, new ObjectMapper(), false).readAll());
+		repository.applyDelta(delta("john", "John", 2024, 6, 10));
+		repository.flush();
+
+		verify(delegate).applyDeltas(List.of(delta("john", "John", 2024, 7, 15), delta("john", "John", 2024, 6, 70)));
+		assertEquals(0, Files.size(journal));
+	}
+
+	private WriteBehindTrainerWorkloadRepository writeBehind(String journalPath) throws Exception {
+		return new WriteBehindTrainerWorkloadRepository(delegate, new ObjectMapper(), new SimpleMeterRegistry(),
+		        Duration.ofHours(1), 1000, 1000, journalPath, false);
+	}
+
+	private TrainerWorkloadDelta delta(String username, String firstName, int year, int month, int duration) {
+		return TrainerWorkloadDelta.builder().username(username).firstName(firstName).lastName("Doe").isActive(true)
+		        .year(year).month(month).duration(duration).build();
+	}
+}
@@ -0,0 +1,171 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.trainerworkloadservice.TrainerWorkload.application.ReactiveTrainerWorkloadService;
+import com.trainerworkloadservice.TrainerWorkload.application.factory.TrainerWorkloadFactory;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.AppendTrainerWorkloadEventPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ReactiveApplyTrainerWorkloadDeltaPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ReactiveLoadTrainerMonthlyWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerMonthlyWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTrainerWorkloadServiceTest {
+	@Mock
+	private ReactiveLoadTrainerMonthlyWorkloadPort reactiveLoadTrainerMonthlyWorkloadPort;
+
+	@Mock
+	private ReactiveApplyTrainerWorkloadDeltaPort reactiveApplyTrainerWorkloadDeltaPort;
+
+	@Mock
+	private TrainerWorkloadFactory trainerWorkloadFactory;
+
+	@Mock
+	private AppendTrainerWorkloadEventPort appendTrainerWorkloadEventPort;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private ReactiveTrainerWorkloadService reactiveTrainerWorkloadService;
+
+	private ProcessTrainerWorkloadCommand command;
+
+	@BeforeEach
+	void setUp() {
+		reactiveTrainerWorkloadService = service(false);
+		command = ProcessTrainerWorkloadCommand.builder().username("trainer.username").firstName("John")
+		        .lastName("Doe").isActive(true).trainingDate(LocalDate.of(2023, 5, 15)).trainingDuration(60)
+		        .actionType(ActionType.ADD).transactionId("transaction-123").build();
+	}
+
+	@Test
+	void processTrainerWorkload_ShouldApplyDeltaOnlyWhenSubscribed() {
+		// Arrange
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username("trainer.username").year(2023).month(5)
+		        .duration(60).build();
+		AtomicBoolean applied = new AtomicBoolean();
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
+		when(reactiveApplyTrainerWorkloadDeltaPort.applyDelta(delta))
+		        .thenReturn(Mono.fromRunnable(() -> applied.set(true)));
+
+		// Act
+		Mono<Void> result = reactiveTrainerWorkloadService.processTrainerWorkload(command);
+
+		// Assert
+		verifyNoInteractions(trainerWorkloadFactory);
+		result.block();
+		assertTrue(applied.get());
+	}
+
+	@Test
+	void processTrainerWorkload_ShouldJournalAppliedDelta_WhenJournalIsEnabled() {
+		// Arrange
+		reactiveTrainerWorkloadService = service(true);
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username("trainer.username").year(2023).month(5)
+		        .duration(60).build();
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
+		when(reactiveApplyTrainerWorkloadDeltaPort.applyDelta(delta)).thenReturn(Mono.empty());
+
+		// Act
+		reactiveTrainerWorkloadService.processTrainerWorkload(command).block();
+
+		// Assert
+		verify(appendTrainerWorkloadEventPort).append(argThat(events -> events.size() == 1
+		        && events.get(0).getDuration() == 60 && events.get(0).getActionType() == ActionType.ADD
+		        && "transaction-123".equals(events.get(0).getTransactionId())));
+	}
+
+	@Test
+	void processTrainerWorkload_ShouldSucceedAndCountTheMiss_WhenJournalFails() {
+		// Arrange
+		reactiveTrainerWorkloadService = service(true);
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username("trainer.username").year(2023).month(5)
+		        .duration(60).build();
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
+		when(reactiveApplyTrainerWorkloadDeltaPort.applyDelta(delta)).thenReturn(Mono.empty());
+		doThrow(new IllegalStateException("journal down")).when(appendTrainerWorkloadEventPort).append(anyList());
+
+		// Act & Assert
+		assertDoesNotThrow(() -> reactiveTrainerWorkloadService.processTrainerWorkload(command).block());
+		assertEquals(1, meterRegistry.get("workload.journal.append.failures").counter().count());
+	}
+
+	@Test
+	void processTrainerWorkload_ShouldNotJournal_WhenJournalIsDisabled() {
+		// Arrange
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username("trainer.username").year(2023).month(5)
+		        .duration(60).build();
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
+		when(reactiveApplyTrainerWorkloadDeltaPort.applyDelta(delta)).thenReturn(Mono.empty());
+
+		// Act
+		reactiveTrainerWorkloadService.processTrainerWorkload(command).block();
+
+		// Assert
+		verifyNoInteractions(appendTrainerWorkloadEventPort);
+	}
+
+	@Test
+	void processTrainerWorkload_ShouldSignalError_WhenCommandIsInvalid() {
+		// Arrange
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenThrow(new IllegalArgumentException("invalid"));
+
+		// Act & Assert
+		Mono<Void> result = reactiveTrainerWorkloadService.processTrainerWorkload(command);
+		assertThrows(IllegalArgumentException.class, result::block);
+		verifyNoInteractions(reactiveApplyTrainerWorkloadDeltaPort, appendTrainerWorkloadEventPort);
+	}
+
+	@Test
+	void loadTrainerMonthlyWorkload_ShouldReturnProjectedWorkload() {
+		// Arrange
+		TrainerMonthlyWorkload projected = TrainerMonthlyWorkload.builder().username("trainer.username").year(2023)
+		        .month(5).summaryDuration(120).build();
+		when(reactiveLoadTrainerMonthlyWorkloadPort.findMonthlyWorkload("trainer.username", 2023, 5))
+		        .thenReturn(Mono.just(projected));
+
+		// Act
+		TrainerMonthlyWorkload result = reactiveTrainerWorkloadService
+		        .loadTrainerMonthlyWorkload("trainer.username", 2023, 5, "transaction-123").block();
+
+		// Assert
+		assertSame(projected, result);
+	}
+
+	@Test
+	void loadTrainerMonthlyWorkload_ShouldReturnEmptyWorkload_WhenTrainerDoesNotExist() {
+		// Arrange
+		when(reactiveLoadTrainerMonthlyWorkloadPort.findMonthlyWorkload("trainer.username", 2023, 5))
+		        .thenReturn(Mono.empty());
+
+		// Act
+		TrainerMonthlyWorkload result = reactiveTrainerWorkloadService
+		        .loadTrainerMonthlyWorkload("trainer.username", 2023, 5, "transaction-123").block();
+
+		// Assert
+		assertNotNull(result);
+		assertEquals("trainer.username", result.getUsername());
+		assertNull(result.getFirstName());
+		assertEquals(0, result.getSummaryDuration());
+	}
+
+	private ReactiveTrainerWorkloadService service(boolean journalEnabled) {
+		return new ReactiveTrainerWorkloadService(reactiveLoadTrainerMonthlyWorkloadPort,
+		        reactiveApplyTrainerWorkloadDeltaPort, trainerWorkloadFactory, appendTrainerWorkloadEventPort,
+		        journalEnabled, meterRegistry);
+	}
+}
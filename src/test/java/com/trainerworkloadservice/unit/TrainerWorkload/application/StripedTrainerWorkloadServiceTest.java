@@ -0,0 +1,259 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trainerworkloadservice.TrainerWorkload.application.StripedTrainerWorkloadService;
+import com.trainerworkloadservice.TrainerWorkload.application.TrainerWorkloadService;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadConflictException;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadResult;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.MDC;
+
+class StripedTrainerWorkloadServiceTest {
+	private TrainerWorkloadService trainerWorkloadService;
+	private SimpleMeterRegistry meterRegistry;
+	private StripedTrainerWorkloadService stripedTrainerWorkloadService;
+
+	@BeforeEach
+	public void setup() {
+		trainerWorkloadService = Mockito.mock(TrainerWorkloadService.class);
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	public void tearDown() throws InterruptedException {
+		if (stripedTrainerWorkloadService != null) {
+			stripedTrainerWorkloadService.destroy();
+		}
+	}
+
+	@Test
+	public void processTrainerWorkload_ShouldDelegateOnLaneThread() {
+		stripedTrainerWorkloadService = new StripedTrainerWorkloadService(trainerWorkloadService, meterRegistry, 4,
+		        10);
+		List<String> threads = new CopyOnWriteArrayList<>();
+		doAnswer(invocation -> threads.add(Thread.currentThread().getName())).when(trainerWorkloadService)
+		        .processTrainerWorkload(any());
+		ProcessTrainerWorkloadCommand command = command("john.doe");
+
+		stripedTrainerWorkloadService.processTrainerWorkload(command);
+
+		verify(trainerWorkloadService).processTrainerWorkload(command);
+		assertEquals(1, threads.size());
+		assertNotEquals(Thread.currentThread().getName(), threads.get(0));
+	}
+
+	@Test
+	public void processTrainerWorkload_ShouldCarryCallerMdcOntoLaneThread() {
+		stripedTrainerWorkloadService = new StripedTrainerWorkloadService(trainerWorkloadService, meterRegistry, 1,
+		        10);
+		List<String> transactionIds = new CopyOnWriteArrayList<>();
+		doAnswer(invocation -> transactionIds.add(MDC.get("transactionId"))).when(trainerWorkloadService)
+		        .processTrainerWorkload(any());
+
+		MDC.put("transactionId", "transaction-1");
+		try {
+			stripedTrainerWorkloadService.processTrainerWorkload(command("john.doe"));
+		} finally {
+			MDC.remove("transactionId");
+		}
+		stripedTrainerWorkloadService.processTrainerWorkload(command("john.doe"));
+
+		assertEquals(2, transactionIds.size());
+		assertEquals("transaction-1", transactionIds.get(0));
+		assertNull(transactionIds.get(1), "Lane threads must not leak the previous caller's context");
+	}
+
+	@Test
+	public void processTrainerWorkload_SameUsername_ShouldAlwaysUseSameLane() throws Exception {
+		stripedTrainerWorkloadService = new StripedTrainerWorkloadService(trainerWorkloadService, meterRegistry, 8,
+		        100);
+		Map<String, String> lanesByUsername = new ConcurrentHashMap<>();
+		List<String> mismatches = new CopyOnWriteArrayList<>();
+		doAnswer(invocation -> {
+			ProcessTrainerWorkloadCommand command = invocation.getArgument(0);
+			String lane = lanesByUsername.putIfAbsent(command.getUsername(), Thread.currentThread().getName());
+			if (lane != null && !lane.equals(Thread.currentThread().getName())) {
+				mismatches.add(command.getUsername());
+			}
+			return null;
+		}).when(trainerWorkloadService).processTrainerWorkload(any());
+
+		ExecutorService callers = Executors.newFixedThreadPool(4);
+		for (int i = 0; i < 200; i++) {
+			String username = "trainer." + (i % 10);
+			callers.submit(() -> stripedTrainerWorkloadService.processTrainerWorkload(command(username)));
+		}
+		callers.shutdown();
+		callers.awaitTermination(10, TimeUnit.SECONDS);
+
+		assertEquals(10, lanesByUsername.size());
+		assertEquals(List.of(), mismatches);
+	}
+
+	@Test
+	public void processTrainerWorkload_WhenDelegateFails_ShouldPropagateOriginalException() {
+		stripedTrainerWorkloadService = new StripedTrainerWorkloadService(trainerWorkloadService, meterRegistry, 2,
+		        10);
+		TrainerWorkloadConflictException exception = TrainerWorkloadConflictException.by("john.doe");
+		doThrow(exception).when(trainerWorkloadService).processTrainerWorkload(any());
+
+		TrainerWorkloadConflictException thrown = assertThrows(TrainerWorkloadConflictException.class,
+		        () -> stripedTrainerWorkloadService.processTrainerWorkload(command("john.doe")));
+		assertSame(exception, thrown);
+	}
+
+	@Test
+	public void processTrainerWorkload_WhenLaneSaturated_ShouldRejectAndCount() throws Exception {
+		stripedTrainerWorkloadService = new StripedTrainerWorkloadService(trainerWorkloadService, meterRegistry, 1,
+		        1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(trainerWorkloadService).processTrainerWorkload(any());
+
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		callers.submit(() -> stripedTrainerWorkloadService.processTrainerWorkload(command("john.doe")));
+		started.await(5, TimeUnit.SECONDS);
+		callers.submit(() -> stripedTrainerWorkloadService.processTrainerWorkload(command("jane.doe")));
+		while (meterRegistry.get("workload.lane.queue.depth").gauge().value() < 1) {
+			Thread.sleep(10);
+		}
+
+		try {
+			assertThrows(ServiceUnavailableException.class,
+			        () -> stripedTrainerWorkloadService.processTrainerWorkload(command("jack.doe")));
+			assertEquals(1.0, meterRegistry.get("workload.lane.rejected").counter().count());
+			assertEquals(1.0, meterRegistry.get("workload.lane.saturation").tag("lane", "0").gauge().value());
+		} finally {
+			release.countDown();
+			callers.shutdown();
+			callers.awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void processTrainerWorkloadBatch_ShouldRunEachTrainerOnTheLaneOfItsSingleCommands() {
+		stripedTrainerWorkloadService = new StripedTrainerWorkloadService(trainerWorkloadService, meterRegistry, 4,
+		        10);
+		Map<String, String> singleLanes = new ConcurrentHashMap<>();
+		Map<String, String> batchLanes = new ConcurrentHashMap<>();
+		doAnswer(invocation -> {
+			ProcessTrainerWorkloadCommand command = invocation.getArgument(0);
+			singleLanes.put(command.getUsername(), Thread.currentThread().getName());
+			return null;
+		}).when(trainerWorkloadService).processTrainerWorkload(any());
+		when(trainerWorkloadService.processTrainerWorkloadBatch(anyList())).thenAnswer(invocation -> {
+			List<ProcessTrainerWorkloadCommand> part = invocation.getArgument(0);
+			part.forEach(command -> batchLanes.merge(command.getUsername(), Thread.currentThread().getName(),
+			        (lane, other) -> lane.equals(other) ? lane : "mixed"));
+			return part.stream().map(command -> ProcessTrainerWorkloadResult.builder().processed(true)
+			        .message(command.getTransactionId()).build()).toList();
+		});
+
+		List<ProcessTrainerWorkloadCommand> batch = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			ProcessTrainerWorkloadCommand command = command("trainer." + (i % 5));
+			command.setTransactionId("tx-" + i);
+			batch.add(command);
+			stripedTrainerWorkloadService.processTrainerWorkload(command);
+		}
+		List<ProcessTrainerWorkloadResult> results = stripedTrainerWorkloadService.processTrainerWorkloadBatch(batch);
+
+		assertEquals(singleLanes, batchLanes);
+		for (int i = 0; i < batch.size(); i++) {
+			assertEquals("tx-" + i, results.get(i).getMessage(), "Results must come back in batch order");
+		}
+	}
+
+	@Test
+	public void processTrainerWorkloadBatch_ShouldKeepBatchOrderOfEachTrainer() {
+		stripedTrainerWorkloadService = new StripedTrainerWorkloadService(trainerWorkloadService, meterRegistry, 2,
+		        10);
+		List<String> applied = new CopyOnWriteArrayList<>();
+		when(trainerWorkloadService.processTrainerWorkloadBatch(anyList())).thenAnswer(invocation -> {
+			List<ProcessTrainerWorkloadCommand> part = invocation.getArgument(0);
+			part.forEach(command -> applied.add(command.getTransactionId()));
+			return part.stream().map(command -> ProcessTrainerWorkloadResult.success()).toList();
+		});
+		ProcessTrainerWorkloadCommand first = command("john.doe");
+		ProcessTrainerWorkloadCommand second = command("john.doe");
+		second.setTransactionId("tx-second");
+
+		stripedTrainerWorkloadService.processTrainerWorkloadBatch(List.of(first, command("jane.doe"), second));
+
+		assertTrue(applied.indexOf("tx-john.doe") < applied.indexOf("tx-second"));
+	}
+
+	@Test
+	public void processTrainerWorkloadBatch_WhenLaneSaturated_ShouldFailOnlyItsPart() throws Exception {
+		stripedTrainerWorkloadService = new StripedTrainerWorkloadService(trainerWorkloadService, meterRegistry, 1,
+		        1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(trainerWorkloadService).processTrainerWorkload(any());
+
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		callers.submit(() -> stripedTrainerWorkloadService.processTrainerWorkload(command("john.doe")));
+		started.await(5, TimeUnit.SECONDS);
+		callers.submit(() -> stripedTrainerWorkloadService.processTrainerWorkload(command("jane.doe")));
+		while (meterRegistry.get("workload.lane.queue.depth").gauge().value() < 1) {
+			Thread.sleep(10);
+		}
+
+		try {
+			List<ProcessTrainerWorkloadResult> results = stripedTrainerWorkloadService
+			        .processTrainerWorkloadBatch(List.of(command("jack.doe"), command("jill.doe")));
+			assertEquals(2, results.size());
+			assertTrue(results.stream().noneMatch(ProcessTrainerWorkloadResult::isProcessed));
+			assertEquals(1.0, meterRegistry.get("workload.lane.rejected").counter().count());
+			verify(trainerWorkloadService, never()).processTrainerWorkloadBatch(anyList());
+		} finally {
+			release.countDown();
+			callers.shutdown();
+			callers.awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+
+	private ProcessTrainerWorkloadCommand command(String username) {
+		return ProcessTrainerWorkloadCommand.builder().username(username).firstName("John").lastName("Doe")
+		        .isActive(true).trainingDate(LocalDate.of(2023, 5, 15)).trainingDuration(60)
+		        .actionType(ActionType.ADD).transactionId("tx-" + username).build();
+	}
+}
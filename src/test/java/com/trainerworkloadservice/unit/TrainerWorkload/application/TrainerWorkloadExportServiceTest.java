@@ -0,0 +1,53 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.trainerworkloadservice.TrainerWorkload.application.TrainerWorkloadExportService;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadExportQuery;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadExportRow;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadAllTrainerWorkloadsPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerWorkloadExportServiceTest {
+	@Mock
+	private LoadAllTrainerWorkloadsPort loadAllTrainerWorkloadsPort;
+
+	@InjectMocks
+	private TrainerWorkloadExportService trainerWorkloadExportService;
+
+	@Test
+	void exportTrainerWorkloads_ShouldFlattenEachTrainerToRecordedMonths() {
+		TrainerWorkload anna = TrainerWorkload.builder().username("anna").build();
+		anna.getYears().getOrCreate(2024).setDuration(2, 30);
+		anna.getYears().getOrCreate(2023).setDuration(11, 0);
+		anna.getYears().getOrCreate(2023).setDuration(5, 60);
+		TrainerWorkload bob = TrainerWorkload.builder().username("bob").build();
+		when(loadAllTrainerWorkloadsPort.forEachTrainerWorkload(eq("anna"), eq(100), any())).thenAnswer(invocation -> {
+			Consumer<TrainerWorkload> consumer = invocation.getArgument(2);
+			consumer.accept(anna);
+			consumer.accept(bob);
+			return 2;
+		});
+		List<TrainerWorkloadExportRow> rows = new ArrayList<>();
+
+		int trainers = trainerWorkloadExportService.exportTrainerWorkloads(
+		        TrainerWorkloadExportQuery.builder().fromUsername("anna").batchSize(100).build(), rows::add);
+
+		assertEquals(2, trainers);
+		assertEquals(List.of(new TrainerWorkloadExportRow("anna", 2023, 5, 60),
+		        new TrainerWorkloadExportRow("anna", 2023, 11, 0), new TrainerWorkloadExportRow("anna", 2024, 2, 30)),
+		        rows);
+	}
+}
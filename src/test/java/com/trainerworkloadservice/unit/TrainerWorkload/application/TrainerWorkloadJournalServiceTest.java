@@ -0,0 +1,224 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.trainerworkloadservice.TrainerWorkload.application.TrainerWorkloadJournalService;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainerWorkloadReplayResult;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadAllTrainerWorkloadsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerWorkloadEventsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ReplaceTrainerWorkloadsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.TrainerWorkloadSnapshotPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadEvent;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerWorkloadJournalServiceTest {
+	private static final Instant BASELINE_TIME = Instant.parse("2024-01-01T00:00:00Z");
+	private static final Instant SNAPSHOT_TIME = Instant.parse("2024-06-01T00:00:00Z");
+
+	@Mock
+	private LoadTrainerWorkloadEventsPort loadTrainerWorkloadEventsPort;
+
+	@Mock
+	private TrainerWorkloadSnapshotPort trainerWorkloadSnapshotPort;
+
+	@Mock
+	private LoadAllTrainerWorkloadsPort loadAllTrainerWorkloadsPort;
+
+	@Mock
+	private ReplaceTrainerWorkloadsPort replaceTrainerWorkloadsPort;
+
+	private TrainerWorkloadJournalService journalService;
+
+	@BeforeEach
+	void setUp() {
+		journalService = new TrainerWorkloadJournalService(loadTrainerWorkloadEventsPort, trainerWorkloadSnapshotPort,
+		        loadAllTrainerWorkloadsPort, replaceTrainerWorkloadsPort, 1, Duration.ZERO);
+	}
+
+	@AfterEach
+	void tearDown() {
+		journalService.destroy();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void rebuildTrainerWorkloads_ShouldApplyNewerEventsOverSnapshots() {
+		// anna was snapshotted by a run that stopped before recording the snapshot time, so her first event is
+		// already part of the snapshot
+		when(trainerWorkloadSnapshotPort.loadBaselineTime()).thenReturn(BASELINE_TIME);
+		when(trainerWorkloadSnapshotPort.loadSnapshotTime()).thenReturn(SNAPSHOT_TIME);
+		when(trainerWorkloadSnapshotPort.streamSnapshots(null, null)).thenReturn(Stream.of(
+		        snapshot("anna", 2024, 6, 60, SNAPSHOT_TIME.plusSeconds(60)), snapshot("carl", 2024, 5, 30,
+		                SNAPSHOT_TIME)));
+		when(loadTrainerWorkloadEventsPort.streamEvents(null, null, SNAPSHOT_TIME, null)).thenReturn(Stream.of(
+		        event("anna", 2024, 6, 60, SNAPSHOT_TIME.plusSeconds(30)),
+		        event("anna", 2024, 6, -20, SNAPSHOT_TIME.plusSeconds(90)),
+		        event("bob", 2024, 6, 45, SNAPSHOT_TIME.plusSeconds(10)),
+		        event("bob", 2024, 6, -60, SNAPSHOT_TIME.plusSeconds(20))));
+
+		TrainerWorkloadReplayResult result = journalService.rebuildTrainerWorkloads();
+
+		ArgumentCaptor<List<TrainerWorkload>> workloadsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(replaceTrainerWorkloadsPort).replaceAll(workloadsCaptor.capture());
+		List<TrainerWorkload> workloads = workloadsCaptor.getValue();
+
+		assertEquals(List.of("anna", "bob", "carl"), workloads.stream().map(TrainerWorkload::getUsername).toList());
+		assertEquals(40, workloads.get(0).getYears().getDuration(2024, 6));
+		// A month never drops below zero, as on the live path
+		assertEquals(0, workloads.get(1).getYears().getDuration(2024, 6));
+		assertEquals(30, workloads.get(2).getYears().getDuration(2024, 5));
+		assertEquals(3, result.getTrainers());
+		assertEquals(3, result.getEvents());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void rebuildTrainerWorkloads_ShouldKeepHistoryRecordedBeforeTheJournal_FromTheBaseline() {
+		// dora's 2023 minutes were recorded before the journal was enabled, so only the baseline holds them
+		TrainerWorkload dora = TrainerWorkload.builder().username("dora").firstName("Dora").lastName("Doe")
+		        .isActive(true).build();
+		dora.getYears().getOrCreate(2023).setDuration(11, 120);
+		when(trainerWorkloadSnapshotPort.loadBaselineTime()).thenReturn(null);
+		when(trainerWorkloadSnapshotPort.tryLeaseSnapshot(any())).thenReturn(true);
+		when(loadAllTrainerWorkloadsPort.forEachTrainerWorkload(isNull(), anyInt(), any())).thenAnswer(invocation -> {
+			invocation.<Consumer<TrainerWorkload>>getArgument(2).accept(dora);
+			return 1;
+		});
+
+		journalService.ensureBaseline();
+
+		ArgumentCaptor<List<TrainerWorkloadSnapshot>> snapshotsCaptor = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<Instant> baselineCaptor = ArgumentCaptor.forClass(Instant.class);
+		verify(trainerWorkloadSnapshotPort).saveSnapshots(snapshotsCaptor.capture());
+		verify(trainerWorkloadSnapshotPort).saveBaselineTime(baselineCaptor.capture());
+		Instant baselineTime = baselineCaptor.getValue();
+		verify(trainerWorkloadSnapshotPort).saveSnapshotTime(baselineTime);
+
+		TrainerWorkloadSnapshot baseline = snapshotsCaptor.getValue().get(0);
+		assertEquals(baselineTime, baseline.getTakenAt());
+		when(trainerWorkloadSnapshotPort.loadBaselineTime()).thenReturn(baselineTime);
+		when(trainerWorkloadSnapshotPort.loadSnapshotTime()).thenReturn(baselineTime);
+		when(trainerWorkloadSnapshotPort.streamSnapshots(null, null)).thenReturn(Stream.of(baseline));
+		when(loadTrainerWorkloadEventsPort.streamEvents(null, null, baselineTime, null))
+		        .thenReturn(Stream.of(event("dora", 2024, 6, 45, baselineTime.plusSeconds(10))));
+
+		journalService.rebuildTrainerWorkloads();
+
+		ArgumentCaptor<List<TrainerWorkload>> workloadsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(replaceTrainerWorkloadsPort).replaceAll(workloadsCaptor.capture());
+		TrainerWorkload rebuilt = workloadsCaptor.getValue().get(0);
+		assertEquals(120, rebuilt.getYears().getDuration(2023, 11));
+		assertEquals(45, rebuilt.getYears().getDuration(2024, 6));
+	}
+
+	@Test
+	void rebuildTrainerWorkloads_ShouldRefuse_WhenThereIsNoBaseline() {
+		when(trainerWorkloadSnapshotPort.loadBaselineTime()).thenReturn(null);
+
+		assertThrows(IllegalStateException.class, () -> journalService.rebuildTrainerWorkloads());
+
+		verifyNoInteractions(loadTrainerWorkloadEventsPort, replaceTrainerWorkloadsPort);
+	}
+
+	@Test
+	void ensureBaseline_ShouldNotTakeItAgain_WhenAlreadyTaken() {
+		when(trainerWorkloadSnapshotPort.loadBaselineTime()).thenReturn(BASELINE_TIME);
+
+		journalService.ensureBaseline();
+
+		verify(trainerWorkloadSnapshotPort, never()).tryLeaseSnapshot(any());
+		verifyNoInteractions(loadAllTrainerWorkloadsPort);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void snapshotTrainerWorkloads_ShouldSaveChangedTrainersOnly_AndRecordSnapshotTime() {
+		when(trainerWorkloadSnapshotPort.loadBaselineTime()).thenReturn(BASELINE_TIME);
+		when(trainerWorkloadSnapshotPort.tryLeaseSnapshot(any())).thenReturn(true);
+		when(trainerWorkloadSnapshotPort.loadSnapshotTime()).thenReturn(SNAPSHOT_TIME);
+		when(trainerWorkloadSnapshotPort.streamSnapshots(null, null)).thenReturn(Stream.of(
+		        snapshot("anna", 2024, 6, 60, SNAPSHOT_TIME), snapshot("carl", 2024, 5, 30, SNAPSHOT_TIME)));
+		when(loadTrainerWorkloadEventsPort.streamEvents(eq(null), eq(null), eq(SNAPSHOT_TIME), any()))
+		        .thenReturn(Stream.of(event("anna", 2024, 7, 15, SNAPSHOT_TIME.plusSeconds(30))));
+
+		journalService.snapshotTrainerWorkloads();
+
+		ArgumentCaptor<List<TrainerWorkloadSnapshot>> snapshotsCaptor = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<Instant> takenAtCaptor = ArgumentCaptor.forClass(Instant.class);
+		verify(trainerWorkloadSnapshotPort).saveSnapshots(snapshotsCaptor.capture());
+		verify(trainerWorkloadSnapshotPort).saveSnapshotTime(takenAtCaptor.capture());
+
+		List<TrainerWorkloadSnapshot> snapshots = snapshotsCaptor.getValue();
+		assertEquals(1, snapshots.size());
+		assertEquals("anna", snapshots.get(0).getTrainerWorkload().getUsername());
+		assertEquals(15, snapshots.get(0).getTrainerWorkload().getYears().getDuration(2024, 7));
+		assertEquals(takenAtCaptor.getValue(), snapshots.get(0).getTakenAt());
+		assertTrue(takenAtCaptor.getValue().isBefore(Instant.now()));
+	}
+
+	@Test
+	void snapshotTrainerWorkloads_ShouldSkip_WhenAnotherInstanceHoldsTheLease() {
+		when(trainerWorkloadSnapshotPort.loadBaselineTime()).thenReturn(BASELINE_TIME);
+		when(trainerWorkloadSnapshotPort.tryLeaseSnapshot(any())).thenReturn(false);
+
+		TrainerWorkloadReplayResult result = journalService.snapshotTrainerWorkloads();
+
+		assertEquals(0, result.getTrainers());
+		verify(trainerWorkloadSnapshotPort, never()).saveSnapshots(anyList());
+		verify(trainerWorkloadSnapshotPort, never()).saveSnapshotTime(any());
+		verifyNoInteractions(loadTrainerWorkloadEventsPort);
+	}
+
+	@Test
+	void rebuildTrainerWorkloads_ShouldReplayUsernameRangesSplitAtSampledQuantiles() {
+		journalService.destroy();
+		journalService = new TrainerWorkloadJournalService(loadTrainerWorkloadEventsPort, trainerWorkloadSnapshotPort,
+		        loadAllTrainerWorkloadsPort, replaceTrainerWorkloadsPort, 2, Duration.ZERO);
+		List<String> sample = new ArrayList<>(List.of("d", "a", "f", "b", "e", "c"));
+		Collections.shuffle(sample);
+		when(trainerWorkloadSnapshotPort.loadBaselineTime()).thenReturn(BASELINE_TIME);
+		when(loadTrainerWorkloadEventsPort.sampleUsernames(40)).thenReturn(sample);
+		when(trainerWorkloadSnapshotPort.streamSnapshots(any(), any())).thenAnswer(invocation -> Stream.empty());
+		when(loadTrainerWorkloadEventsPort.streamEvents(any(), any(), any(), any()))
+		        .thenAnswer(invocation -> Stream.empty());
+
+		journalService.rebuildTrainerWorkloads();
+
+		verify(loadTrainerWorkloadEventsPort).streamEvents(null, "d", null, null);
+		verify(loadTrainerWorkloadEventsPort).streamEvents("d", null, null, null);
+		verifyNoInteractions(replaceTrainerWorkloadsPort);
+	}
+
+	private TrainerWorkloadSnapshot snapshot(String username, int year, int month, int duration, Instant takenAt) {
+		TrainerWorkload trainerWorkload = TrainerWorkload.builder().username(username).firstName("John")
+		        .lastName("Doe").isActive(true).build();
+		trainerWorkload.getYears().getOrCreate(year).setDuration(month, duration);
+		return new TrainerWorkloadSnapshot(trainerWorkload, takenAt);
+	}
+
+	private TrainerWorkloadEvent event(String username, int year, int month, int duration, Instant recordedAt) {
+		return TrainerWorkloadEvent.builder().username(username).firstName("John").lastName("Doe").isActive(true)
+		        .year(year).month(month).duration(duration)
+		        .actionType(duration < 0 ? ActionType.DELETE : ActionType.ADD).recordedAt(recordedAt).build();
+	}
+}
@@ -3,35 +3,71 @@ package com.trainerworkloadservice.unit.TrainerWorkload.application;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.trainerworkloadservice.TrainerWorkload.application.ConflictRetryPolicy;
 import com.trainerworkloadservice.TrainerWorkload.application.TrainerWorkloadService;
+import com.trainerworkloadservice.TrainerWorkload.application.TransactionDeduplicator;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.InvalidWorkloadRangeException;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadConflictException;
 import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadNotFoundException;
 import com.trainerworkloadservice.TrainerWorkload.application.factory.TrainerWorkloadFactory;
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadResult;
+import com.trainerworkloadservice.TrainerWorkload.application.port.input.TrainersMonthlyWorkloadQuery;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.AppendTrainerWorkloadEventPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ApplyTrainerWorkloadDeltaPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerMonthlyWorkloadPort;
 import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainerWorkloadPort;
-import com.trainerworkloadservice.TrainerWorkload.application.port.output.UpdateTrainerWorkloadPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadTrainersMonthlyWorkloadPort;
 import com.trainerworkloadservice.TrainerWorkload.domain.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class TrainerWorkloadServiceTest {
+	@Mock
+	private LoadTrainerMonthlyWorkloadPort loadTrainerMonthlyWorkloadPort;
+
 	@Mock
 	private LoadTrainerWorkloadPort loadTrainerWorkloadPort;
 
 	@Mock
-	private UpdateTrainerWorkloadPort updateTrainerWorkloadPort;
+	private LoadTrainersMonthlyWorkloadPort loadTrainersMonthlyWorkloadPort;
+
+	@Mock
+	private ApplyTrainerWorkloadDeltaPort applyTrainerWorkloadDeltaPort;
 
 	@Mock
 	private TrainerWorkloadFactory trainerWorkloadFactory;
 
+	@Mock
+	private AppendTrainerWorkloadEventPort appendTrainerWorkloadEventPort;
+
+	@Mock
+	private TransactionDeduplicator transactionDeduplicator;
+
+	@Spy
+	private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final MeterRegistry retryMeterRegistry = new SimpleMeterRegistry();
+
+	@Spy
+	private ConflictRetryPolicy conflictRetryPolicy = new ConflictRetryPolicy(2, Duration.ZERO, retryMeterRegistry);
+
 	@InjectMocks
 	private TrainerWorkloadService trainerWorkloadService;
 
@@ -44,7 +80,6 @@ class TrainerWorkloadServiceTest {
 	private String transactionId;
 	private int year;
 	private int month;
-	private TrainerWorkload existingTrainerWorkload;
 	private ProcessTrainerWorkloadCommand command;
 
 	@BeforeEach
@@ -61,370 +96,487 @@ class TrainerWorkloadServiceTest {
 
 		command = ProcessTrainerWorkloadCommand.builder().username(username).firstName(firstName).lastName(lastName)
 		        .isActive(isActive).trainingDate(trainingDate).trainingDuration(trainingDuration)
-		        .actionType(ActionType.ADD).transactionId(transactionId).build();
-
-		existingTrainerWorkload = TrainerWorkload.builder().username(username).firstName("Old First Name")
-		        .lastName("Old Last Name").isActive(false).years(new ArrayList<>()).build();
+		        .actionType(ActionType.ADD).transactionId(transactionId).idempotencyKey(transactionId).build();
+		lenient().when(transactionDeduplicator.begin(any())).thenReturn(true);
 	}
 
 	@Test
-  void processTrainerWorkload_ShouldCreateNewTrainerWorkload_WhenUsernameDoesNotExist() {
-    // Arrange
-    when(loadTrainerWorkloadPort.findByUsername(username))
-        .thenThrow(new TrainerWorkloadNotFoundException("Not found"));
-
-    TrainerWorkload newTrainerWorkload =
-        TrainerWorkload.builder()
-            .username(username)
-            .firstName(firstName)
-            .lastName(lastName)
-            .isActive(isActive)
-            .years(new ArrayList<>())
-            .build();
+	void loadTrainerMonthlyWorkload_ShouldReturnProjectedWorkload_WhenDataExists() {
+		// Arrange
+		TrainerMonthlyWorkload projected = TrainerMonthlyWorkload.builder().username(username).firstName(firstName)
+		        .lastName(lastName).isActive(isActive).year(year).month(month).summaryDuration(120).build();
 
-    when(trainerWorkloadFactory.createFrom(command)).thenReturn(newTrainerWorkload);
+		when(loadTrainerMonthlyWorkloadPort.findMonthlyWorkload(username, year, month)).thenReturn(projected);
 
-    // Act
-    trainerWorkloadService.processTrainerWorkload(command);
+		// Act
+		TrainerMonthlyWorkload result = trainerWorkloadService.loadTrainerMonthlyWorkload(username, year, month,
+		        transactionId);
 
-    // Assert
-    ArgumentCaptor<TrainerWorkload> workloadCaptor = ArgumentCaptor.forClass(TrainerWorkload.class);
-    verify(updateTrainerWorkloadPort).save(workloadCaptor.capture());
-
-    TrainerWorkload savedWorkload = workloadCaptor.getValue();
-    assertEquals(username, savedWorkload.getUsername());
-    assertEquals(firstName, savedWorkload.getFirstName());
-    assertEquals(lastName, savedWorkload.getLastName());
-    assertEquals(isActive, savedWorkload.getIsActive());
-
-    // Verify year and month were created
-    assertEquals(1, savedWorkload.getYears().size());
-    YearWorkload yearWorkload = savedWorkload.getYears().get(0);
-    assertEquals(year, yearWorkload.getYear());
-
-    assertEquals(1, yearWorkload.getMonths().size());
-    MonthWorkload monthWorkload = yearWorkload.getMonths().get(0);
-    assertEquals(month, monthWorkload.getMonth());
-    assertEquals(trainingDuration, monthWorkload.getSummaryDuration());
-  }
+		// Assert
+		assertNotNull(result);
+		assertEquals(username, result.getUsername());
+		assertEquals(firstName, result.getFirstName());
+		assertEquals(lastName, result.getLastName());
+		assertEquals(isActive, result.getIsActive());
+		assertEquals(year, result.getYear());
+		assertEquals(month, result.getMonth());
+		assertEquals(120, result.getSummaryDuration());
+	}
 
 	@Test
-  void processTrainerWorkload_ShouldUpdateExistingTrainerWorkload_WhenUsernameExists() {
+  void loadTrainerMonthlyWorkload_ShouldReturnEmptyWorkload_WhenTrainerDoesNotExist() {
     // Arrange
-    when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(existingTrainerWorkload);
+    when(loadTrainerMonthlyWorkloadPort.findMonthlyWorkload(username, year, month))
+        .thenThrow(new TrainerWorkloadNotFoundException("Not found"));
 
     // Act
-    trainerWorkloadService.processTrainerWorkload(command);
+    TrainerMonthlyWorkload result =
+        trainerWorkloadService.loadTrainerMonthlyWorkload(username, year, month, transactionId);
 
     // Assert
-    ArgumentCaptor<TrainerWorkload> workloadCaptor = ArgumentCaptor.forClass(TrainerWorkload.class);
-    verify(updateTrainerWorkloadPort).save(workloadCaptor.capture());
-
-    TrainerWorkload savedWorkload = workloadCaptor.getValue();
-    assertEquals(username, savedWorkload.getUsername());
-    assertEquals(firstName, savedWorkload.getFirstName()); // Should be updated
-    assertEquals(lastName, savedWorkload.getLastName()); // Should be updated
-    assertEquals(isActive, savedWorkload.getIsActive()); // Should be updated
-
-    // Verify year and month were created
-    assertEquals(1, savedWorkload.getYears().size());
-    YearWorkload yearWorkload = savedWorkload.getYears().get(0);
-    assertEquals(year, yearWorkload.getYear());
-
-    assertEquals(1, yearWorkload.getMonths().size());
-    MonthWorkload monthWorkload = yearWorkload.getMonths().get(0);
-    assertEquals(month, monthWorkload.getMonth());
-    assertEquals(trainingDuration, monthWorkload.getSummaryDuration());
+    assertNotNull(result);
+    assertEquals(username, result.getUsername());
+    assertNull(result.getFirstName());
+    assertNull(result.getLastName());
+    assertNull(result.getIsActive());
+    assertEquals(year, result.getYear());
+    assertEquals(month, result.getMonth());
+    assertEquals(0, result.getSummaryDuration());
+    assertEquals(1, meterRegistry.get("workload.trainer.not-found").counter().count());
   }
 
 	@Test
-	void processTrainerWorkload_ShouldAddDuration_WhenActionTypeIsAdd() {
+	void loadTrainerYearlyWorkload_ShouldReturnRecordedMonthsOfYearFromOneRead() {
 		// Arrange
-		// Create existing workload with existing year and month
-		MonthWorkload existingMonthWorkload = MonthWorkload.builder().month(month).summaryDuration(100).build();
+		TrainerWorkload trainerWorkload = TrainerWorkload.builder().username(username).firstName(firstName)
+		        .lastName(lastName).isActive(isActive).build();
+		trainerWorkload.getYears().getOrCreate(year - 1).setDuration(12, 30);
+		trainerWorkload.getYears().getOrCreate(year).setDuration(1, 60);
+		trainerWorkload.getYears().getOrCreate(year).setDuration(month, 120);
+
+		when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(trainerWorkload);
 
-		YearWorkload existingYearWorkload = YearWorkload.builder().year(year)
-		        .months(new ArrayList<>(Collections.singletonList(existingMonthWorkload))).build();
+		// Act
+		TrainerWorkloadRange result = trainerWorkloadService.loadTrainerYearlyWorkload(username, year, transactionId);
 
-		existingTrainerWorkload.setYears(new ArrayList<>(Collections.singletonList(existingYearWorkload)));
+		// Assert
+		assertEquals(username, result.getUsername());
+		assertEquals(firstName, result.getFirstName());
+		assertEquals(List.of(new WorkloadMonth(year, 1, 60), new WorkloadMonth(year, month, 120)), result.getMonths());
+		verify(loadTrainerWorkloadPort).findByUsername(username);
+		verifyNoInteractions(loadTrainerMonthlyWorkloadPort);
+	}
+
+	@Test
+	void loadTrainerWorkloadHistory_ShouldReturnEveryRecordedMonth() {
+		// Arrange
+		TrainerWorkload trainerWorkload = TrainerWorkload.builder().username(username).build();
+		trainerWorkload.getYears().getOrCreate(2019).setDuration(3, 30);
+		trainerWorkload.getYears().getOrCreate(year).setDuration(month, 120);
 
-		when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(existingTrainerWorkload);
+		when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(trainerWorkload);
 
 		// Act
-		trainerWorkloadService.processTrainerWorkload(command); // command has ActionType.ADD
+		TrainerWorkloadRange result = trainerWorkloadService.loadTrainerWorkloadHistory(username, transactionId);
 
 		// Assert
-		ArgumentCaptor<TrainerWorkload> workloadCaptor = ArgumentCaptor.forClass(TrainerWorkload.class);
-		verify(updateTrainerWorkloadPort).save(workloadCaptor.capture());
+		assertEquals(List.of(new WorkloadMonth(2019, 3, 30), new WorkloadMonth(year, month, 120)),
+		        result.getMonths());
+	}
+
+	@Test
+	void loadTrainerWorkloadRange_ShouldReturnEmptyRange_WhenTrainerDoesNotExist() {
+		// Arrange
+		when(loadTrainerWorkloadPort.findByUsername(username))
+		        .thenThrow(new TrainerWorkloadNotFoundException("Not found"));
+
+		// Act
+		TrainerWorkloadRange result = trainerWorkloadService.loadTrainerWorkloadRange(username, YearMonth.of(2022, 1),
+		        YearMonth.of(2023, 6), transactionId);
 
-		TrainerWorkload savedWorkload = workloadCaptor.getValue();
-		MonthWorkload updatedMonthWorkload = savedWorkload.getYears().get(0).getMonths().get(0);
+		// Assert
+		assertEquals(username, result.getUsername());
+		assertNull(result.getFirstName());
+		assertTrue(result.getMonths().isEmpty());
+		assertEquals(1, meterRegistry.get("workload.trainer.not-found").counter().count());
+	}
 
-		// Original 100 + new 60 = 160
-		assertEquals(160, updatedMonthWorkload.getSummaryDuration());
+	@Test
+	void loadTrainerWorkloadRange_ShouldRejectRangeEndingBeforeItStarts() {
+		// Act & Assert
+		assertThrows(InvalidWorkloadRangeException.class, () -> trainerWorkloadService
+		        .loadTrainerWorkloadRange(username, YearMonth.of(2023, 6), YearMonth.of(2023, 5), transactionId));
+		verifyNoInteractions(loadTrainerWorkloadPort);
 	}
 
 	@Test
-	void processTrainerWorkload_ShouldSubtractDuration_WhenActionTypeIsDelete() {
+	void streamTrainersMonthlyWorkload_ShouldPassQueryFiltersToSingleQuery() {
 		// Arrange
-		// Create existing workload with existing year and month
-		MonthWorkload existingMonthWorkload = MonthWorkload.builder().month(month).summaryDuration(100).build();
+		TrainersMonthlyWorkloadQuery query = TrainersMonthlyWorkloadQuery.builder().year(year).month(month)
+		        .usernames(List.of(username, "other.trainer")).transactionId(transactionId).build();
+		List<TrainerMonthlyWorkload> streamed = new ArrayList<>();
 
-		YearWorkload existingYearWorkload = YearWorkload.builder().year(year)
-		        .months(new ArrayList<>(Collections.singletonList(existingMonthWorkload))).build();
+		when(loadTrainersMonthlyWorkloadPort.forEachMonthlyWorkload(eq(query.getUsernames()), isNull(), eq(year),
+		        eq(month), any())).thenReturn(2);
 
-		existingTrainerWorkload.setYears(new ArrayList<>(Collections.singletonList(existingYearWorkload)));
+		// Act
+		int count = trainerWorkloadService.streamTrainersMonthlyWorkload(query, streamed::add);
 
-		when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(existingTrainerWorkload);
+		// Assert
+		assertEquals(2, count);
+		verifyNoInteractions(loadTrainerMonthlyWorkloadPort, loadTrainerWorkloadPort);
+	}
 
-		// Change action type to DELETE
-		command = ProcessTrainerWorkloadCommand.builder().username(username).firstName(firstName).lastName(lastName)
-		        .isActive(isActive).trainingDate(trainingDate).trainingDuration(trainingDuration)
-		        .actionType(ActionType.DELETE).transactionId(transactionId).build();
+	@Test
+	void processTrainerWorkload_ShouldApplyDeltaCreatedFromCommand() {
+		// Arrange
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username(username).firstName(firstName)
+		        .lastName(lastName).isActive(isActive).year(year).month(month).duration(trainingDuration).build();
+
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
 
 		// Act
 		trainerWorkloadService.processTrainerWorkload(command);
 
 		// Assert
-		ArgumentCaptor<TrainerWorkload> workloadCaptor = ArgumentCaptor.forClass(TrainerWorkload.class);
-		verify(updateTrainerWorkloadPort).save(workloadCaptor.capture());
-
-		TrainerWorkload savedWorkload = workloadCaptor.getValue();
-		MonthWorkload updatedMonthWorkload = savedWorkload.getYears().get(0).getMonths().get(0);
-
-		// Original 100 - new 60 = 40
-		assertEquals(40, updatedMonthWorkload.getSummaryDuration());
+		verify(applyTrainerWorkloadDeltaPort).applyDelta(delta);
+		verify(appendTrainerWorkloadEventPort).append(argThat(events -> events.size() == 1
+		        && events.get(0).getDuration() == trainingDuration
+		        && transactionId.equals(events.get(0).getTransactionId())));
+		verify(transactionDeduplicator).complete(transactionId);
+		assertEquals(1, processedCommands(ActionType.ADD));
+		assertEquals(0, processedCommands(ActionType.DELETE));
 	}
 
 	@Test
-	void processTrainerWorkload_ShouldNotAllowNegativeDuration_WhenDeletingMoreThanExists() {
+	void processTrainerWorkload_ShouldSucceedAndCountTheMiss_WhenJournalFails() {
 		// Arrange
-		// Create existing workload with existing year and month
-		MonthWorkload existingMonthWorkload = MonthWorkload.builder().month(month).summaryDuration(30) // Only 30
-		        // minutes exist
-		        .build();
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username(username).year(year).month(month)
+		        .duration(trainingDuration).build();
 
-		YearWorkload existingYearWorkload = YearWorkload.builder().year(year)
-		        .months(new ArrayList<>(Collections.singletonList(existingMonthWorkload))).build();
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
+		doThrow(new IllegalStateException("journal down")).when(appendTrainerWorkloadEventPort).append(anyList());
 
-		existingTrainerWorkload.setYears(new ArrayList<>(Collections.singletonList(existingYearWorkload)));
+		// Act
+		trainerWorkloadService.processTrainerWorkload(command);
 
-		when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(existingTrainerWorkload);
+		// Assert
+		InOrder inOrder = inOrder(applyTrainerWorkloadDeltaPort, appendTrainerWorkloadEventPort,
+		        transactionDeduplicator);
+		inOrder.verify(applyTrainerWorkloadDeltaPort).applyDelta(delta);
+		inOrder.verify(appendTrainerWorkloadEventPort).append(anyList());
+		inOrder.verify(transactionDeduplicator).complete(transactionId);
+		assertEquals(1, meterRegistry.get("workload.journal.append.failures").counter().count());
+		assertEquals(1, processedCommands(ActionType.ADD));
+	}
 
-		// Try to delete 60 minutes when only 30 exist
-		command = ProcessTrainerWorkloadCommand.builder().username(username).firstName(firstName).lastName(lastName)
-		        .isActive(isActive).trainingDate(trainingDate).trainingDuration(trainingDuration) // 60 minutes
-		        .actionType(ActionType.DELETE).transactionId(transactionId).build();
+	@Test
+	void processTrainerWorkload_ShouldNotLoadTrainerWorkload() {
+		// Arrange
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username(username).year(year).month(month)
+		        .duration(trainingDuration).build();
+
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
 
 		// Act
 		trainerWorkloadService.processTrainerWorkload(command);
 
 		// Assert
-		ArgumentCaptor<TrainerWorkload> workloadCaptor = ArgumentCaptor.forClass(TrainerWorkload.class);
-		verify(updateTrainerWorkloadPort).save(workloadCaptor.capture());
-
-		TrainerWorkload savedWorkload = workloadCaptor.getValue();
-		MonthWorkload updatedMonthWorkload = savedWorkload.getYears().get(0).getMonths().get(0);
-
-		// Should be 0, not negative
-		assertEquals(0, updatedMonthWorkload.getSummaryDuration());
+		verifyNoInteractions(loadTrainerMonthlyWorkloadPort);
 	}
 
 	@Test
-	void loadTrainerMonthlyWorkload_ShouldReturnWorkload_WhenDataExists() {
+	void processTrainerWorkload_ShouldPropagateConflict_WhenDeltaCannotBeApplied() {
 		// Arrange
-		// Create existing workload with existing year and month
-		MonthWorkload existingMonthWorkload = MonthWorkload.builder().month(month).summaryDuration(120).build();
-
-		YearWorkload existingYearWorkload = YearWorkload.builder().year(year)
-		        .months(new ArrayList<>(Collections.singletonList(existingMonthWorkload))).build();
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username(username).year(year).month(month)
+		        .duration(trainingDuration).build();
+
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
+		doThrow(TrainerWorkloadConflictException.by(username)).when(applyTrainerWorkloadDeltaPort).applyDelta(delta);
+
+		// Act & Assert
+		assertThrows(TrainerWorkloadConflictException.class,
+		        () -> trainerWorkloadService.processTrainerWorkload(command));
+		verify(applyTrainerWorkloadDeltaPort, times(2)).applyDelta(delta);
+		verify(transactionDeduplicator).abandon(transactionId);
+		verify(transactionDeduplicator, never()).complete(any());
+		verifyNoInteractions(appendTrainerWorkloadEventPort);
+		assertEquals(0, processedCommands(ActionType.ADD));
+		assertEquals(2, retryMeterRegistry.get("workload.update.conflicts").counter().count());
+		assertEquals(1, retryMeterRegistry.get("workload.update.retries").counter().count());
+	}
 
-		existingTrainerWorkload.setYears(new ArrayList<>(Collections.singletonList(existingYearWorkload)));
-		existingTrainerWorkload.setFirstName(firstName);
-		existingTrainerWorkload.setLastName(lastName);
-		existingTrainerWorkload.setIsActive(isActive);
+	@Test
+	void processTrainerWorkload_ShouldSkipDelta_WhenTransactionWasAlreadyProcessed() {
+		// Arrange
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username(username).year(year).month(month)
+		        .duration(trainingDuration).build();
 
-		when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(existingTrainerWorkload);
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
+		when(transactionDeduplicator.begin(transactionId)).thenReturn(false);
 
 		// Act
-		TrainerMonthlyWorkload result = trainerWorkloadService.loadTrainerMonthlyWorkload(username, year, month,
-		        transactionId);
+		trainerWorkloadService.processTrainerWorkload(command);
 
 		// Assert
-		assertNotNull(result);
-		assertEquals(username, result.getUsername());
-		assertEquals(firstName, result.getFirstName());
-		assertEquals(lastName, result.getLastName());
-		assertEquals(isActive, result.getIsActive());
-		assertEquals(year, result.getYear());
-		assertEquals(month, result.getMonth());
-		assertEquals(120, result.getSummaryDuration());
+		verifyNoInteractions(applyTrainerWorkloadDeltaPort, appendTrainerWorkloadEventPort,
+		        loadTrainerWorkloadPort);
+		verify(transactionDeduplicator, never()).complete(any());
+		assertEquals(0, processedCommands(ActionType.ADD));
 	}
 
 	@Test
-	void loadTrainerMonthlyWorkload_ShouldReturnZeroDuration_WhenYearDoesNotExist() {
+	void processTrainerWorkload_ShouldNotDeduplicate_WhenCallerSentNoTransactionId() {
 		// Arrange
-		// Create existing workload with no years
-		existingTrainerWorkload.setFirstName(firstName);
-		existingTrainerWorkload.setLastName(lastName);
-		existingTrainerWorkload.setIsActive(isActive);
+		command.setIdempotencyKey(null);
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username(username).year(year).month(month)
+		        .duration(trainingDuration).build();
 
-		when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(existingTrainerWorkload);
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
 
 		// Act
-		TrainerMonthlyWorkload result = trainerWorkloadService.loadTrainerMonthlyWorkload(username, year, month,
-		        transactionId);
+		trainerWorkloadService.processTrainerWorkload(command);
 
 		// Assert
-		assertNotNull(result);
-		assertEquals(username, result.getUsername());
-		assertEquals(firstName, result.getFirstName());
-		assertEquals(lastName, result.getLastName());
-		assertEquals(isActive, result.getIsActive());
-		assertEquals(year, result.getYear());
-		assertEquals(month, result.getMonth());
-		assertEquals(0, result.getSummaryDuration());
+		verify(transactionDeduplicator).begin(null);
+		verify(applyTrainerWorkloadDeltaPort).applyDelta(delta);
+		assertEquals(transactionId, command.getTransactionId());
 	}
 
 	@Test
-	void loadTrainerMonthlyWorkload_ShouldReturnZeroDuration_WhenMonthDoesNotExist() {
+	void processTrainerWorkload_ShouldRetryDelta_WhenAnotherWriterWonTheRace() {
 		// Arrange
-		// Create existing workload with year but no matching month
-		YearWorkload existingYearWorkload = YearWorkload.builder().year(year).months(new ArrayList<>()).build();
-
-		existingTrainerWorkload.setYears(new ArrayList<>(Collections.singletonList(existingYearWorkload)));
-		existingTrainerWorkload.setFirstName(firstName);
-		existingTrainerWorkload.setLastName(lastName);
-		existingTrainerWorkload.setIsActive(isActive);
+		TrainerWorkloadDelta delta = TrainerWorkloadDelta.builder().username(username).year(year).month(month)
+		        .duration(trainingDuration).build();
 
-		when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(existingTrainerWorkload);
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(delta);
+		doThrow(TrainerWorkloadConflictException.by(username)).doNothing().when(applyTrainerWorkloadDeltaPort)
+		        .applyDelta(delta);
 
 		// Act
-		TrainerMonthlyWorkload result = trainerWorkloadService.loadTrainerMonthlyWorkload(username, year, month,
-		        transactionId);
+		trainerWorkloadService.processTrainerWorkload(command);
 
 		// Assert
-		assertNotNull(result);
-		assertEquals(username, result.getUsername());
-		assertEquals(firstName, result.getFirstName());
-		assertEquals(lastName, result.getLastName());
-		assertEquals(isActive, result.getIsActive());
-		assertEquals(year, result.getYear());
-		assertEquals(month, result.getMonth());
-		assertEquals(0, result.getSummaryDuration());
+		verify(applyTrainerWorkloadDeltaPort, times(2)).applyDelta(delta);
+		verify(appendTrainerWorkloadEventPort).append(argThat(events -> events.size() == 1));
+		assertEquals(1, processedCommands(ActionType.ADD));
+		assertEquals(1, retryMeterRegistry.get("workload.update.conflicts").counter().count());
+		assertEquals(1, retryMeterRegistry.get("workload.update.retries").counter().count());
 	}
 
 	@Test
-  void loadTrainerMonthlyWorkload_ShouldReturnEmptyWorkload_WhenTrainerDoesNotExist() {
-    // Arrange
-    when(loadTrainerWorkloadPort.findByUsername(username))
-        .thenThrow(new TrainerWorkloadNotFoundException("Not found"));
+	void processTrainerWorkloadBatch_ShouldCoalesceDeltasPerTrainerMonth() {
+		// Arrange
+		TrainerWorkloadFactory factory = new TrainerWorkloadFactory();
+		ProcessTrainerWorkloadCommand add = ProcessTrainerWorkloadCommand.builder().username(username)
+		        .firstName("New First Name").lastName(lastName).isActive(isActive).trainingDate(trainingDate)
+		        .trainingDuration(20).actionType(ActionType.ADD).transactionId(transactionId).build();
+		ProcessTrainerWorkloadCommand otherMonth = ProcessTrainerWorkloadCommand.builder().username(username)
+		        .firstName(firstName).lastName(lastName).isActive(isActive).trainingDate(trainingDate.plusMonths(1))
+		        .trainingDuration(30).actionType(ActionType.ADD).transactionId(transactionId).build();
+		List<ProcessTrainerWorkloadCommand> commands = List.of(command, otherMonth, add);
+
+		when(trainerWorkloadFactory.createDeltaFrom(any(ProcessTrainerWorkloadCommand.class)))
+		        .thenAnswer(invocation -> factory.createDeltaFrom(invocation.getArgument(0)));
+		when(applyTrainerWorkloadDeltaPort.applyDeltas(anyList())).thenReturn(Map.of());
 
-    // Act
-    TrainerMonthlyWorkload result =
-        trainerWorkloadService.loadTrainerMonthlyWorkload(username, year, month, transactionId);
+		// Act
+		List<ProcessTrainerWorkloadResult> results = trainerWorkloadService.processTrainerWorkloadBatch(commands);
 
-    // Assert
-    assertNotNull(result);
-    assertEquals(username, result.getUsername());
-    assertNull(result.getFirstName());
-    assertNull(result.getLastName());
-    assertNull(result.getIsActive());
-    assertEquals(year, result.getYear());
-    assertEquals(month, result.getMonth());
-    assertEquals(0, result.getSummaryDuration());
-  }
+		// Assert
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<TrainerWorkloadDelta>> deltasCaptor = ArgumentCaptor.forClass(List.class);
+		verify(applyTrainerWorkloadDeltaPort).applyDeltas(deltasCaptor.capture());
+
+		List<TrainerWorkloadDelta> deltas = deltasCaptor.getValue();
+		assertEquals(2, deltas.size());
+		assertEquals(month, deltas.get(0).getMonth());
+		assertEquals(trainingDuration + 20, deltas.get(0).getDuration());
+		assertEquals("New First Name", deltas.get(0).getFirstName());
+		assertEquals(month + 1, deltas.get(1).getMonth());
+		assertEquals(30, deltas.get(1).getDuration());
+
+		assertEquals(3, results.size());
+		assertTrue(results.stream().allMatch(ProcessTrainerWorkloadResult::isProcessed));
+		assertEquals(3, processedCommands(ActionType.ADD));
+	}
 
 	@Test
-	void processTrainerWorkload_ShouldCreateNewYearAndMonth_WhenProcessingForNewPeriod() {
+	void processTrainerWorkloadBatch_ShouldKeepMixedDirectionDeltasInOrder_WhenMonthStartsAtZero() {
 		// Arrange
-		// Create existing workload with a different year
-		MonthWorkload existingMonthWorkload = MonthWorkload.builder().month(3).summaryDuration(100).build();
+		TrainerWorkloadFactory factory = new TrainerWorkloadFactory();
+		ProcessTrainerWorkloadCommand delete = ProcessTrainerWorkloadCommand.builder().username(username)
+		        .firstName(firstName).lastName(lastName).isActive(isActive).trainingDate(trainingDate)
+		        .trainingDuration(30).actionType(ActionType.DELETE).transactionId(transactionId).build();
+		ProcessTrainerWorkloadCommand add = ProcessTrainerWorkloadCommand.builder().username(username)
+		        .firstName(firstName).lastName(lastName).isActive(isActive).trainingDate(trainingDate)
+		        .trainingDuration(60).actionType(ActionType.ADD).transactionId(transactionId).build();
+
+		when(trainerWorkloadFactory.createDeltaFrom(any(ProcessTrainerWorkloadCommand.class)))
+		        .thenAnswer(invocation -> factory.createDeltaFrom(invocation.getArgument(0)));
+		when(applyTrainerWorkloadDeltaPort.applyDeltas(anyList())).thenReturn(Map.of());
 
-		YearWorkload existingYearWorkload = YearWorkload.builder().year(2022) // Different year
-		        .months(new ArrayList<>(Collections.singletonList(existingMonthWorkload))).build();
+		// Act
+		trainerWorkloadService.processTrainerWorkloadBatch(List.of(delete, add));
+
+		// Assert: applied one by one to a month at 0 these end at 60, which their sum of 30 would not
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<TrainerWorkloadDelta>> deltasCaptor = ArgumentCaptor.forClass(List.class);
+		verify(applyTrainerWorkloadDeltaPort).applyDeltas(deltasCaptor.capture());
+		assertEquals(List.of(-30, 60),
+		        deltasCaptor.getValue().stream().map(TrainerWorkloadDelta::getDuration).toList());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<TrainerWorkloadEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(appendTrainerWorkloadEventPort).append(eventsCaptor.capture());
+		assertEquals(List.of(ActionType.DELETE, ActionType.ADD),
+		        eventsCaptor.getValue().stream().map(TrainerWorkloadEvent::getActionType).toList());
+	}
 
-		existingTrainerWorkload.setYears(new ArrayList<>(Collections.singletonList(existingYearWorkload)));
+	@Test
+	void processTrainerWorkloadBatch_ShouldMarkAllCommandsOfFailedTrainer() {
+		// Arrange
+		ProcessTrainerWorkloadCommand otherTrainer = ProcessTrainerWorkloadCommand.builder().username("other.trainer")
+		        .firstName(firstName).lastName(lastName).isActive(isActive).trainingDate(trainingDate)
+		        .trainingDuration(trainingDuration).actionType(ActionType.ADD).transactionId(transactionId).build();
+		TrainerWorkloadFactory factory = new TrainerWorkloadFactory();
+		List<ProcessTrainerWorkloadCommand> commands = List.of(command, otherTrainer, command);
 
-		when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(existingTrainerWorkload);
+		when(trainerWorkloadFactory.createDeltaFrom(any(ProcessTrainerWorkloadCommand.class)))
+		        .thenAnswer(invocation -> factory.createDeltaFrom(invocation.getArgument(0)));
+		when(applyTrainerWorkloadDeltaPort.applyDeltas(anyList())).thenReturn(Map.of(username, "write failed"));
 
 		// Act
-		trainerWorkloadService.processTrainerWorkload(command); // command has year 2023, month 5
+		List<ProcessTrainerWorkloadResult> results = trainerWorkloadService.processTrainerWorkloadBatch(commands);
 
 		// Assert
-		ArgumentCaptor<TrainerWorkload> workloadCaptor = ArgumentCaptor.forClass(TrainerWorkload.class);
-		verify(updateTrainerWorkloadPort).save(workloadCaptor.capture());
+		assertFalse(results.get(0).isProcessed());
+		assertEquals("write failed", results.get(0).getMessage());
+		assertTrue(results.get(1).isProcessed());
+		assertFalse(results.get(2).isProcessed());
+		assertEquals(1, processedCommands(ActionType.ADD));
+	}
 
-		TrainerWorkload savedWorkload = workloadCaptor.getValue();
+	@Test
+	void processTrainerWorkloadBatch_ShouldJournalNettedDeltasOfAppliedTrainersOnly() {
+		// Arrange
+		ProcessTrainerWorkloadCommand otherTrainer = ProcessTrainerWorkloadCommand.builder().username("other.trainer")
+		        .firstName(firstName).lastName(lastName).isActive(isActive).trainingDate(trainingDate)
+		        .trainingDuration(20).actionType(ActionType.DELETE).transactionId("other-transaction").build();
+		TrainerWorkloadFactory factory = new TrainerWorkloadFactory();
+		List<ProcessTrainerWorkloadCommand> commands = List.of(command, otherTrainer, otherTrainer);
 
-		// Should now have 2 years
-		assertEquals(2, savedWorkload.getYears().size());
+		when(trainerWorkloadFactory.createDeltaFrom(any(ProcessTrainerWorkloadCommand.class)))
+		        .thenAnswer(invocation -> factory.createDeltaFrom(invocation.getArgument(0)));
+		when(applyTrainerWorkloadDeltaPort.applyDeltas(anyList())).thenReturn(Map.of(username, "write failed"));
 
-		// Find the new year (2023)
-		YearWorkload newYearWorkload = savedWorkload.getYears().stream().filter(y -> y.getYear().equals(year))
-		        .findFirst().orElse(null);
+		// Act
+		trainerWorkloadService.processTrainerWorkloadBatch(commands);
 
-		assertNotNull(newYearWorkload);
-		assertEquals(1, newYearWorkload.getMonths().size());
+		// Assert
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<TrainerWorkloadEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(appendTrainerWorkloadEventPort).append(eventsCaptor.capture());
+
+		List<TrainerWorkloadEvent> events = eventsCaptor.getValue();
+		assertEquals(1, events.size());
+		assertEquals("other.trainer", events.get(0).getUsername());
+		assertEquals(-40, events.get(0).getDuration());
+		assertEquals(ActionType.DELETE, events.get(0).getActionType());
+		assertEquals("other-transaction", events.get(0).getTransactionId());
+		assertNotNull(events.get(0).getRecordedAt());
+	}
 
-		MonthWorkload newMonthWorkload = newYearWorkload.getMonths().get(0);
-		assertEquals(month, newMonthWorkload.getMonth());
-		assertEquals(trainingDuration, newMonthWorkload.getSummaryDuration());
+	@Test
+	void processTrainerWorkloadBatch_ShouldSkipTrainersTheTransactionWasAlreadyAppliedTo() {
+		// Arrange
+		ProcessTrainerWorkloadCommand otherTrainer = ProcessTrainerWorkloadCommand.builder().username("other.trainer")
+		        .firstName(firstName).lastName(lastName).isActive(isActive).trainingDate(trainingDate)
+		        .trainingDuration(20).actionType(ActionType.ADD).transactionId(transactionId)
+		        .idempotencyKey(transactionId).build();
+		TrainerWorkloadFactory factory = new TrainerWorkloadFactory();
+		List<ProcessTrainerWorkloadCommand> commands = List.of(command, otherTrainer, command);
+
+		when(trainerWorkloadFactory.createDeltaFrom(any(ProcessTrainerWorkloadCommand.class)))
+		        .thenAnswer(invocation -> factory.createDeltaFrom(invocation.getArgument(0)));
+		when(transactionDeduplicator.begin(transactionId + "/" + username)).thenReturn(false);
+		when(applyTrainerWorkloadDeltaPort.applyDeltas(anyList())).thenReturn(Map.of());
 
-		// Original year and month should remain unchanged
-		YearWorkload oldYearWorkload = savedWorkload.getYears().stream().filter(y -> y.getYear().equals(2022))
-		        .findFirst().orElse(null);
+		// Act
+		List<ProcessTrainerWorkloadResult> results = trainerWorkloadService.processTrainerWorkloadBatch(commands);
 
-		assertNotNull(oldYearWorkload);
-		assertEquals(1, oldYearWorkload.getMonths().size());
-		assertEquals(3, oldYearWorkload.getMonths().get(0).getMonth());
-		assertEquals(100, oldYearWorkload.getMonths().get(0).getSummaryDuration());
+		// Assert
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<TrainerWorkloadDelta>> deltasCaptor = ArgumentCaptor.forClass(List.class);
+		verify(applyTrainerWorkloadDeltaPort).applyDeltas(deltasCaptor.capture());
+		assertEquals(1, deltasCaptor.getValue().size());
+		assertEquals("other.trainer", deltasCaptor.getValue().get(0).getUsername());
+
+		assertTrue(results.stream().allMatch(ProcessTrainerWorkloadResult::isProcessed));
+		verify(transactionDeduplicator, times(1)).begin(transactionId + "/" + username);
+		verify(transactionDeduplicator).complete(transactionId + "/other.trainer");
+		verify(transactionDeduplicator, never()).complete(transactionId + "/" + username);
+		assertEquals(1, processedCommands(ActionType.ADD));
 	}
 
 	@Test
-	void processTrainerWorkload_ShouldAddNewMonth_ToExistingYear() {
+	void processTrainerWorkloadBatch_ShouldRecordTransactionForAppliedTrainersOnly() {
 		// Arrange
-		// Create existing workload with the same year but different month
-		MonthWorkload existingMonthWorkload = MonthWorkload.builder().month(3) // Different month
-		        .summaryDuration(100).build();
-
-		YearWorkload existingYearWorkload = YearWorkload.builder().year(year) // Same year as command
-		        .months(new ArrayList<>(Collections.singletonList(existingMonthWorkload))).build();
+		ProcessTrainerWorkloadCommand otherTrainer = ProcessTrainerWorkloadCommand.builder().username("other.trainer")
+		        .firstName(firstName).lastName(lastName).isActive(isActive).trainingDate(trainingDate)
+		        .trainingDuration(20).actionType(ActionType.ADD).transactionId(transactionId)
+		        .idempotencyKey(transactionId).build();
+		TrainerWorkloadFactory factory = new TrainerWorkloadFactory();
 
-		existingTrainerWorkload.setYears(new ArrayList<>(Collections.singletonList(existingYearWorkload)));
-
-		when(loadTrainerWorkloadPort.findByUsername(username)).thenReturn(existingTrainerWorkload);
+		when(trainerWorkloadFactory.createDeltaFrom(any(ProcessTrainerWorkloadCommand.class)))
+		        .thenAnswer(invocation -> factory.createDeltaFrom(invocation.getArgument(0)));
+		when(applyTrainerWorkloadDeltaPort.applyDeltas(anyList())).thenReturn(Map.of(username, "write failed"));
 
 		// Act
-		trainerWorkloadService.processTrainerWorkload(command); // command has month 5
+		trainerWorkloadService.processTrainerWorkloadBatch(List.of(command, otherTrainer));
 
 		// Assert
-		ArgumentCaptor<TrainerWorkload> workloadCaptor = ArgumentCaptor.forClass(TrainerWorkload.class);
-		verify(updateTrainerWorkloadPort).save(workloadCaptor.capture());
-
-		TrainerWorkload savedWorkload = workloadCaptor.getValue();
-
-		// Should still have 1 year
-		assertEquals(1, savedWorkload.getYears().size());
+		verify(transactionDeduplicator).abandon(transactionId + "/" + username);
+		verify(transactionDeduplicator).complete(transactionId + "/other.trainer");
+	}
 
-		YearWorkload updatedYearWorkload = savedWorkload.getYears().get(0);
-		assertEquals(year, updatedYearWorkload.getYear());
+	@Test
+	void processTrainerWorkloadBatch_ShouldReportAppliedCommands_WhenJournalFails() {
+		// Arrange
+		TrainerWorkloadFactory factory = new TrainerWorkloadFactory();
 
-		// Should now have 2 months
-		assertEquals(2, updatedYearWorkload.getMonths().size());
+		when(trainerWorkloadFactory.createDeltaFrom(any(ProcessTrainerWorkloadCommand.class)))
+		        .thenAnswer(invocation -> factory.createDeltaFrom(invocation.getArgument(0)));
+		when(applyTrainerWorkloadDeltaPort.applyDeltas(anyList())).thenReturn(Map.of());
+		doThrow(new IllegalStateException("journal down")).when(appendTrainerWorkloadEventPort).append(anyList());
 
-		// Find the new month (5)
-		MonthWorkload newMonthWorkload = updatedYearWorkload.getMonths().stream()
-		        .filter(m -> m.getMonth().equals(month)).findFirst().orElse(null);
+		// Act
+		List<ProcessTrainerWorkloadResult> results = trainerWorkloadService
+		        .processTrainerWorkloadBatch(List.of(command));
 
-		assertNotNull(newMonthWorkload);
-		assertEquals(trainingDuration, newMonthWorkload.getSummaryDuration());
+		// Assert
+		assertTrue(results.get(0).isProcessed());
+		InOrder inOrder = inOrder(appendTrainerWorkloadEventPort, transactionDeduplicator);
+		inOrder.verify(appendTrainerWorkloadEventPort).append(anyList());
+		inOrder.verify(transactionDeduplicator).complete(transactionId + "/" + username);
+		assertEquals(1, meterRegistry.get("workload.journal.append.failures").counter().count());
+	}
 
-		// Original month should remain unchanged
-		MonthWorkload oldMonthWorkload = updatedYearWorkload.getMonths().stream().filter(m -> m.getMonth().equals(3))
-		        .findFirst().orElse(null);
+	@Test
+	void processTrainerWorkloadBatch_ShouldAbandonTransaction_WhenTheBatchCannotBeApplied() {
+		// Arrange
+		when(trainerWorkloadFactory.createDeltaFrom(command)).thenReturn(TrainerWorkloadDelta.builder()
+		        .username(username).year(year).month(month).duration(trainingDuration).build());
+		when(applyTrainerWorkloadDeltaPort.applyDeltas(anyList())).thenThrow(new IllegalStateException("down"));
+
+		// Act & Assert
+		assertThrows(IllegalStateException.class,
+		        () -> trainerWorkloadService.processTrainerWorkloadBatch(List.of(command)));
+		verify(transactionDeduplicator).abandon(transactionId + "/" + username);
+		verify(transactionDeduplicator, never()).complete(any());
+	}
 
-		assertNotNull(oldMonthWorkload);
-		assertEquals(100, oldMonthWorkload.getSummaryDuration());
+	private double processedCommands(ActionType actionType) {
+		return meterRegistry.get("workload.commands.processed").tag("action", actionType.name()).counter().count();
 	}
 }
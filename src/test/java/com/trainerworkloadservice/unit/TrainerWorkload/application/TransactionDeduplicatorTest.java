@@ -0,0 +1,112 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.trainerworkloadservice.TrainerWorkload.application.TransactionDeduplicator;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.TrainerWorkloadConflictException;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.ProcessedTransactionPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionDeduplicatorTest {
+	@Mock
+	private ProcessedTransactionPort processedTransactionPort;
+
+	private SimpleMeterRegistry meterRegistry;
+	private TransactionDeduplicator transactionDeduplicator;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		transactionDeduplicator = new TransactionDeduplicator(processedTransactionPort, true, 100,
+		        Duration.ofHours(1), meterRegistry);
+	}
+
+	@Test
+	void begin_ShouldAnswerRepeatFromMemory_WithoutAskingTheStoreAgain() {
+		assertTrue(transactionDeduplicator.begin("transaction-123"));
+		transactionDeduplicator.complete("transaction-123");
+		assertFalse(transactionDeduplicator.begin("transaction-123"));
+
+		verify(processedTransactionPort, times(1)).isProcessed("transaction-123");
+		verify(processedTransactionPort).markProcessed("transaction-123");
+		assertEquals(1, lookups("new", "store"));
+		assertEquals(1, lookups("duplicate", "memory"));
+	}
+
+	@Test
+	void begin_ShouldReturnFalse_WhenAnotherInstanceProcessedTheTransaction() {
+		when(processedTransactionPort.isProcessed("transaction-123")).thenReturn(true);
+
+		assertFalse(transactionDeduplicator.begin("transaction-123"));
+		assertFalse(transactionDeduplicator.begin("transaction-123"));
+
+		verify(processedTransactionPort, times(1)).isProcessed("transaction-123");
+		assertEquals(1, lookups("duplicate", "store"));
+		assertEquals(1, lookups("duplicate", "memory"));
+	}
+
+	@Test
+	void begin_ShouldReportConflict_WhileTheTransactionIsBeingApplied() {
+		assertTrue(transactionDeduplicator.begin("transaction-123"));
+
+		assertThrows(TrainerWorkloadConflictException.class, () -> transactionDeduplicator.begin("transaction-123"));
+		verify(processedTransactionPort, never()).markProcessed(any());
+	}
+
+	@Test
+	void abandon_ShouldLetTheTransactionBeAppliedAgain() {
+		transactionDeduplicator.begin("transaction-123");
+		transactionDeduplicator.abandon("transaction-123");
+
+		assertTrue(transactionDeduplicator.begin("transaction-123"));
+		verify(processedTransactionPort, times(2)).isProcessed("transaction-123");
+		verify(processedTransactionPort, never()).markProcessed(any());
+	}
+
+	@Test
+	void begin_ShouldForgetTransaction_WhenTheStoreFails() {
+		when(processedTransactionPort.isProcessed("transaction-123")).thenThrow(new IllegalStateException("down"))
+		        .thenReturn(false);
+
+		assertThrows(IllegalStateException.class, () -> transactionDeduplicator.begin("transaction-123"));
+		assertTrue(transactionDeduplicator.begin("transaction-123"));
+	}
+
+	@Test
+	void complete_ShouldStillSkipRepeatsHere_WhenTheStoreCannotRecordTheTransaction() {
+		doThrow(new IllegalStateException("down")).when(processedTransactionPort).markProcessed("transaction-123");
+
+		transactionDeduplicator.begin("transaction-123");
+		transactionDeduplicator.complete("transaction-123");
+
+		assertFalse(transactionDeduplicator.begin("transaction-123"));
+	}
+
+	@Test
+	void begin_ShouldLetEverythingThrough_WhenDisabledOrWithoutTransactionId() {
+		TransactionDeduplicator disabled = new TransactionDeduplicator(processedTransactionPort, false, 100,
+		        Duration.ofHours(1), meterRegistry);
+
+		assertTrue(disabled.begin("transaction-123"));
+		disabled.complete("transaction-123");
+		assertTrue(disabled.begin("transaction-123"));
+		assertTrue(transactionDeduplicator.begin(null));
+		transactionDeduplicator.complete(null);
+		assertTrue(transactionDeduplicator.begin(""));
+		verifyNoInteractions(processedTransactionPort);
+	}
+
+	private double lookups(String result, String source) {
+		return meterRegistry.get("workload.idempotency.lookups").tag("result", result).tag("source", source)
+		        .counter().count();
+	}
+}
@@ -0,0 +1,67 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.trainerworkloadservice.TrainerWorkload.application.WorkloadAnalyticsService;
+import com.trainerworkloadservice.TrainerWorkload.application.exception.InvalidWorkloadQueryException;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.LoadWorkloadAnalyticsPort;
+import com.trainerworkloadservice.TrainerWorkload.application.port.output.RebuildMonthlyTotalsPort;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadPercentile;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadAnalyticsServiceTest {
+	@Mock
+	private LoadWorkloadAnalyticsPort loadWorkloadAnalyticsPort;
+
+	@Mock
+	private RebuildMonthlyTotalsPort rebuildMonthlyTotalsPort;
+
+	@InjectMocks
+	private WorkloadAnalyticsService workloadAnalyticsService;
+
+	@Test
+	void loadWorkloadPercentiles_ShouldLookUpNearestRankOfEachPercentile() {
+		when(loadWorkloadAnalyticsPort.countTrainers(2024, 3)).thenReturn(200L);
+		when(loadWorkloadAnalyticsPort.findDurationsAtRanks(2024, 3, 200L, List.of(100L, 199L, 1L)))
+		        .thenReturn(List.of(60, 480, 5));
+
+		List<WorkloadPercentile> percentiles = workloadAnalyticsService.loadWorkloadPercentiles(2024, 3,
+		        List.of(50.0, 99.5, 0.1), "transaction-id");
+
+		assertEquals(List.of(new WorkloadPercentile(50.0, 60), new WorkloadPercentile(99.5, 480),
+		        new WorkloadPercentile(0.1, 5)), percentiles);
+	}
+
+	@Test
+	void loadWorkloadPercentiles_ShouldReturnZeros_WhenNoTrainerRecordedTheMonth() {
+		when(loadWorkloadAnalyticsPort.countTrainers(2024, 3)).thenReturn(0L);
+
+		List<WorkloadPercentile> percentiles = workloadAnalyticsService.loadWorkloadPercentiles(2024, 3,
+		        List.of(50.0, 90.0), "transaction-id");
+
+		assertEquals(List.of(new WorkloadPercentile(50.0, 0), new WorkloadPercentile(90.0, 0)), percentiles);
+		verify(loadWorkloadAnalyticsPort, never()).findDurationsAtRanks(anyInt(), anyInt(), anyLong(), anyList());
+	}
+
+	@Test
+	void queries_ShouldRejectInvalidArguments() {
+		assertThrows(InvalidWorkloadQueryException.class,
+		        () -> workloadAnalyticsService.loadWorkloadTotal(2024, 13, "transaction-id"));
+		assertThrows(InvalidWorkloadQueryException.class,
+		        () -> workloadAnalyticsService.loadTopTrainers(2024, null, 0, "transaction-id"));
+		assertThrows(InvalidWorkloadQueryException.class,
+		        () -> workloadAnalyticsService.loadTopTrainers(2024, 3, 101, "transaction-id"));
+		assertThrows(InvalidWorkloadQueryException.class,
+		        () -> workloadAnalyticsService.loadWorkloadPercentiles(2024, 3, List.of(0.0), "transaction-id"));
+		assertThrows(InvalidWorkloadQueryException.class,
+		        () -> workloadAnalyticsService.loadWorkloadPercentiles(2024, 3, List.of(), "transaction-id"));
+		verifyNoInteractions(loadWorkloadAnalyticsPort);
+	}
+}
@@ -6,6 +6,7 @@ import com.trainerworkloadservice.TrainerWorkload.application.factory.TrainerWor
 import com.trainerworkloadservice.TrainerWorkload.application.port.input.ProcessTrainerWorkloadCommand;
 import com.trainerworkloadservice.TrainerWorkload.domain.ActionType;
 import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkload;
+import com.trainerworkloadservice.TrainerWorkload.domain.TrainerWorkloadDelta;
 import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -95,4 +96,32 @@ class TrainerWorkloadFactoryTest {
 		assertEquals("", result.getLastName());
 		assertEquals(isActive, result.getIsActive());
 	}
+
+	@Test
+	void createDeltaFrom_ShouldCreatePositiveDelta_WhenActionTypeIsAdd() {
+		ProcessTrainerWorkloadCommand command = ProcessTrainerWorkloadCommand.builder().username(username)
+		        .firstName(firstName).lastName(lastName).isActive(isActive).trainingDate(trainingDate)
+		        .trainingDuration(trainingDuration).actionType(ActionType.ADD).transactionId(transactionId).build();
+
+		TrainerWorkloadDelta result = factory.createDeltaFrom(command);
+
+		assertEquals(username, result.getUsername());
+		assertEquals(firstName, result.getFirstName());
+		assertEquals(lastName, result.getLastName());
+		assertEquals(isActive, result.getIsActive());
+		assertEquals(2023, result.getYear());
+		assertEquals(5, result.getMonth());
+		assertEquals(trainingDuration, result.getDuration());
+	}
+
+	@Test
+	void createDeltaFrom_ShouldCreateNegativeDelta_WhenActionTypeIsDelete() {
+		ProcessTrainerWorkloadCommand command = ProcessTrainerWorkloadCommand.builder().username(username)
+		        .firstName(firstName).lastName(lastName).isActive(isActive).trainingDate(trainingDate)
+		        .trainingDuration(trainingDuration).actionType(ActionType.DELETE).transactionId(transactionId).build();
+
+		TrainerWorkloadDelta result = factory.createDeltaFrom(command);
+
+		assertEquals(-trainingDuration, result.getDuration());
+	}
 }
@@ -0,0 +1,95 @@
+package com.trainerworkloadservice.unit.TrainerWorkload.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadMonth;
+import com.trainerworkloadservice.TrainerWorkload.domain.WorkloadYears;
+import com.trainerworkloadservice.TrainerWorkload.domain.YearWorkload;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WorkloadYearsTest {
+	@Test
+	void getOrCreate_ShouldKeepYearsSortedAndReuseExisting() {
+		WorkloadYears years = new WorkloadYears();
+		for (int year : new int[]{2023, 2019, 2025, 2021, 2020, 2024}) {
+			years.getOrCreate(year);
+		}
+		YearWorkload existing = years.getOrCreate(2021);
+
+		List<Integer> order = new ArrayList<>();
+		years.forEach(yearWorkload -> order.add(yearWorkload.getYear()));
+
+		assertEquals(List.of(2019, 2020, 2021, 2023, 2024, 2025), order);
+		assertEquals(6, years.size());
+		assertSame(existing, years.find(2021));
+	}
+
+	@Test
+	void getDuration_ShouldReturnZero_WhenYearOrMonthMissing() {
+		WorkloadYears years = new WorkloadYears();
+		years.getOrCreate(2023).setDuration(5, 60);
+
+		assertEquals(60, years.getDuration(2023, 5));
+		assertEquals(0, years.getDuration(2023, 6));
+		assertEquals(0, years.getDuration(2022, 5));
+		assertNull(years.find(2022));
+	}
+
+	@Test
+	void addDuration_ShouldClampAtZeroAndRecordMonth() {
+		YearWorkload yearWorkload = new YearWorkload(2023);
+
+		yearWorkload.addDuration(3, -20);
+		yearWorkload.addDuration(4, 30);
+		yearWorkload.addDuration(4, -10);
+
+		assertTrue(yearWorkload.hasMonth(3));
+		assertEquals(0, yearWorkload.getDuration(3));
+		assertEquals(20, yearWorkload.getDuration(4));
+		assertFalse(yearWorkload.hasMonth(5));
+	}
+
+	@Test
+	void setDuration_ShouldRejectInvalidMonth() {
+		YearWorkload yearWorkload = new YearWorkload(2023);
+
+		assertThrows(IllegalArgumentException.class, () -> yearWorkload.setDuration(0, 10));
+		assertThrows(IllegalArgumentException.class, () -> yearWorkload.getDuration(13));
+	}
+
+	@Test
+	void equals_ShouldCompareRecordedContent() {
+		WorkloadYears first = new WorkloadYears();
+		first.getOrCreate(2023).setDuration(5, 60);
+		first.getOrCreate(2022);
+		WorkloadYears second = new WorkloadYears();
+		second.getOrCreate(2022);
+		second.getOrCreate(2023).setDuration(5, 60);
+
+		assertEquals(first, second);
+		assertEquals(first.hashCode(), second.hashCode());
+
+		second.getOrCreate(2023).setDuration(6, 0);
+		assertNotEquals(first, second);
+	}
+
+	@Test
+	void monthsBetween_ShouldReturnRecordedMonthsOfRangeInOrder() {
+		WorkloadYears years = new WorkloadYears();
+		years.getOrCreate(2021).setDuration(12, 10);
+		years.getOrCreate(2022).setDuration(11, 20);
+		years.getOrCreate(2022).setDuration(12, 0);
+		years.getOrCreate(2023).setDuration(2, 30);
+		years.getOrCreate(2023).setDuration(4, 40);
+		years.getOrCreate(2024).setDuration(1, 50);
+
+		List<WorkloadMonth> months = years.monthsBetween(YearMonth.of(2022, 12), YearMonth.of(2023, 3));
+
+		assertEquals(List.of(new WorkloadMonth(2022, 12, 0), new WorkloadMonth(2023, 2, 30)), months);
+		assertEquals(6, years.monthsBetween(YearMonth.of(2000, 1), YearMonth.of(2030, 12)).size());
+		assertTrue(years.monthsBetween(YearMonth.of(2025, 1), YearMonth.of(2025, 12)).isEmpty());
+	}
+}
@@ -4,15 +4,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
 import com.trainerworkloadservice.aspect.LoggingAspect;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
 
 @ExtendWith(MockitoExtension.class)
 public class LoggingAspectTest {
@@ -22,20 +28,33 @@ public class LoggingAspectTest {
 	@Mock
 	private Signature signature;
 
-	@InjectMocks
+	private SimpleMeterRegistry meterRegistry;
 	private LoggingAspect loggingAspect;
+	private Logger aspectLogger;
+	private Level originalLevel;
 
 	@BeforeEach
   public void setUp() {
     when(joinPoint.getSignature()).thenReturn(signature);
-    when(signature.getDeclaringTypeName()).thenReturn("TestController");
+    when(signature.getDeclaringTypeName()).thenReturn("com.example.TestController");
     when(signature.getName()).thenReturn("testMethod");
-    when(joinPoint.getArgs()).thenReturn(new Object[] {"arg1", "arg2"});
+
+    meterRegistry = new SimpleMeterRegistry();
+    loggingAspect = new LoggingAspect(meterRegistry, 1.0);
+    aspectLogger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    originalLevel = aspectLogger.getLevel();
+    aspectLogger.setLevel(Level.DEBUG);
   }
 
+	@AfterEach
+	public void tearDown() {
+		aspectLogger.setLevel(originalLevel);
+	}
+
 	@Test
 	public void testLogAroundSuccess() throws Throwable {
 		String expectedResult = "Success";
+		when(joinPoint.getArgs()).thenReturn(new Object[]{"arg1", "arg2"});
 		when(joinPoint.proceed()).thenReturn(expectedResult);
 
 		Object result = loggingAspect.logAround(joinPoint);
@@ -49,6 +68,7 @@ public class LoggingAspectTest {
 	@Test
 	public void testLogAroundException() throws Throwable {
 		RuntimeException expectedException = new RuntimeException("Test exception");
+		when(joinPoint.getArgs()).thenReturn(new Object[]{"arg1", "arg2"});
 		when(joinPoint.proceed()).thenThrow(expectedException);
 
 		Exception exception = assertThrows(RuntimeException.class, () -> loggingAspect.logAround(joinPoint));
@@ -58,12 +78,77 @@ public class LoggingAspectTest {
 	}
 
 	@Test
-  public void testLogAroundCompletesFullExecution() throws Throwable {
-    when(joinPoint.proceed()).thenReturn("result");
+	public void testLogAroundCompletesFullExecution() throws Throwable {
+		when(joinPoint.getArgs()).thenReturn(new Object[]{"arg1", "arg2"});
+		when(joinPoint.proceed()).thenReturn("result");
+
+		Object result = loggingAspect.logAround(joinPoint);
 
-    Object result = loggingAspect.logAround(joinPoint);
+		assertEquals("result", result);
+		verify(joinPoint).proceed();
+	}
 
-    assertEquals("result", result);
-    verify(joinPoint).proceed();
-  }
+	@Test
+	public void testLogAroundRecordsLatencyPerEndpointAndOutcome() throws Throwable {
+		when(joinPoint.getArgs()).thenReturn(new Object[0]);
+		when(joinPoint.proceed()).thenReturn("result").thenReturn("result")
+		        .thenThrow(new IllegalStateException("boom"));
+
+		loggingAspect.logAround(joinPoint);
+		loggingAspect.logAround(joinPoint);
+		assertThrows(IllegalStateException.class, () -> loggingAspect.logAround(joinPoint));
+
+		assertEquals(2, latencyTimer("success").count());
+		assertEquals(1, latencyTimer("error").count());
+	}
+
+	@Test
+	public void testLogAroundRendersPayloadWhenSampled() throws Throwable {
+		RenderCountingArgument argument = new RenderCountingArgument();
+		when(joinPoint.getArgs()).thenReturn(new Object[]{argument});
+		when(joinPoint.proceed()).thenReturn("result");
+
+		loggingAspect.logAround(joinPoint);
+
+		assertEquals(1, argument.renders.get());
+	}
+
+	@Test
+	public void testLogAroundSkipsPayloadWhenNotSampled() throws Throwable {
+		LoggingAspect unsampledAspect = new LoggingAspect(meterRegistry, 0.0);
+		RenderCountingArgument result = new RenderCountingArgument();
+		when(joinPoint.proceed()).thenReturn(result);
+
+		unsampledAspect.logAround(joinPoint);
+
+		verify(joinPoint, never()).getArgs();
+		assertEquals(0, result.renders.get());
+	}
+
+	@Test
+	public void testLogAroundSkipsPayloadWhenDebugDisabled() throws Throwable {
+		aspectLogger.setLevel(Level.INFO);
+		RenderCountingArgument result = new RenderCountingArgument();
+		when(joinPoint.proceed()).thenReturn(result);
+
+		loggingAspect.logAround(joinPoint);
+
+		verify(joinPoint, never()).getArgs();
+		assertEquals(0, result.renders.get());
+	}
+
+	private Timer latencyTimer(String outcome) {
+		return meterRegistry.get(LoggingAspect.ENDPOINT_LATENCY_METRIC).tag("class", "TestController")
+		        .tag("method", "testMethod").tag("outcome", outcome).timer();
+	}
+
+	private static class RenderCountingArgument {
+		private final AtomicInteger renders = new AtomicInteger();
+
+		@Override
+		public String toString() {
+			renders.incrementAndGet();
+			return "argument";
+		}
+	}
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.context.request.WebRequest;
@@ -97,7 +98,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleForbiddenException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(403, response.getStatusCodeValue(), "Status code should be 403 FORBIDDEN");
+		assertEquals(403, response.getStatusCode().value(), "Status code should be 403 FORBIDDEN");
 		assertNotNull(response.getBody(), "Response body should not be null");
 		assertEquals(errorMessage, response.getBody().getMessage(), "Error message should match the exception message");
 	}
@@ -110,7 +111,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleForbiddenException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(403, response.getStatusCodeValue(), "Status code should be 403 FORBIDDEN");
+		assertEquals(403, response.getStatusCode().value(), "Status code should be 403 FORBIDDEN");
 		assertNotNull(response.getBody(), "Response body should not be null");
 		assertEquals("", response.getBody().getMessage(), "Error message should be empty");
 	}
@@ -123,7 +124,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleForbiddenException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(403, response.getStatusCodeValue(), "Status code should be 403 FORBIDDEN");
+		assertEquals(403, response.getStatusCode().value(), "Status code should be 403 FORBIDDEN");
 		assertNotNull(response.getBody(), "Response body should not be null");
 		assertNull(response.getBody().getMessage(), "Error message should be null");
 	}
@@ -137,7 +138,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleBadRequestException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(400, response.getStatusCodeValue(), "Status code should be 400 BAD_REQUEST");
+		assertEquals(400, response.getStatusCode().value(), "Status code should be 400 BAD_REQUEST");
 		assertNotNull(response.getBody(), "Response body should not be null");
 		assertEquals(errorMessage, response.getBody().getMessage(), "Error message should match the exception message");
 	}
@@ -150,7 +151,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleBadRequestException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(400, response.getStatusCodeValue(), "Status code should be 400 BAD_REQUEST");
+		assertEquals(400, response.getStatusCode().value(), "Status code should be 400 BAD_REQUEST");
 		assertNotNull(response.getBody(), "Response body should not be null");
 		assertEquals("", response.getBody().getMessage(), "Error message should be empty");
 	}
@@ -163,7 +164,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleBadRequestException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(400, response.getStatusCodeValue(), "Status code should be 400 BAD_REQUEST");
+		assertEquals(400, response.getStatusCode().value(), "Status code should be 400 BAD_REQUEST");
 		assertNotNull(response.getBody(), "Response body should not be null");
 		assertNull(response.getBody().getMessage(), "Error message should be null");
 	}
@@ -177,7 +178,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleConflictException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(409, response.getStatusCodeValue(), "Status code should be 409 CONFLICT");
+		assertEquals(409, response.getStatusCode().value(), "Status code should be 409 CONFLICT");
 		assertNotNull(response.getBody(), "Response body should not be null");
 		assertEquals(errorMessage, response.getBody().getMessage(), "Error message should match the exception message");
 	}
@@ -190,7 +191,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleConflictException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(409, response.getStatusCodeValue(), "Status code should be 409 CONFLICT");
+		assertEquals(409, response.getStatusCode().value(), "Status code should be 409 CONFLICT");
 		assertNotNull(response.getBody(), "Response body should not be null");
 		assertEquals("", response.getBody().getMessage(), "Error message should be empty");
 	}
@@ -203,11 +204,25 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleConflictException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(409, response.getStatusCodeValue(), "Status code should be 409 CONFLICT");
+		assertEquals(409, response.getStatusCode().value(), "Status code should be 409 CONFLICT");
 		assertNotNull(response.getBody(), "Response body should not be null");
 		assertNull(response.getBody().getMessage(), "Error message should be null");
 	}
 
+	@Test
+	void handleServiceUnavailableException_ShouldReturnServiceUnavailableResponse() throws Exception {
+		String errorMessage = "Workload processing lane is saturated";
+		ServiceUnavailableException exception = new ServiceUnavailableException(errorMessage);
+		WebRequest mockRequest = mock(WebRequest.class);
+
+		ResponseEntity<ErrorsDetails> response = invokeHandleServiceUnavailableException(exception, mockRequest);
+
+		assertNotNull(response, "Response should not be null");
+		assertEquals(503, response.getStatusCode().value(), "Status code should be 503 SERVICE_UNAVAILABLE");
+		assertNotNull(response.getBody(), "Response body should not be null");
+		assertEquals(errorMessage, response.getBody().getMessage(), "Error message should match the exception message");
+	}
+
 	@Test
 	void handleHttpMessageNotReadable_ShouldReturnBadRequestResponse() throws Exception {
 		HttpInputMessage mockInputMessage = mock(HttpInputMessage.class);
@@ -234,7 +249,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleGenericException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(500, response.getStatusCodeValue(), "Status should be 500 INTERNAL_SERVER_ERROR");
+		assertEquals(500, response.getStatusCode().value(), "Status should be 500 INTERNAL_SERVER_ERROR");
 		assertEquals("Null pointer exception occurred", Objects.requireNonNull(response.getBody()).getMessage(),
 		        "Error message should match");
 	}
@@ -247,7 +262,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleGenericException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(500, response.getStatusCodeValue(), "Status should be 500 INTERNAL_SERVER_ERROR");
+		assertEquals(500, response.getStatusCode().value(), "Status should be 500 INTERNAL_SERVER_ERROR");
 		assertEquals("Custom runtime exception", Objects.requireNonNull(response.getBody()).getMessage(),
 		        "Error message should match");
 	}
@@ -260,7 +275,7 @@ class RestResponseEntityExceptionHandlerTest {
 		ResponseEntity<ErrorsDetails> response = invokeHandleGenericException(exception, mockRequest);
 
 		assertNotNull(response, "Response should not be null");
-		assertEquals(500, response.getStatusCodeValue(), "Status should be 500 INTERNAL_SERVER_ERROR");
+		assertEquals(500, response.getStatusCode().value(), "Status should be 500 INTERNAL_SERVER_ERROR");
 		assertEquals("Illegal argument exception", Objects.requireNonNull(response.getBody()).getMessage(),
 		        "Error message should match");
 	}
@@ -310,11 +325,20 @@ class RestResponseEntityExceptionHandlerTest {
 		return (ResponseEntity<ErrorsDetails>) method.invoke(exceptionHandler, exception, request);
 	}
 
+	@SuppressWarnings("unchecked")
+	private ResponseEntity<ErrorsDetails> invokeHandleServiceUnavailableException(
+	        ServiceUnavailableException exception, WebRequest request) throws Exception {
+		Method method = RestResponseEntityExceptionHandler.class.getDeclaredMethod("handleServiceUnavailableException",
+		        Throwable.class, WebRequest.class);
+		method.setAccessible(true);
+		return (ResponseEntity<ErrorsDetails>) method.invoke(exceptionHandler, exception, request);
+	}
+
 	@SuppressWarnings("unchecked")
 	private ResponseEntity<Object> invokeHandleHttpMessageNotReadable(HttpMessageNotReadableException exception,
 	        WebRequest request) throws Exception {
 		Method method = RestResponseEntityExceptionHandler.class.getDeclaredMethod("handleHttpMessageNotReadable",
-		        HttpMessageNotReadableException.class, HttpHeaders.class, HttpStatus.class, WebRequest.class);
+		        HttpMessageNotReadableException.class, HttpHeaders.class, HttpStatusCode.class, WebRequest.class);
 		method.setAccessible(true);
 		return (ResponseEntity<Object>) method.invoke(exceptionHandler, exception, null, HttpStatus.BAD_REQUEST,
 		        request);
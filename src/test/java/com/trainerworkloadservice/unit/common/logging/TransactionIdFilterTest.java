@@ -0,0 +1,45 @@
+package com.trainerworkloadservice.unit.common.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trainerworkloadservice.common.logging.TransactionIdFilter;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TransactionIdFilterTest {
+	private final TransactionIdFilter transactionIdFilter = new TransactionIdFilter();
+
+	@Test
+	void doFilter_ShouldExposeHeaderInMdcForTheRequestOnly() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		request.addHeader(TransactionIdFilter.TRANSACTION_ID_HEADER, "transaction-123");
+		AtomicReference<String> seenByChain = new AtomicReference<>();
+		FilterChain chain = (req, res) -> seenByChain.set(MDC.get(TransactionIdFilter.TRANSACTION_ID_MDC_KEY));
+
+		transactionIdFilter.doFilter(request, response, chain);
+
+		assertEquals("transaction-123", seenByChain.get());
+		assertEquals("transaction-123", response.getHeader(TransactionIdFilter.TRANSACTION_ID_HEADER));
+		assertNull(MDC.get(TransactionIdFilter.TRANSACTION_ID_MDC_KEY));
+	}
+
+	@Test
+	void doFilter_ShouldGenerateTransactionId_WhenHeaderIsMissing() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<String> seenByChain = new AtomicReference<>();
+		FilterChain chain = (req, res) -> seenByChain.set(MDC.get(TransactionIdFilter.TRANSACTION_ID_MDC_KEY));
+
+		transactionIdFilter.doFilter(request, response, chain);
+
+		assertNotNull(seenByChain.get());
+		assertFalse(seenByChain.get().isEmpty());
+		assertEquals(seenByChain.get(), response.getHeader(TransactionIdFilter.TRANSACTION_ID_HEADER));
+		assertNull(MDC.get(TransactionIdFilter.TRANSACTION_ID_MDC_KEY));
+	}
+}
@@ -0,0 +1,49 @@
+package com.trainerworkloadservice.unit.common.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.trainerworkloadservice.common.logging.TransactionIdFilter;
+import com.trainerworkloadservice.common.logging.TransactionIdWebFilter;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+class TransactionIdWebFilterTest {
+	private final TransactionIdWebFilter transactionIdWebFilter = new TransactionIdWebFilter();
+
+	@Test
+	void filter_ShouldExposeHeaderInReactorContext() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/workload")
+		        .header(TransactionIdFilter.TRANSACTION_ID_HEADER, "transaction-123"));
+		AtomicReference<String> seenByChain = new AtomicReference<>();
+
+		transactionIdWebFilter.filter(exchange, chainRecordingInto(seenByChain)).block();
+
+		assertEquals("transaction-123", seenByChain.get());
+		assertEquals("transaction-123",
+		        exchange.getResponse().getHeaders().getFirst(TransactionIdFilter.TRANSACTION_ID_HEADER));
+	}
+
+	@Test
+	void filter_ShouldGenerateTransactionId_WhenHeaderIsMissing() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/workload"));
+		AtomicReference<String> seenByChain = new AtomicReference<>();
+
+		transactionIdWebFilter.filter(exchange, chainRecordingInto(seenByChain)).block();
+
+		assertNotNull(seenByChain.get());
+		assertFalse(seenByChain.get().isEmpty());
+		assertEquals(seenByChain.get(),
+		        exchange.getResponse().getHeaders().getFirst(TransactionIdFilter.TRANSACTION_ID_HEADER));
+	}
+
+	private WebFilterChain chainRecordingInto(AtomicReference<String> seenByChain) {
+		return exchange -> Mono.deferContextual(context -> {
+			seenByChain.set(context.get(TransactionIdFilter.TRANSACTION_ID_MDC_KEY));
+			return Mono.empty();
+		});
+	}
+}
@@ -0,0 +1,70 @@
+package com.trainerworkloadservice.unit.configuration.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.trainerworkloadservice.configuration.security.JwtReactiveAuthenticationManager;
+import com.trainerworkloadservice.configuration.security.JwtTokenUtil;
+import io.jsonwebtoken.Jwts;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+class JwtReactiveAuthenticationManagerTest {
+	private JwtTokenUtil jwtTokenUtil;
+	private JwtReactiveAuthenticationManager jwtReactiveAuthenticationManager;
+
+	@BeforeEach
+	void setUp() {
+		jwtTokenUtil = mock(JwtTokenUtil.class);
+		jwtReactiveAuthenticationManager = new JwtReactiveAuthenticationManager(jwtTokenUtil);
+	}
+
+	@Test
+	void convert_ShouldExtractBearerToken() {
+		MockServerWebExchange exchange = MockServerWebExchange
+		        .from(MockServerHttpRequest.get("/api/v1/workload").header("Authorization", "Bearer validToken"));
+
+		Authentication authentication = jwtReactiveAuthenticationManager.convert(exchange).block();
+
+		assertNotNull(authentication);
+		assertEquals("validToken", authentication.getCredentials());
+		assertFalse(authentication.isAuthenticated());
+	}
+
+	@Test
+	void convert_ShouldSkipRequestsWithoutBearerToken() {
+		MockServerWebExchange exchange = MockServerWebExchange
+		        .from(MockServerHttpRequest.get("/api/v1/workload").header("Authorization", "Basic abc"));
+
+		assertNull(jwtReactiveAuthenticationManager.convert(exchange).block());
+		verifyNoInteractions(jwtTokenUtil);
+	}
+
+	@Test
+	void authenticate_ShouldGrantServiceRole_WhenTokenIsValid() {
+		when(jwtTokenUtil.validateAndGetClaims("validToken"))
+		        .thenReturn(Optional.of(Jwts.claims().setSubject("testService")));
+
+		Authentication authentication = jwtReactiveAuthenticationManager
+		        .authenticate(new UsernamePasswordAuthenticationToken("validToken", "validToken")).block();
+
+		assertNotNull(authentication);
+		assertTrue(authentication.isAuthenticated());
+		assertEquals("testService", authentication.getPrincipal());
+		assertEquals("ROLE_SERVICE", authentication.getAuthorities().iterator().next().getAuthority());
+	}
+
+	@Test
+	void authenticate_ShouldFail_WhenTokenIsInvalid() {
+		when(jwtTokenUtil.validateAndGetClaims("invalidToken")).thenReturn(Optional.empty());
+
+		assertThrows(BadCredentialsException.class, () -> jwtReactiveAuthenticationManager
+		        .authenticate(new UsernamePasswordAuthenticationToken("invalidToken", "invalidToken")).block());
+	}
+}
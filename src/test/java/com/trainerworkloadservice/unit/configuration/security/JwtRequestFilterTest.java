@@ -5,10 +5,12 @@ import static org.mockito.Mockito.*;
 
 import com.trainerworkloadservice.configuration.security.JwtRequestFilter;
 import com.trainerworkloadservice.configuration.security.JwtTokenUtil;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.lang.reflect.Method;
-import javax.servlet.FilterChain;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,8 +43,8 @@ class JwtRequestFilterTest {
 		request.addHeader("Authorization", "Bearer validToken");
 		request.addHeader("X-Transaction-ID", "testTransaction");
 
-		when(jwtTokenUtil.validateToken("validToken")).thenReturn(true);
-		when(jwtTokenUtil.getServiceNameFromToken("validToken")).thenReturn("testService");
+		when(jwtTokenUtil.validateAndGetClaims("validToken"))
+		        .thenReturn(Optional.of(Jwts.claims().setSubject("testService")));
 
 		Method doFilterInternalMethod = JwtRequestFilter.class.getDeclaredMethod("doFilterInternal",
 		        HttpServletRequest.class, HttpServletResponse.class, FilterChain.class);
@@ -50,8 +52,8 @@ class JwtRequestFilterTest {
 
 		doFilterInternalMethod.invoke(jwtRequestFilter, request, response, filterChain);
 
-		verify(jwtTokenUtil).validateToken("validToken");
-		verify(jwtTokenUtil).getServiceNameFromToken("validToken");
+		verify(jwtTokenUtil).validateAndGetClaims("validToken");
+		verifyNoMoreInteractions(jwtTokenUtil);
 		verify(filterChain).doFilter(request, response);
 
 		assertNotNull(SecurityContextHolder.getContext().getAuthentication());
@@ -67,7 +69,7 @@ class JwtRequestFilterTest {
 		request.addHeader("Authorization", "Bearer invalidToken");
 		request.addHeader("X-Transaction-ID", "testTransaction");
 
-		when(jwtTokenUtil.validateToken("invalidToken")).thenReturn(false);
+		when(jwtTokenUtil.validateAndGetClaims("invalidToken")).thenReturn(Optional.empty());
 
 		Method doFilterInternalMethod = JwtRequestFilter.class.getDeclaredMethod("doFilterInternal",
 		        HttpServletRequest.class, HttpServletResponse.class, FilterChain.class);
@@ -75,8 +77,8 @@ class JwtRequestFilterTest {
 
 		doFilterInternalMethod.invoke(jwtRequestFilter, request, response, filterChain);
 
-		verify(jwtTokenUtil).validateToken("invalidToken");
-		verify(jwtTokenUtil, never()).getServiceNameFromToken(anyString());
+		verify(jwtTokenUtil).validateAndGetClaims("invalidToken");
+		verifyNoMoreInteractions(jwtTokenUtil);
 		verify(filterChain).doFilter(request, response);
 
 		assertNull(SecurityContextHolder.getContext().getAuthentication());
@@ -94,8 +96,7 @@ class JwtRequestFilterTest {
 
 		doFilterInternalMethod.invoke(jwtRequestFilter, request, response, filterChain);
 
-		verify(jwtTokenUtil, never()).validateToken(anyString());
-		verify(jwtTokenUtil, never()).getServiceNameFromToken(anyString());
+		verifyNoInteractions(jwtTokenUtil);
 		verify(filterChain).doFilter(request, response);
 
 		assertNull(SecurityContextHolder.getContext().getAuthentication());
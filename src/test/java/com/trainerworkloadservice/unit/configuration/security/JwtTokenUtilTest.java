@@ -3,22 +3,26 @@ package com.trainerworkloadservice.unit.configuration.security;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.trainerworkloadservice.configuration.security.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Date;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
-@ExtendWith(MockitoExtension.class)
 class JwtTokenUtilTest {
-	@InjectMocks
+	private static final String SECRET = "thisIsAVeryLongSecretKeyForTestingPurposesOnly12345678901234567890";
+
 	private JwtTokenUtil jwtTokenUtil;
 
 	private String serviceName;
@@ -26,33 +30,32 @@ class JwtTokenUtilTest {
 
 	@BeforeEach
 	void setUp() {
-		String secret = "thisIsAVeryLongSecretKeyForTestingPurposesOnly12345678901234567890";
 		serviceName = "test-service";
-		secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+		secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
 
-		ReflectionTestUtils.setField(jwtTokenUtil, "secret", secret);
+		jwtTokenUtil = new JwtTokenUtil(SECRET, 100);
 	}
 
 	@Test
-	void validateToken_ShouldReturnTrue_WhenTokenIsValid() {
+	void validateAndGetClaims_ShouldReturnServiceName_WhenTokenIsValid() {
 		String token = createValidToken(serviceName, new Date(System.currentTimeMillis() + 60000));
 
-		boolean result = jwtTokenUtil.validateToken(token);
+		Optional<Claims> result = jwtTokenUtil.validateAndGetClaims(token);
 
-		assertTrue(result);
+		assertEquals(Optional.of(serviceName), result.map(Claims::getSubject));
 	}
 
 	@Test
-	void validateToken_ShouldReturnFalse_WhenTokenIsExpired() {
+	void validateAndGetClaims_ShouldReturnEmpty_WhenTokenIsExpired() {
 		String token = createValidToken(serviceName, new Date(System.currentTimeMillis() - 60000));
 
-		boolean result = jwtTokenUtil.validateToken(token);
+		Optional<Claims> result = jwtTokenUtil.validateAndGetClaims(token);
 
-		assertFalse(result);
+		assertTrue(result.isEmpty());
 	}
 
 	@Test
-	void validateToken_ShouldReturnFalse_WhenTokenHasInvalidSignature() {
+	void validateAndGetClaims_ShouldReturnEmpty_WhenTokenHasInvalidSignature() {
 		String differentSecret = "differentSecretKeyForTestingInvalidSignature12345678901234567890";
 		SecretKey differentKey = Keys.hmacShaKeyFor(differentSecret.getBytes(StandardCharsets.UTF_8));
 
@@ -60,95 +63,95 @@ class JwtTokenUtilTest {
 		        .setExpiration(new Date(System.currentTimeMillis() + 60000))
 		        .signWith(differentKey, SignatureAlgorithm.HS512).compact();
 
-		boolean result = jwtTokenUtil.validateToken(token);
+		Optional<Claims> result = jwtTokenUtil.validateAndGetClaims(token);
 
-		assertFalse(result);
+		assertTrue(result.isEmpty());
 	}
 
 	@Test
-	void validateToken_ShouldReturnFalse_WhenTokenIsMalformed() {
+	void validateAndGetClaims_ShouldReturnEmpty_WhenTokenIsMalformed() {
 		String malformedToken = "malformed.token.value";
 
-		boolean result = jwtTokenUtil.validateToken(malformedToken);
+		Optional<Claims> result = jwtTokenUtil.validateAndGetClaims(malformedToken);
 
-		assertFalse(result);
+		assertTrue(result.isEmpty());
 	}
 
 	@Test
-	void validateToken_ShouldReturnFalse_WhenTokenIsEmpty() {
+	void validateAndGetClaims_ShouldReturnEmpty_WhenTokenIsEmpty() {
 		String emptyToken = "";
 
-		boolean result = jwtTokenUtil.validateToken(emptyToken);
+		Optional<Claims> result = jwtTokenUtil.validateAndGetClaims(emptyToken);
 
-		assertFalse(result);
+		assertTrue(result.isEmpty());
 	}
 
 	@Test
-	void validateToken_ShouldReturnFalse_WhenTokenIsNull() {
-		boolean result = jwtTokenUtil.validateToken(null);
+	void validateAndGetClaims_ShouldReturnEmpty_WhenTokenIsNull() {
+		Optional<Claims> result = jwtTokenUtil.validateAndGetClaims(null);
 
-		assertFalse(result);
+		assertTrue(result.isEmpty());
 	}
 
 	@Test
-	void getServiceNameFromToken_ShouldReturnServiceName_WhenTokenIsValid() {
+	void validateAndGetClaims_ShouldReturnClaims_WhenTokenIsValid() {
 		String token = createValidToken(serviceName, new Date(System.currentTimeMillis() + 60000));
 
-		String result = jwtTokenUtil.getServiceNameFromToken(token);
+		Optional<Claims> first = jwtTokenUtil.validateAndGetClaims(token);
+		Optional<Claims> second = jwtTokenUtil.validateAndGetClaims(token);
 
-		assertEquals(serviceName, result);
+		assertTrue(first.isPresent());
+		assertEquals(serviceName, first.get().getSubject());
+		assertSame(first.get(), second.orElseThrow(), "Second call should be served from the verified token cache");
 	}
 
 	@Test
-	void getServiceNameFromToken_ShouldReturnNull_WhenTokenIsExpired() {
-		String token = createValidToken(serviceName, new Date(System.currentTimeMillis() - 60000));
+	void validateAndGetClaims_ShouldRejectCachedToken_OnceItExpires() {
+		MutableClock clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+		JwtTokenUtil clockedJwtTokenUtil = new JwtTokenUtil(SECRET, 100, clock);
+		String token = createValidToken(serviceName, Date.from(clock.instant().plusSeconds(60)));
 
-		String result = jwtTokenUtil.getServiceNameFromToken(token);
-
-		assertNull(result);
-	}
+		assertTrue(clockedJwtTokenUtil.validateAndGetClaims(token).isPresent());
 
-	@Test
-	void getServiceNameFromToken_ShouldReturnNull_WhenTokenHasInvalidSignature() {
-		String differentSecret = "differentSecretKeyForTestingInvalidSignature12345678901234567890";
-		SecretKey differentKey = Keys.hmacShaKeyFor(differentSecret.getBytes(StandardCharsets.UTF_8));
+		clock.advance(Duration.ofSeconds(61));
 
-		String token = Jwts.builder().setSubject(serviceName).setIssuedAt(new Date())
-		        .setExpiration(new Date(System.currentTimeMillis() + 60000))
-		        .signWith(differentKey, SignatureAlgorithm.HS512).compact();
-
-		String result = jwtTokenUtil.getServiceNameFromToken(token);
-
-		assertNull(result);
+		assertTrue(clockedJwtTokenUtil.validateAndGetClaims(token).isEmpty());
 	}
 
 	@Test
-	void getServiceNameFromToken_ShouldReturnNull_WhenTokenIsMalformed() {
-		String malformedToken = "malformed.token.value";
-
-		String result = jwtTokenUtil.getServiceNameFromToken(malformedToken);
+	void constructor_ShouldRejectWeakSecret() {
+		assertThrows(WeakKeyException.class, () -> new JwtTokenUtil("too-short", 100));
+	}
 
-		assertNull(result);
+	private String createValidToken(String subject, Date expiration) {
+		return Jwts.builder().setSubject(subject).setIssuedAt(new Date()).setExpiration(expiration)
+		        .signWith(secretKey, SignatureAlgorithm.HS512).compact();
 	}
 
-	@Test
-	void getServiceNameFromToken_ShouldReturnNull_WhenTokenIsEmpty() {
-		String emptyToken = "";
+	private static class MutableClock extends Clock {
+		private Instant instant;
 
-		String result = jwtTokenUtil.getServiceNameFromToken(emptyToken);
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
 
-		assertNull(result);
-	}
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
 
-	@Test
-	void getServiceNameFromToken_ShouldReturnNull_WhenTokenIsNull() {
-		String result = jwtTokenUtil.getServiceNameFromToken(null);
+		@Override
+		public Instant instant() {
+			return instant;
+		}
 
-		assertNull(result);
-	}
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
 
-	private String createValidToken(String subject, Date expiration) {
-		return Jwts.builder().setSubject(subject).setIssuedAt(new Date()).setExpiration(expiration)
-		        .signWith(secretKey, SignatureAlgorithm.HS512).compact();
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
 	}
 }